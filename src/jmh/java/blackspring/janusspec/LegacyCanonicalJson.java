@@ -0,0 +1,56 @@
+package blackspring.janusspec;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.google.common.hash.Hashing;
+
+import java.nio.charset.StandardCharsets;
+import java.util.TreeMap;
+
+/**
+ * 벤치마크 비교 기준: 기존 TreeMap 재구성 + writeValueAsString 정규화 방식 그대로
+ */
+public final class LegacyCanonicalJson {
+
+    private LegacyCanonicalJson() {
+    }
+
+    public static String sha256(JsonNode paths, JsonNode schemas) {
+        String combinedJson = normalizeJsonNode(paths) + (schemas == null ? "" : normalizeJsonNode(schemas));
+        return Hashing.sha256().hashString(combinedJson, StandardCharsets.UTF_8).toString();
+    }
+
+    public static String normalizeJsonNode(JsonNode node) {
+        try {
+            ObjectMapper mapper = new ObjectMapper();
+            JsonNode normalized = normalizeJsonNodeRecursive(node, mapper);
+            return mapper.writeValueAsString(normalized);
+        } catch (Exception e) {
+            return node.toString();
+        }
+    }
+
+    private static JsonNode normalizeJsonNodeRecursive(JsonNode node, ObjectMapper mapper) {
+        if (node == null || node.isNull()) {
+            return node;
+        }
+
+        if (node.isObject()) {
+            ObjectNode objectNode = (ObjectNode) node;
+            TreeMap<String, JsonNode> sortedMap = new TreeMap<>();
+            objectNode.fields().forEachRemaining(entry ->
+                    sortedMap.put(entry.getKey(), normalizeJsonNodeRecursive(entry.getValue(), mapper)));
+            ObjectNode sortedNode = mapper.createObjectNode();
+            sortedMap.forEach(sortedNode::set);
+            return sortedNode;
+        } else if (node.isArray()) {
+            ArrayNode arrayNode = mapper.createArrayNode();
+            node.forEach(element -> arrayNode.add(normalizeJsonNodeRecursive(element, mapper)));
+            return arrayNode;
+        } else {
+            return node;
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package blackspring.janusspec;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * 벤치마크용 대용량 OpenAPI 문서 생성기
+ */
+public final class SyntheticSpecs {
+
+    private SyntheticSpecs() {
+    }
+
+    /**
+     * pathCount 개의 경로(경로당 GET/POST)와 schemaCount 개의 스키마를 가진 OpenAPI JSON 을 생성합니다.
+     */
+    public static byte[] openApiJson(int pathCount, int schemaCount) {
+        ObjectMapper mapper = new ObjectMapper();
+        ObjectNode root = mapper.createObjectNode();
+        root.put("openapi", "3.0.1");
+        root.putObject("info").put("title", "synthetic").put("version", "1.0.0");
+
+        ObjectNode paths = root.putObject("paths");
+        for (int i = 0; i < pathCount; i++) {
+            ObjectNode pathItem = paths.putObject("/api/v1/resource" + i + "/{id}");
+            for (String method : new String[]{"get", "post"}) {
+                ObjectNode op = pathItem.putObject(method);
+                op.putArray("tags").add("resource" + (i % 50));
+                op.put("summary", "Operation " + method + " on resource " + i);
+                op.put("operationId", method + "Resource" + i);
+                ArrayNode params = op.putArray("parameters");
+                params.addObject().put("name", "id").put("in", "path").put("required", true)
+                        .putObject("schema").put("type", "integer").put("format", "int64");
+                op.putObject("requestBody").putObject("content").putObject("application/json")
+                        .putObject("schema").put("$ref", "#/components/schemas/Schema" + (i % Math.max(1, schemaCount)));
+                op.putObject("responses").putObject("200").put("description", "OK")
+                        .putObject("content").putObject("application/json")
+                        .putObject("schema").put("$ref", "#/components/schemas/Schema" + ((i + 1) % Math.max(1, schemaCount)));
+            }
+        }
+
+        ObjectNode schemas = root.putObject("components").putObject("schemas");
+        for (int i = 0; i < schemaCount; i++) {
+            ObjectNode schema = schemas.putObject("Schema" + i);
+            schema.put("type", "object");
+            ArrayNode required = schema.putArray("required");
+            ObjectNode props = schema.putObject("properties");
+            for (int p = 9; p >= 0; p--) {
+                props.putObject("field" + p).put("type", p % 2 == 0 ? "string" : "integer")
+                        .put("description", "field " + p + " of schema " + i);
+                if (p % 3 == 0) {
+                    required.add("field" + p);
+                }
+            }
+        }
+
+        try {
+            return mapper.writeValueAsBytes(root);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package blackspring.janusspec.infrastructure.adapter.json;
+
+import blackspring.janusspec.LegacyCanonicalJson;
+import blackspring.janusspec.SyntheticSpecs;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * SwaggerVersion 해시 계산: 기존 정렬 트리 재구성 + 문자열 연결 vs 스트리밍 정규화 해시
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = {"-Xms1g", "-Xmx1g"})
+public class CanonicalHashBenchmark {
+
+    @Param({"5000"})
+    int pathCount;
+
+    private OpenApiSpec spec;
+    private CanonicalJsonWriter canonicalJsonWriter;
+
+    @Setup
+    public void setUp() throws Exception {
+        spec = new ObjectMapper().readValue(SyntheticSpecs.openApiJson(pathCount, pathCount / 2), OpenApiSpec.class);
+        canonicalJsonWriter = new CanonicalJsonWriter();
+
+        // 기존 행과 비교 가능해야 하므로 해시 값이 같은지 먼저 확인
+        if (!legacy().equals(streaming())) {
+            throw new IllegalStateException("canonical hash mismatch");
+        }
+    }
+
+    @Benchmark
+    public String legacy() {
+        return LegacyCanonicalJson.sha256(spec.getPaths(), spec.getComponents().getSchemas());
+    }
+
+    @Benchmark
+    public String streaming() {
+        return canonicalJsonWriter.sha256(spec.getPaths(), spec.getComponents().getSchemas());
+    }
+}
@@ -0,0 +1,64 @@
+package blackspring.janusspec.infrastructure.adapter.json;
+
+import blackspring.janusspec.LegacyCanonicalJson;
+import blackspring.janusspec.SyntheticSpecs;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ApiSchemaRepoAdapter.save 의 스키마 정규화 (rawSchema + properties 두 번):
+ * 기존 호출마다 ObjectMapper + TreeMap/ObjectNode 재구성 vs CanonicalJsonWriter 직접 쓰기
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = {"-Xms1g", "-Xmx1g"})
+public class CanonicalJsonBenchmark {
+
+    @Param({"2000"})
+    int schemaCount;
+
+    private List<JsonNode> schemas;
+    private CanonicalJsonWriter canonicalJsonWriter;
+
+    @Setup
+    public void setUp() throws Exception {
+        JsonNode root = new ObjectMapper().readTree(SyntheticSpecs.openApiJson(10, schemaCount));
+        schemas = new ArrayList<>();
+        root.path("components").path("schemas").forEach(schemas::add);
+        canonicalJsonWriter = new CanonicalJsonWriter();
+
+        // 기존 저장 값과 같은 문자열이어야 하므로 먼저 확인
+        for (JsonNode schema : schemas) {
+            if (!LegacyCanonicalJson.normalizeJsonNode(schema).equals(canonicalJsonWriter.writeValueAsString(schema))) {
+                throw new IllegalStateException("canonical json mismatch");
+            }
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(2000)
+    public void legacy(Blackhole bh) {
+        for (JsonNode schema : schemas) {
+            bh.consume(LegacyCanonicalJson.normalizeJsonNode(schema));
+            bh.consume(LegacyCanonicalJson.normalizeJsonNode(schema.path("properties")));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(2000)
+    public void canonicalWriter(Blackhole bh) {
+        for (JsonNode schema : schemas) {
+            bh.consume(canonicalJsonWriter.writeValueAsString(schema));
+            bh.consume(canonicalJsonWriter.writeValueAsString(schema.path("properties")));
+        }
+    }
+}
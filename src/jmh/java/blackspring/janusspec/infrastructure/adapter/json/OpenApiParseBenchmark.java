@@ -0,0 +1,141 @@
+package blackspring.janusspec.infrastructure.adapter.json;
+
+import blackspring.janusspec.SyntheticSpecs;
+import blackspring.janusspec.application.port.jsonparser.SwaggerFetchRes;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.BenchmarkParams;
+import org.springframework.util.unit.DataSize;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 기존 3단계 파싱(readTree → toPrettyString → readValue, before)과 스트리밍 단일 바인딩(after) 비교
+ * - 시간: legacyTreeThenString / streamingBind (ms/op)
+ * - 지문이 저장된 소스(운영 정상 상태)의 경로: fingerprintChangedBind (지문 다름 → 임시 파일에서 바인딩), fingerprintUnchanged
+ * - 작업당 할당량: gc 프로파일러의 gc.alloc.rate.norm
+ * - 최고 힙 사용량: *PeakHeap 벤치마크가 호출마다 힙 풀 최고치를 초기화해 재고, 트라이얼 끝에 [PEAK HEAP] 으로 출력
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = {"-Xms1g", "-Xmx1g"})
+public class OpenApiParseBenchmark {
+
+    @Param({"5000"})
+    int pathCount;
+
+    private byte[] specBytes;
+    private JsonParserAdapter adapter;
+    private ObjectMapper legacyMapper;
+    private String fingerprint;
+
+    @Setup
+    public void setUp() {
+        specBytes = SyntheticSpecs.openApiJson(pathCount, pathCount / 2);
+        adapter = new JsonParserAdapter(DataSize.ofMegabytes(256), DataSize.ofMegabytes(1), Duration.ofSeconds(5), Duration.ofSeconds(60));
+        legacyMapper = new ObjectMapper();
+        try {
+            fingerprint = adapter.readBody(new ByteArrayInputStream(specBytes), null, null, null).fingerprint();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // before: 트리로 읽고 문자열로 출력한 뒤 다시 바인딩
+    @Benchmark
+    public OpenApiSpec legacyTreeThenString() throws Exception {
+        JsonNode json = legacyMapper.readTree(new ByteArrayInputStream(specBytes));
+        return legacyMapper.readValue(json.toPrettyString(), OpenApiSpec.class);
+    }
+
+    // after: 스트림에서 바로 바인딩
+    @Benchmark
+    public OpenApiSpec streamingBind() throws Exception {
+        return adapter.readSpec(new ByteArrayInputStream(specBytes));
+    }
+
+    // 지문이 있는 소스에서 내용이 바뀐 경우 (원본을 임시 파일에 받은 뒤 바인딩)
+    @Benchmark
+    public SwaggerFetchRes fingerprintChangedBind() throws Exception {
+        return adapter.readBody(new ByteArrayInputStream(specBytes), null, null, "changed");
+    }
+
+    // 지문이 같은 경우 (바인딩 없음)
+    @Benchmark
+    public SwaggerFetchRes fingerprintUnchanged() throws Exception {
+        return adapter.readBody(new ByteArrayInputStream(specBytes), null, null, fingerprint);
+    }
+
+    // 젊은 세대를 작게 두어 호출 중 살아 있는 객체(트리/문자열/결과)가 old 로 승격되게 함 (시간은 위 결과를 볼 것)
+    @Benchmark
+    @Fork(value = 1, jvmArgs = {"-Xms1g", "-Xmx1g", "-XX:+UseParallelGC", "-Xmn16m"})
+    public OpenApiSpec legacyTreeThenStringPeakHeap(PeakHeap peakHeap) throws Exception {
+        return legacyTreeThenString();
+    }
+
+    @Benchmark
+    @Fork(value = 1, jvmArgs = {"-Xms1g", "-Xmx1g", "-XX:+UseParallelGC", "-Xmn16m"})
+    public OpenApiSpec streamingBindPeakHeap(PeakHeap peakHeap) throws Exception {
+        return streamingBind();
+    }
+
+    @Benchmark
+    @Fork(value = 1, jvmArgs = {"-Xms1g", "-Xmx1g", "-XX:+UseParallelGC", "-Xmn16m"})
+    public SwaggerFetchRes fingerprintChangedBindPeakHeap(PeakHeap peakHeap) throws Exception {
+        return fingerprintChangedBind();
+    }
+
+    /**
+     * 호출 단위 최고 힙 사용량 (호출 전 사용량 대비 증가분)
+     * 풀마다 최고 시점이 달라 풀별 최고치의 합은 실제 최고치의 상한입니다.
+     */
+    @State(Scope.Thread)
+    public static class PeakHeap {
+
+        private final List<MemoryPoolMXBean> heapPools = ManagementFactory.getMemoryPoolMXBeans().stream()
+                .filter(pool -> pool.getType() == MemoryType.HEAP)
+                .toList();
+        private long usedBefore;
+        private long max;
+        private long sum;
+        private long invocations;
+
+        // 이전 호출의 쓰레기를 치우고 풀 최고치를 현재 사용량으로 초기화 (측정 시간에 포함되지 않음)
+        @Setup(Level.Invocation)
+        public void reset() {
+            System.gc();
+            heapPools.forEach(MemoryPoolMXBean::resetPeakUsage);
+            usedBefore = heapPools.stream().mapToLong(pool -> pool.getUsage().getUsed()).sum();
+        }
+
+        @TearDown(Level.Invocation)
+        public void record() {
+            long peak = heapPools.stream().mapToLong(pool -> pool.getPeakUsage().getUsed()).sum() - usedBefore;
+            max = Math.max(max, peak);
+            sum += peak;
+            invocations++;
+        }
+
+        @TearDown(Level.Trial)
+        public void report(BenchmarkParams params) {
+            System.out.printf("%n[PEAK HEAP] %s %s / avg=%.1f MB / max=%.1f MB (%d invocations)%n",
+                    params.getBenchmark(), params.getParam("pathCount"), mb(sum / Math.max(1, invocations)), mb(max), invocations);
+        }
+
+        private static double mb(long bytes) {
+            return bytes / (1024.0 * 1024.0);
+        }
+    }
+}
@@ -0,0 +1,148 @@
+package blackspring.janusspec.infrastructure.persistence;
+
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.flywaydb.core.Flyway;
+import org.openjdk.jmh.annotations.*;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * api_endpoint 행 저장: IDENTITY 행 단위 insert(before) vs pooled 시퀀스 + JDBC 배치(after)
+ * - 임베디드 PostgreSQL 에 실제 마이그레이션(db/migration)을 적용한 스키마에 저장
+ * - before 는 IDENTITY 로 되돌린 같은 구조(인덱스/FK 포함)의 테이블에 Hibernate 가 하던 대로 행마다 INSERT ... RETURNING id 실행
+ * - after 는 Hibernate 배치와 같은 순서로 50행마다 nextval 한 번 + executeBatch 한 번 (reWriteBatchedInserts)
+ * - 로컬 소켓이라 왕복 지연이 거의 없으므로 실제 네트워크에서는 차이가 더 커짐
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = {"-Xms1g", "-Xmx1g"})
+public class EndpointInsertBenchmark {
+
+    // 엔티티의 @SequenceGenerator allocationSize, hibernate.jdbc.batch_size 와 같게 둠
+    private static final int BATCH_SIZE = 50;
+
+    private static final String INSERT_COLUMNS = "(create_at, swagger_version_id, path, http_method, summary, operation_id,"
+            + " deprecated, request_schema_name, response_schema_name, content_hash)";
+
+    @Param({"5000"})
+    int rowCount;
+
+    private EmbeddedPostgres postgres;
+    private Connection plain;
+    private Connection rewritten;
+    private long versionId;
+
+    @Setup
+    public void setUp() throws Exception {
+        // jmh 실행 시 바이너리가 jmh jar 와 의존성 jar 양쪽에 있어 기본 resolver 가 중복으로 실패하므로 직접 찾음
+        postgres = EmbeddedPostgres.builder()
+                .setPgBinaryResolver((system, machine) -> EndpointInsertBenchmark.class.getResourceAsStream(
+                        "/postgres-" + system.toLowerCase() + "-" + machine + ".txz"))
+                .start();
+        Flyway.configure().dataSource(postgres.getPostgresDatabase()).load().migrate();
+
+        plain = postgres.getPostgresDatabase().getConnection();
+        rewritten = postgres.getDatabase("postgres", "postgres", Map.of("reWriteBatchedInserts", "true")).getConnection();
+        plain.setAutoCommit(false);
+        rewritten.setAutoCommit(false);
+
+        try (Statement st = plain.createStatement()) {
+            st.execute("CREATE TABLE api_endpoint_identity (LIKE api_endpoint INCLUDING DEFAULTS INCLUDING INDEXES)");
+            st.execute("ALTER TABLE api_endpoint_identity ALTER COLUMN id ADD GENERATED BY DEFAULT AS IDENTITY");
+            st.execute("ALTER TABLE api_endpoint_identity ADD FOREIGN KEY (swagger_version_id) REFERENCES swagger_version");
+            ResultSet rs = st.executeQuery("INSERT INTO swagger_version (service_name, swagger_url, version_tag)"
+                    + " VALUES ('bench', 'http://bench/v3/api-docs', 'v1') RETURNING id");
+            rs.next();
+            versionId = rs.getLong(1);
+        }
+        plain.commit();
+    }
+
+    @TearDown(Level.Iteration)
+    public void truncate() throws Exception {
+        try (Statement st = plain.createStatement()) {
+            st.execute("TRUNCATE api_endpoint, api_endpoint_identity");
+        }
+        plain.commit();
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        plain.close();
+        rewritten.close();
+        postgres.close();
+    }
+
+    // before: 키를 알아야 하므로 행마다 바로 실행 (배치 불가)
+    @Benchmark
+    public long identityPerRow() throws Exception {
+        long last = 0;
+        try (PreparedStatement insert = plain.prepareStatement(
+                "INSERT INTO api_endpoint_identity " + INSERT_COLUMNS + " VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?) RETURNING id")) {
+            for (int i = 0; i < rowCount; i++) {
+                bind(insert, i, null);
+                try (ResultSet rs = insert.executeQuery()) {
+                    rs.next();
+                    last = rs.getLong(1);
+                }
+            }
+        }
+        plain.commit();
+        return last;
+    }
+
+    // after: id 를 50개 단위로 미리 받고 50행씩 배치 실행
+    @Benchmark
+    public long pooledBatched() throws Exception {
+        long next = 0;
+        long blockEnd = 0;
+        try (PreparedStatement sequence = rewritten.prepareStatement("SELECT nextval('api_endpoint_seq')");
+             PreparedStatement insert = rewritten.prepareStatement(
+                     "INSERT INTO api_endpoint (id, " + INSERT_COLUMNS.substring(1) + " VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)")) {
+            for (int i = 0; i < rowCount; i++) {
+                if (next == blockEnd) {
+                    try (ResultSet rs = sequence.executeQuery()) {
+                        rs.next();
+                        blockEnd = rs.getLong(1) + 1;
+                        next = blockEnd - BATCH_SIZE;
+                    }
+                }
+                bind(insert, i, next++);
+                insert.addBatch();
+                if ((i + 1) % BATCH_SIZE == 0) {
+                    insert.executeBatch();
+                }
+            }
+            insert.executeBatch();
+        }
+        rewritten.commit();
+        return next;
+    }
+
+    private void bind(PreparedStatement insert, int i, Long id) throws Exception {
+        int p = 1;
+        if (id != null) {
+            insert.setLong(p++, id);
+        }
+        insert.setTimestamp(p++, Timestamp.valueOf(LocalDateTime.now()));
+        insert.setLong(p++, versionId);
+        insert.setString(p++, "/api/v1/resource" + i + "/{id}");
+        insert.setString(p++, i % 2 == 0 ? "GET" : "POST");
+        insert.setString(p++, "Operation " + i);
+        insert.setString(p++, "operation" + i);
+        insert.setBoolean(p++, false);
+        insert.setString(p++, "Request" + i);
+        insert.setString(p++, "Response" + i);
+        insert.setString(p, String.format("%064x", i));
+    }
+}
@@ -0,0 +1,404 @@
+package blackspring.janusspec.application;
+
+import blackspring.janusspec.application.dto.ApiEndpointDto;
+import blackspring.janusspec.application.dto.ApiEndpointFilter;
+import blackspring.janusspec.application.dto.CatalogEndpointRes;
+import blackspring.janusspec.application.dto.CatalogEndpointsRes;
+import blackspring.janusspec.application.dto.GetLatestSwaggerApiRes;
+import blackspring.janusspec.application.dto.GetServiceApiPathsRes;
+import blackspring.janusspec.application.port.apiendpoint.ApiEndPointPort;
+import blackspring.janusspec.application.port.apiservice.ApiServicePort;
+import blackspring.janusspec.application.port.swaggerversion.SwaggerVersionPort;
+import blackspring.janusspec.domain.ApiService;
+import blackspring.janusspec.domain.EndpointSnapshot;
+import blackspring.janusspec.domain.SwaggerVersion;
+import com.google.common.collect.ImmutableSortedMap;
+import com.google.common.collect.Interner;
+import com.google.common.collect.Interners;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.UnaryOperator;
+
+/**
+ * 모든 서비스 최신 버전 엔드포인트의 메모리 카탈로그
+ * 서비스명 -> 엔드포인트 목록의 불변 스냅샷을 들고 있다가, 수집이 커밋되면 그 서비스만 바꾼 새 스냅샷으로 통째로 교체합니다. (copy-on-write)
+ * 조회는 현재 스냅샷을 읽기만 하므로 DB 조회나 락이 없습니다.
+ * 서비스마다 최신 버전 포인터를 같이 들고 있다가, service.latest_version_id 를 옮긴 트랜잭션이 커밋되면 같이 옮기고
+ * 올라간 내용이 그 포인터의 버전일 때만 최신 버전으로 돌려줍니다. (비동기 수집의 내용 저장 중에는 DB 로 조회하게 함)
+ * 커밋 후 반영이 빠졌거나 다른 인스턴스에서 수집한 변경은 주기적으로 서비스 목록과 맞춥니다.
+ */
+@Component
+public class EndpointCatalog implements GetEndpointCatalog {
+
+    // 경로/메서드/스키마 이름은 서비스와 버전 사이에 반복되므로 같은 인스턴스를 공유 (약한 참조라 교체된 버전 문자열은 회수됨)
+    private static final Interner<String> INTERNER = Interners.newWeakInterner();
+
+    private final ApiServicePort apiServicePort;
+    private final SwaggerVersionPort swaggerVersionPort;
+    private final ApiEndPointPort endPointPort;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+
+    private final AtomicReference<ImmutableSortedMap<String, ServiceEntry>> snapshot =
+            new AtomicReference<>(ImmutableSortedMap.of());
+
+    // 읽고 바꾼 새 스냅샷으로 교체를 한 번에 하나씩 (동시 반영이 서로의 변경을 덮지 않도록)
+    private final Object mergeLock = new Object();
+
+    public EndpointCatalog(
+            ApiServicePort apiServicePort,
+            SwaggerVersionPort swaggerVersionPort,
+            ApiEndPointPort endPointPort,
+            TransactionTemplate transactionTemplate,
+            @Value("${janus.endpoint-catalog.enabled:true}") boolean enabled) {
+        this.apiServicePort = apiServicePort;
+        this.swaggerVersionPort = swaggerVersionPort;
+        this.endPointPort = endPointPort;
+        this.transactionTemplate = transactionTemplate;
+        this.enabled = enabled;
+    }
+
+    /**
+     * 카탈로그용 엔드포인트 (id 순 커서를 위해 행 id 포함)
+     */
+    private record CatalogEndpoint(
+            long id,
+            String path,
+            String httpMethod,
+            String summary,
+            String operationId,
+            boolean deprecated,
+            String requestSchemaName,
+            String responseSchemaName
+    ) {
+        static CatalogEndpoint of(EndpointSnapshot endpoint) {
+            return new CatalogEndpoint(
+                    endpoint.getId(),
+                    intern(endpoint.getPath()),
+                    intern(endpoint.getHttpMethod()),
+                    endpoint.getSummary(),
+                    endpoint.getOperationId(),
+                    endpoint.isDeprecated(),
+                    intern(endpoint.getRequestSchemaName()),
+                    intern(endpoint.getResponseSchemaName()));
+        }
+
+        // ApiEndpointListingQuery 의 SQL 조건과 같은 의미
+        boolean matches(ApiEndpointFilter filter, String normalizedHttpMethod) {
+            return (!hasText(filter.pathPrefix()) || path.startsWith(filter.pathPrefix()))
+                    && (normalizedHttpMethod == null || normalizedHttpMethod.equals(httpMethod))
+                    && (filter.deprecated() == null || filter.deprecated() == deprecated)
+                    && (!hasText(filter.schemaName())
+                        || filter.schemaName().equals(requestSchemaName)
+                        || filter.schemaName().equals(responseSchemaName));
+        }
+
+        ApiEndpointDto toDto() {
+            return new ApiEndpointDto(path, httpMethod, summary, operationId, deprecated, requestSchemaName, responseSchemaName);
+        }
+    }
+
+    /**
+     * 서비스 하나의 최신 버전 포인터와 올라간 버전의 엔드포인트 (id 오름차순, 불변)
+     * 포인터만 옮겨지고 내용이 아직 없으면 version 은 null
+     */
+    private record ServiceEntry(long latestVersionId, GetLatestSwaggerApiRes version, List<CatalogEndpoint> endpoints) {
+
+        static ServiceEntry of(GetLatestSwaggerApiRes version, Collection<EndpointSnapshot> endpoints) {
+            List<CatalogEndpoint> sorted = endpoints.stream()
+                    .filter(endpoint -> endpoint.getId() != null)
+                    .map(CatalogEndpoint::of)
+                    .sorted(Comparator.comparingLong(CatalogEndpoint::id))
+                    .toList();
+            return new ServiceEntry(version.id(), version, sorted);
+        }
+
+        static ServiceEntry pointer(long latestVersionId) {
+            return new ServiceEntry(latestVersionId, null, List.of());
+        }
+
+        boolean isLatest() {
+            return version != null && version.id() == latestVersionId;
+        }
+
+        /**
+         * 포인터는 더 최신 버전으로만 옮김 (moveLatest 의 조건과 같음)
+         */
+        ServiceEntry withLatestVersionId(long versionId) {
+            return versionId > latestVersionId ? new ServiceEntry(versionId, version, endpoints) : this;
+        }
+
+        /**
+         * 더 최신 버전의 내용으로만 교체 (커밋 순서가 뒤바뀐 이전 버전 반영이 덮지 않도록)
+         */
+        ServiceEntry withContent(ServiceEntry content) {
+            if (version != null && version.id() >= content.version().id()) {
+                return this;
+            }
+            return new ServiceEntry(Math.max(latestVersionId, content.latestVersionId()), content.version(), content.endpoints());
+        }
+
+        /**
+         * id 가 after 보다 큰 첫 위치 (이진 탐색)
+         */
+        int indexAfter(Long after) {
+            if (after == null) {
+                return 0;
+            }
+            int low = 0;
+            int high = endpoints.size();
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (endpoints.get(mid).id() <= after) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+    }
+
+    /**
+     * 서비스 목록의 최신 버전 포인터로 카탈로그의 포인터를 맞추고, 내용이 그 버전과 다른 서비스만 다시 읽어 올림
+     * 시작 직후 한 번 돌므로 처음 채우는 것도 이 메서드입니다.
+     * 비동기 수집이 끝나지 않은 버전(통계 없음)은 작업이 커밋될 때 올라오고, 커밋 후 반영이 빠졌으면 다음 주기에 올라옵니다.
+     */
+    @Scheduled(fixedDelayString = "${janus.endpoint-catalog.reconcile-interval:PT1M}")
+    public void reconcile() {
+        if (!enabled) {
+            return;
+        }
+
+        NavigableMap<String, ServiceEntry> current = snapshot.get();
+        int services = 0;
+        int endpoints = 0;
+        for (ApiService service : apiServicePort.findAll()) {
+            if (service.getLatestVersionId() == null) {
+                continue;
+            }
+            ServiceEntry existing = current.get(service.getServiceName());
+            if (existing == null || existing.latestVersionId() < service.getLatestVersionId()) {
+                movePointer(service.getServiceName(), service.getLatestVersionId());
+            }
+            if (service.getEndpointCount() == null
+                    || (existing != null && existing.version() != null && existing.version().id().equals(service.getLatestVersionId()))) {
+                continue;
+            }
+            ServiceEntry entry = transactionTemplate.execute(status -> swaggerVersionPort.findById(service.getLatestVersionId())
+                    .map(version -> {
+                        List<EndpointSnapshot> rows = new ArrayList<>();
+                        endPointPort.forEachEndpointSnapshot(version, rows::add);
+                        return ServiceEntry.of(toVersion(version), rows);
+                    })
+                    .orElse(null));
+            if (entry != null && mergeContent(entry)) {
+                services++;
+                endpoints += entry.endpoints().size();
+            }
+        }
+
+        // 바뀐 서비스가 있을 때만 출력
+        if (services > 0) {
+            System.out.println("[CATALOG] reloaded services=" + services + " / endpoints=" + endpoints);
+        }
+    }
+
+    /**
+     * 새 버전을 저장한 트랜잭션 (service.latest_version_id 를 옮긴 트랜잭션) 이 커밋되면 서비스의 포인터를 옮김
+     * 내용이 아직 올라오지 않았으면 그동안 최신 버전은 DB 로 조회됩니다.
+     */
+    public void publishLatest(String serviceName, Long versionId) {
+        if (!enabled) {
+            return;
+        }
+        afterCommit(() -> movePointer(serviceName, versionId));
+    }
+
+    /**
+     * 새 버전의 엔드포인트를 커밋 후 카탈로그에 반영 (엔드포인트는 행 id 를 가진 저장 결과)
+     * 스냅샷은 트랜잭션 안에서 미리 만들어 두고 커밋 후에는 교체만 합니다.
+     */
+    public void publish(SwaggerVersion version, Collection<EndpointSnapshot> endpoints) {
+        if (!enabled) {
+            return;
+        }
+
+        ServiceEntry entry = ServiceEntry.of(toVersion(version), endpoints);
+        afterCommit(() -> mergeContent(entry));
+    }
+
+    @Override
+    public Optional<GetLatestSwaggerApiRes> getLatestVersion(String serviceName) {
+        ServiceEntry entry = snapshot.get().get(serviceName);
+        // 포인터만 옮겨지고 새 버전 내용이 아직 저장 중이면 DB 로 조회하게 함
+        if (entry == null || !entry.isLatest()) {
+            return Optional.empty();
+        }
+        return Optional.of(entry.version());
+    }
+
+    @Override
+    public Optional<GetServiceApiPathsRes> getServiceApiPaths(String serviceName, Long swaggerVersionId, ApiEndpointFilter filter, Long after, int limit) {
+        ServiceEntry entry = snapshot.get().get(serviceName);
+        if (entry == null || entry.version() == null || !entry.version().id().equals(swaggerVersionId)) {
+            return Optional.empty();
+        }
+
+        String httpMethod = filter.normalizedHttpMethod();
+        List<ApiEndpointDto> page = new ArrayList<>();
+        Long lastId = null;
+        boolean hasNext = false;
+        List<CatalogEndpoint> endpoints = entry.endpoints();
+        for (int i = entry.indexAfter(after); i < endpoints.size(); i++) {
+            CatalogEndpoint endpoint = endpoints.get(i);
+            if (!endpoint.matches(filter, httpMethod)) {
+                continue;
+            }
+            if (limit > 0 && page.size() == limit) {
+                hasNext = true;
+                break;
+            }
+            page.add(endpoint.toDto());
+            lastId = endpoint.id();
+        }
+
+        GetLatestSwaggerApiRes version = entry.version();
+        return Optional.of(new GetServiceApiPathsRes(
+                version.serviceName(),
+                version.versionTag(),
+                version.id(),
+                page,
+                hasNext ? lastId : null,
+                hasNext
+        ));
+    }
+
+    @Override
+    public CatalogEndpointsRes searchEndpoints(ApiEndpointFilter filter, String afterService, Long after, int limit) {
+        NavigableMap<String, ServiceEntry> services = snapshot.get();
+        if (afterService != null) {
+            services = services.tailMap(afterService, true);
+        }
+
+        String httpMethod = filter.normalizedHttpMethod();
+        List<CatalogEndpointRes> items = new ArrayList<>();
+        String lastService = null;
+        Long lastId = null;
+        boolean hasNext = false;
+
+        search:
+        for (ServiceEntry entry : services.values()) {
+            GetLatestSwaggerApiRes version = entry.version();
+            if (version == null) {
+                continue;
+            }
+            List<CatalogEndpoint> endpoints = entry.endpoints();
+            int from = version.serviceName().equals(afterService) ? entry.indexAfter(after) : 0;
+            for (int i = from; i < endpoints.size(); i++) {
+                CatalogEndpoint endpoint = endpoints.get(i);
+                if (!endpoint.matches(filter, httpMethod)) {
+                    continue;
+                }
+                if (items.size() == limit) {
+                    hasNext = true;
+                    break search;
+                }
+                items.add(new CatalogEndpointRes(
+                        version.serviceName(),
+                        version.id(),
+                        version.versionTag(),
+                        endpoint.path(),
+                        endpoint.httpMethod(),
+                        endpoint.summary(),
+                        endpoint.operationId(),
+                        endpoint.deprecated(),
+                        endpoint.requestSchemaName(),
+                        endpoint.responseSchemaName()));
+                lastService = version.serviceName();
+                lastId = endpoint.id();
+            }
+        }
+
+        return new CatalogEndpointsRes(items, hasNext ? lastService : null, hasNext ? lastId : null, hasNext);
+    }
+
+    private void movePointer(String serviceName, long versionId) {
+        merge(serviceName, existing -> existing == null
+                ? ServiceEntry.pointer(versionId)
+                : existing.withLatestVersionId(versionId));
+    }
+
+    /**
+     * @return 내용을 교체했으면 true
+     */
+    private boolean mergeContent(ServiceEntry content) {
+        return merge(content.version().serviceName(), existing -> existing == null
+                ? content
+                : existing.withContent(content));
+    }
+
+    /**
+     * 서비스 하나만 바꾼 새 스냅샷으로 교체
+     * @return 바뀌었으면 true
+     */
+    private boolean merge(String serviceName, UnaryOperator<ServiceEntry> update) {
+        synchronized (mergeLock) {
+            ImmutableSortedMap<String, ServiceEntry> current = snapshot.get();
+            ServiceEntry existing = current.get(serviceName);
+            ServiceEntry updated = update.apply(existing);
+            if (updated == existing) {
+                return false;
+            }
+            TreeMap<String, ServiceEntry> next = new TreeMap<>(current);
+            next.put(serviceName, updated);
+            snapshot.set(ImmutableSortedMap.copyOfSorted(next));
+            return true;
+        }
+    }
+
+    // 트랜잭션 안이면 커밋 후에, 아니면 바로 실행 (롤백되면 반영하지 않음)
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private static GetLatestSwaggerApiRes toVersion(SwaggerVersion version) {
+        return new GetLatestSwaggerApiRes(
+                version.getId(),
+                version.getServiceName(),
+                version.getSwaggerUrl(),
+                version.getVersionTag(),
+                version.getHash()
+        );
+    }
+
+    private static String intern(String value) {
+        return value == null ? null : INTERNER.intern(value);
+    }
+
+    private static boolean hasText(String value) {
+        return value != null && !value.isBlank();
+    }
+}
@@ -1,10 +1,15 @@
 package blackspring.janusspec.application;
 
+import blackspring.janusspec.application.dto.ApiDiffChangePageRes;
 import blackspring.janusspec.application.dto.ApiDiffDetailRes;
+import blackspring.janusspec.application.dto.ApiDiffLogCursorRes;
 import blackspring.janusspec.application.dto.ApiDiffLogSummaryRes;
+import blackspring.janusspec.application.dto.ApiEndpointChangeDto;
+import blackspring.janusspec.application.dto.ApiSchemaChangeDto;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.io.OutputStream;
 import java.util.Optional;
 
 public interface GetApiDiff {
@@ -20,8 +25,38 @@ public interface GetApiDiff {
     Page<ApiDiffLogSummaryRes> getDiffLogsByService(String serviceName, Pageable pageable);
     
     /**
-     * 특정 Diff Log의 상세 정보 조회
+     * 전체 변경 이력 커서 조회 (before 보다 작은 id, 최신순)
      */
-    Optional<ApiDiffDetailRes> getDiffDetail(Long diffLogId);
+    ApiDiffLogCursorRes getDiffLogsBefore(Long before, int limit);
+
+    /**
+     * 특정 서비스의 변경 이력 커서 조회
+     */
+    ApiDiffLogCursorRes getDiffLogsByServiceBefore(String serviceName, Long before, int limit);
+    
+    /**
+     * 특정 Diff Log의 상세 정보 조회 (타입별 개수와 타입별 첫 페이지)
+     */
+    Optional<ApiDiffDetailRes> getDiffDetail(Long diffLogId, int limit, boolean includeDiffJson);
+
+    /**
+     * 특정 Diff Log의 엔드포인트 변경 내역을 타입별로 페이지 조회 (after 보다 큰 id)
+     */
+    Optional<ApiDiffChangePageRes<ApiEndpointChangeDto>> getEndpointChanges(Long diffLogId, String changeType, Long after, int limit);
+
+    /**
+     * 특정 Diff Log의 스키마 변경 내역을 타입별로 페이지 조회 (after 보다 큰 id)
+     */
+    Optional<ApiDiffChangePageRes<ApiSchemaChangeDto>> getSchemaChanges(Long diffLogId, String changeType, Long after, int limit);
+
+    /**
+     * Diff Log 존재 여부 (조건부 조회에서 304 전에 확인)
+     */
+    boolean existsDiffLog(Long diffLogId);
+
+    /**
+     * 특정 Diff Log의 상세 정보 전체를 스트림으로 씀
+     */
+    void writeDiffDetail(Long diffLogId, OutputStream out);
 }
 
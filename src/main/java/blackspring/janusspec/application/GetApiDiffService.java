@@ -1,6 +1,9 @@
 package blackspring.janusspec.application;
 
+import blackspring.janusspec.application.dto.ApiDiffChangeCountsRes;
+import blackspring.janusspec.application.dto.ApiDiffChangePageRes;
 import blackspring.janusspec.application.dto.ApiDiffDetailRes;
+import blackspring.janusspec.application.dto.ApiDiffLogCursorRes;
 import blackspring.janusspec.application.dto.ApiDiffLogSummaryRes;
 import blackspring.janusspec.application.dto.ApiEndpointChangeDto;
 import blackspring.janusspec.application.dto.ApiSchemaChangeDto;
@@ -9,113 +12,302 @@ import blackspring.janusspec.domain.ApiDiffLog;
 import blackspring.janusspec.domain.ApiDiffSchema;
 import blackspring.janusspec.infrastructure.persistence.ApiDiffEndpointRepository;
 import blackspring.janusspec.infrastructure.persistence.ApiDiffLogRepository;
+import blackspring.janusspec.infrastructure.persistence.ApiDiffLogSummaryRow;
 import blackspring.janusspec.infrastructure.persistence.ApiDiffSchemaRepository;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import blackspring.janusspec.infrastructure.persistence.ChangeTypeCount;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.StreamWriteFeature;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.format.DateTimeFormatter;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
 public class GetApiDiffService implements GetApiDiff {
 
+    private static final int MAX_CURSOR_LIMIT = 100;
+    private static final String ADDED = "ADDED";
+    private static final String REMOVED = "REMOVED";
+    private static final String UPDATED = "UPDATED";
+    private static final List<String> CHANGE_TYPES = List.of(ADDED, REMOVED, UPDATED);
+
     private final ApiDiffLogRepository apiDiffLogRepository;
     private final ApiDiffEndpointRepository apiDiffEndpointRepository;
     private final ApiDiffSchemaRepository apiDiffSchemaRepository;
-    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final TransactionTemplate transactionTemplate;
+    // 응답 스트림은 컨테이너가 닫음
+    private final JsonFactory jsonFactory = JsonFactory.builder()
+            .disable(StreamWriteFeature.AUTO_CLOSE_TARGET)
+            .build();
 
     @Override
     public Page<ApiDiffLogSummaryRes> getAllDiffLogs(Pageable pageable) {
-        return apiDiffLogRepository.findAllByOrderByIdDesc(pageable)
+        return apiDiffLogRepository.findSummariesOrderByIdDesc(pageable)
                 .map(this::convertToSummary);
     }
 
     @Override
     public Page<ApiDiffLogSummaryRes> getDiffLogsByService(String serviceName, Pageable pageable) {
-        return apiDiffLogRepository.findByServiceNameOrderByIdDesc(serviceName, pageable)
+        return apiDiffLogRepository.findSummariesByServiceNameOrderByIdDesc(serviceName, pageable)
                 .map(this::convertToSummary);
     }
 
     @Override
-    public Optional<ApiDiffDetailRes> getDiffDetail(Long diffLogId) {
+    public ApiDiffLogCursorRes getDiffLogsBefore(Long before, int limit) {
+        int size = clampLimit(limit);
+        return toCursorRes(apiDiffLogRepository.findSummariesBefore(cursorOf(before), PageRequest.of(0, size + 1)), size);
+    }
+
+    @Override
+    public ApiDiffLogCursorRes getDiffLogsByServiceBefore(String serviceName, Long before, int limit) {
+        int size = clampLimit(limit);
+        return toCursorRes(apiDiffLogRepository.findSummariesByServiceNameBefore(serviceName, cursorOf(before), PageRequest.of(0, size + 1)), size);
+    }
+
+    @Override
+    public Optional<ApiDiffDetailRes> getDiffDetail(Long diffLogId, int limit, boolean includeDiffJson) {
+        int size = clampLimit(limit);
         return apiDiffLogRepository.findById(diffLogId)
-                .map(diffLog -> {
-                    ApiDiffLogSummaryRes summary = convertToSummary(diffLog);
-                    
-                    // 모든 변경 엔드포인트 조회
-                    List<ApiDiffEndpoint> allEndpoints = apiDiffEndpointRepository.findByDiffLog(diffLog);
-                    
-                    // 타입별로 분류
-                    List<ApiEndpointChangeDto> added = allEndpoints.stream()
-                            .filter(e -> "ADDED".equals(e.getChangeType()))
-                            .map(this::convertToChangeDto)
-                            .collect(Collectors.toList());
-                    
-                    List<ApiEndpointChangeDto> removed = allEndpoints.stream()
-                            .filter(e -> "REMOVED".equals(e.getChangeType()))
-                            .map(this::convertToChangeDto)
-                            .collect(Collectors.toList());
-                    
-                    List<ApiEndpointChangeDto> updated = allEndpoints.stream()
-                            .filter(e -> "UPDATED".equals(e.getChangeType()))
-                            .map(this::convertToChangeDto)
-                            .collect(Collectors.toList());
-                    
-                    // 모든 변경 스키마 조회
-                    List<ApiDiffSchema> allSchemas = apiDiffSchemaRepository.findByDiffLog(diffLog);
-                    
-                    // 타입별로 분류
-                    List<ApiSchemaChangeDto> addedSchemas = allSchemas.stream()
-                            .filter(s -> "ADDED".equals(s.getChangeType()))
-                            .map(this::convertToSchemaChangeDto)
-                            .collect(Collectors.toList());
-                    
-                    List<ApiSchemaChangeDto> removedSchemas = allSchemas.stream()
-                            .filter(s -> "REMOVED".equals(s.getChangeType()))
-                            .map(this::convertToSchemaChangeDto)
-                            .collect(Collectors.toList());
-                    
-                    List<ApiSchemaChangeDto> updatedSchemas = allSchemas.stream()
-                            .filter(s -> "UPDATED".equals(s.getChangeType()))
-                            .map(this::convertToSchemaChangeDto)
-                            .collect(Collectors.toList());
-                    
-                    return new ApiDiffDetailRes(
-                            summary,
-                            added,
-                            removed,
-                            updated,
-                            addedSchemas,
-                            removedSchemas,
-                            updatedSchemas,
-                            diffLog.getDiffJson()
-                    );
-                });
+                .map(diffLog -> new ApiDiffDetailRes(
+                        convertToSummary(diffLog),
+                        countChanges(diffLogId),
+                        endpointPage(diffLogId, ADDED, null, size),
+                        endpointPage(diffLogId, REMOVED, null, size),
+                        endpointPage(diffLogId, UPDATED, null, size),
+                        schemaPage(diffLogId, ADDED, null, size),
+                        schemaPage(diffLogId, REMOVED, null, size),
+                        schemaPage(diffLogId, UPDATED, null, size),
+                        includeDiffJson ? diffLog.getDiffJson() : null
+                ));
     }
 
-    private ApiDiffLogSummaryRes convertToSummary(ApiDiffLog diffLog) {
-        Map<String, Object> diffJson = parseDiffJson(diffLog.getDiffJson());
-        Map<String, Integer> statistics = (Map<String, Integer>) diffJson.getOrDefault("statistics", Map.of());
-        
+    @Override
+    public Optional<ApiDiffChangePageRes<ApiEndpointChangeDto>> getEndpointChanges(Long diffLogId, String changeType, Long after, int limit) {
+        if (!apiDiffLogRepository.existsById(diffLogId)) {
+            return Optional.empty();
+        }
+        return Optional.of(endpointPage(diffLogId, changeType, after, clampLimit(limit)));
+    }
+
+    @Override
+    public Optional<ApiDiffChangePageRes<ApiSchemaChangeDto>> getSchemaChanges(Long diffLogId, String changeType, Long after, int limit) {
+        if (!apiDiffLogRepository.existsById(diffLogId)) {
+            return Optional.empty();
+        }
+        return Optional.of(schemaPage(diffLogId, changeType, after, clampLimit(limit)));
+    }
+
+    @Override
+    public boolean existsDiffLog(Long diffLogId) {
+        return apiDiffLogRepository.existsById(diffLogId);
+    }
+
+    /**
+     * 상세 전체를 JsonGenerator 로 바로 씁니다.
+     * 변경 행은 타입별 DB 커서에서 읽는 대로 내보내므로 응답 전체를 메모리에 만들지 않습니다.
+     * (DB 커서는 트랜잭션 안에서만 유지되므로 쓰는 동안 읽기 트랜잭션을 엶)
+     */
+    @Override
+    public void writeDiffDetail(Long diffLogId, OutputStream out) {
+        transactionTemplate.executeWithoutResult(status -> {
+            ApiDiffLog diffLog = apiDiffLogRepository.findById(diffLogId).orElseThrow();
+            try (JsonGenerator gen = jsonFactory.createGenerator(out)) {
+                gen.writeStartObject();
+                writeSummary(gen, convertToSummary(diffLog));
+                writeCounts(gen, countChanges(diffLogId));
+
+                for (String changeType : CHANGE_TYPES) {
+                    gen.writeArrayFieldStart(changeType.toLowerCase() + "Endpoints");
+                    try (Stream<ApiEndpointChangeDto> rows = apiDiffEndpointRepository.streamByDiffLogAndChangeType(diffLogId, changeType)) {
+                        for (ApiEndpointChangeDto row : (Iterable<ApiEndpointChangeDto>) rows::iterator) {
+                            gen.writeStartObject();
+                            gen.writeStringField("path", row.path());
+                            gen.writeStringField("httpMethod", row.httpMethod());
+                            writeChange(gen, row.changeType(), row.beforeJson(), row.afterJson());
+                            gen.writeEndObject();
+                        }
+                    }
+                    gen.writeEndArray();
+                }
+
+                for (String changeType : CHANGE_TYPES) {
+                    gen.writeArrayFieldStart(changeType.toLowerCase() + "Schemas");
+                    try (Stream<ApiSchemaChangeDto> rows = apiDiffSchemaRepository.streamByDiffLogAndChangeType(diffLogId, changeType)) {
+                        for (ApiSchemaChangeDto row : (Iterable<ApiSchemaChangeDto>) rows::iterator) {
+                            gen.writeStartObject();
+                            gen.writeStringField("schemaName", row.schemaName());
+                            writeChange(gen, row.changeType(), row.beforeJson(), row.afterJson());
+                            gen.writeEndObject();
+                        }
+                    }
+                    gen.writeEndArray();
+                }
+
+                gen.writeStringField("diffJsonSummary", diffLog.getDiffJson());
+                gen.writeEndObject();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    private ApiDiffChangeCountsRes countChanges(Long diffLogId) {
+        Map<String, Long> endpoints = apiDiffEndpointRepository.countByChangeType(diffLogId).stream()
+                .collect(Collectors.toMap(ChangeTypeCount::changeType, ChangeTypeCount::count));
+        Map<String, Long> schemas = apiDiffSchemaRepository.countByChangeType(diffLogId).stream()
+                .collect(Collectors.toMap(ChangeTypeCount::changeType, ChangeTypeCount::count));
+        return new ApiDiffChangeCountsRes(
+                endpoints.getOrDefault(ADDED, 0L).intValue(),
+                endpoints.getOrDefault(REMOVED, 0L).intValue(),
+                endpoints.getOrDefault(UPDATED, 0L).intValue(),
+                schemas.getOrDefault(ADDED, 0L).intValue(),
+                schemas.getOrDefault(REMOVED, 0L).intValue(),
+                schemas.getOrDefault(UPDATED, 0L).intValue()
+        );
+    }
+
+    // 한 개 더 읽어서 다음 페이지 여부 판단
+    private ApiDiffChangePageRes<ApiEndpointChangeDto> endpointPage(Long diffLogId, String changeType, Long after, int size) {
+        List<ApiDiffEndpoint> rows = apiDiffEndpointRepository.findByDiffLogAndChangeType(
+                diffLogId, changeType, after != null ? after : 0L, PageRequest.of(0, size + 1));
+        boolean hasNext = rows.size() > size;
+        List<ApiDiffEndpoint> page = hasNext ? rows.subList(0, size) : rows;
+        return new ApiDiffChangePageRes<>(
+                page.stream().map(this::convertToChangeDto).toList(),
+                hasNext ? page.get(page.size() - 1).getId() : null,
+                hasNext
+        );
+    }
+
+    private ApiDiffChangePageRes<ApiSchemaChangeDto> schemaPage(Long diffLogId, String changeType, Long after, int size) {
+        List<ApiDiffSchema> rows = apiDiffSchemaRepository.findByDiffLogAndChangeType(
+                diffLogId, changeType, after != null ? after : 0L, PageRequest.of(0, size + 1));
+        boolean hasNext = rows.size() > size;
+        List<ApiDiffSchema> page = hasNext ? rows.subList(0, size) : rows;
+        return new ApiDiffChangePageRes<>(
+                page.stream().map(this::convertToSchemaChangeDto).toList(),
+                hasNext ? page.get(page.size() - 1).getId() : null,
+                hasNext
+        );
+    }
+
+    private void writeSummary(JsonGenerator gen, ApiDiffLogSummaryRes summary) throws IOException {
+        gen.writeObjectFieldStart("summary");
+        gen.writeNumberField("diffLogId", summary.diffLogId());
+        gen.writeStringField("serviceName", summary.serviceName());
+        writeNullableNumber(gen, "oldVersionId", summary.oldVersionId());
+        gen.writeStringField("oldVersionTag", summary.oldVersionTag());
+        writeNullableNumber(gen, "newVersionId", summary.newVersionId());
+        gen.writeStringField("newVersionTag", summary.newVersionTag());
+        gen.writeNumberField("addedCount", summary.addedCount());
+        gen.writeNumberField("removedCount", summary.removedCount());
+        gen.writeNumberField("updatedCount", summary.updatedCount());
+        gen.writeNumberField("totalChanges", summary.totalChanges());
+        gen.writeStringField("createdAt", summary.createdAt() != null ? DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(summary.createdAt()) : null);
+        gen.writeEndObject();
+    }
+
+    private void writeCounts(JsonGenerator gen, ApiDiffChangeCountsRes counts) throws IOException {
+        gen.writeObjectFieldStart("counts");
+        gen.writeNumberField("addedEndpoints", counts.addedEndpoints());
+        gen.writeNumberField("removedEndpoints", counts.removedEndpoints());
+        gen.writeNumberField("updatedEndpoints", counts.updatedEndpoints());
+        gen.writeNumberField("addedSchemas", counts.addedSchemas());
+        gen.writeNumberField("removedSchemas", counts.removedSchemas());
+        gen.writeNumberField("updatedSchemas", counts.updatedSchemas());
+        gen.writeEndObject();
+    }
+
+    /**
+     * DTO 직렬화와 같은 필드 (beforeData/afterData 는 저장된 JSON 을 파싱하지 않고 그대로 씀)
+     */
+    private void writeChange(JsonGenerator gen, String changeType, String beforeJson, String afterJson) throws IOException {
+        gen.writeStringField("changeType", changeType);
+        gen.writeStringField("beforeJson", beforeJson);
+        gen.writeStringField("afterJson", afterJson);
+        gen.writeFieldName("beforeData");
+        gen.writeRawValue(beforeJson == null || beforeJson.isEmpty() ? "{}" : beforeJson);
+        gen.writeFieldName("afterData");
+        gen.writeRawValue(afterJson == null || afterJson.isEmpty() ? "{}" : afterJson);
+    }
+
+    private void writeNullableNumber(JsonGenerator gen, String field, Long value) throws IOException {
+        if (value == null) {
+            gen.writeNullField(field);
+        } else {
+            gen.writeNumberField(field, value);
+        }
+    }
+
+    private ApiDiffLogSummaryRes convertToSummary(ApiDiffLogSummaryRow row) {
         return new ApiDiffLogSummaryRes(
+                row.id(),
+                row.serviceName() != null ? row.serviceName() : "unknown",
+                row.oldVersionId(),
+                row.oldVersionTag() != null ? row.oldVersionTag() : "",
+                row.newVersionId(),
+                row.newVersionTag() != null ? row.newVersionTag() : "",
+                orZero(row.addedCount()),
+                orZero(row.removedCount()),
+                orZero(row.updatedCount()),
+                orZero(row.totalChanges()),
+                row.createAt()
+        );
+    }
+
+    // 상세 조회는 엔티티를 이미 읽었으므로 같은 요약 컬럼에서 변환
+    private ApiDiffLogSummaryRes convertToSummary(ApiDiffLog diffLog) {
+        return convertToSummary(new ApiDiffLogSummaryRow(
                 diffLog.getId(),
-                (String) diffJson.getOrDefault("serviceName", "unknown"),
+                diffLog.getServiceName(),
                 diffLog.getOldVersion() != null ? diffLog.getOldVersion().getId() : null,
-                (String) diffJson.getOrDefault("oldVersionTag", ""),
+                diffLog.getOldVersionTag(),
                 diffLog.getNewVersion() != null ? diffLog.getNewVersion().getId() : null,
-                (String) diffJson.getOrDefault("newVersionTag", ""),
-                statistics.getOrDefault("added", 0),
-                statistics.getOrDefault("removed", 0),
-                statistics.getOrDefault("updated", 0),
-                statistics.getOrDefault("total", 0),
+                diffLog.getNewVersionTag(),
+                diffLog.getAddedCount(),
+                diffLog.getRemovedCount(),
+                diffLog.getUpdatedCount(),
+                diffLog.getTotalChanges(),
                 diffLog.getCreateAt()
-        );
+        ));
+    }
+
+    // 한 개 더 읽어서 다음 페이지 여부 판단 (count 쿼리 대신)
+    private ApiDiffLogCursorRes toCursorRes(List<ApiDiffLogSummaryRow> rows, int size) {
+        boolean hasNext = rows.size() > size;
+        List<ApiDiffLogSummaryRes> items = rows.stream()
+                .limit(size)
+                .map(this::convertToSummary)
+                .toList();
+        Long nextCursor = hasNext ? items.get(items.size() - 1).diffLogId() : null;
+        return new ApiDiffLogCursorRes(items, nextCursor, hasNext);
+    }
+
+    // 커서가 없으면 처음부터
+    private Long cursorOf(Long before) {
+        return before != null ? before : Long.MAX_VALUE;
+    }
+
+    private int clampLimit(int limit) {
+        return Math.max(1, Math.min(limit, MAX_CURSOR_LIMIT));
+    }
+
+    private int orZero(Integer count) {
+        return count != null ? count : 0;
     }
 
     private ApiEndpointChangeDto convertToChangeDto(ApiDiffEndpoint endpoint) {
@@ -136,14 +328,5 @@ public class GetApiDiffService implements GetApiDiff {
                 schema.getAfterJson()
         );
     }
-
-    @SuppressWarnings("unchecked")
-    private Map<String, Object> parseDiffJson(String json) {
-        try {
-            return objectMapper.readValue(json, Map.class);
-        } catch (Exception e) {
-            return Map.of();
-        }
-    }
 }
 
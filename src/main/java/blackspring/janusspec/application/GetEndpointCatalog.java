@@ -0,0 +1,33 @@
+package blackspring.janusspec.application;
+
+import blackspring.janusspec.application.dto.ApiEndpointFilter;
+import blackspring.janusspec.application.dto.CatalogEndpointsRes;
+import blackspring.janusspec.application.dto.GetLatestSwaggerApiRes;
+import blackspring.janusspec.application.dto.GetServiceApiPathsRes;
+
+import java.util.Optional;
+
+/**
+ * 메모리 카탈로그 조회 (엔드포인트는 DB 조회 없음)
+ * 카탈로그에 아직 없거나 뒤처진 서비스는 empty 를 돌려주므로 호출 측에서 DB 조회로 대신합니다.
+ */
+public interface GetEndpointCatalog {
+
+    /**
+     * 카탈로그에 올라간 서비스의 버전 (내용 저장까지 커밋된 최신 버전)
+     * 카탈로그가 들고 있는 최신 버전 포인터와 다르면 (새 버전 내용이 아직 저장 중) empty
+     */
+    Optional<GetLatestSwaggerApiRes> getLatestVersion(String serviceName);
+
+    /**
+     * 카탈로그의 서비스 버전이 swaggerVersionId 일 때만 조회 (limit 0 이하면 전체)
+     */
+    Optional<GetServiceApiPathsRes> getServiceApiPaths(String serviceName, Long swaggerVersionId, ApiEndpointFilter filter, Long after, int limit);
+
+    /**
+     * 모든 서비스 최신 버전 엔드포인트를 필터로 조회 (서비스명, id 순)
+     * 서비스마다 포인터를 확인하지 않으므로 주기적 맞춤 전까지는 직전에 올라간 버전이 보일 수 있음
+     * @param afterService 이 서비스의 after 이후부터 (null 이면 처음부터)
+     */
+    CatalogEndpointsRes searchEndpoints(ApiEndpointFilter filter, String afterService, Long after, int limit);
+}
@@ -0,0 +1,13 @@
+package blackspring.janusspec.application;
+
+import blackspring.janusspec.application.dto.IngestJobRes;
+
+import java.util.Optional;
+
+public interface GetIngestJob {
+
+    /**
+     * 비동기 수집 작업 상태 조회
+     */
+    Optional<IngestJobRes> getIngestJob(Long jobId);
+}
@@ -0,0 +1,16 @@
+package blackspring.janusspec.application;
+
+import blackspring.janusspec.application.dto.ServiceSummaryRes;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface GetServices {
+
+    /**
+     * 수집 중인 서비스 목록 (서비스명 순)
+     */
+    List<ServiceSummaryRes> getServices();
+
+    Optional<ServiceSummaryRes> getService(String serviceName);
+}
@@ -0,0 +1,43 @@
+package blackspring.janusspec.application;
+
+import blackspring.janusspec.application.dto.ServiceSummaryRes;
+import blackspring.janusspec.application.port.apiservice.ApiServicePort;
+import blackspring.janusspec.domain.ApiService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Optional;
+
+@Service
+@RequiredArgsConstructor
+public class GetServicesService implements GetServices {
+
+    private final ApiServicePort apiServicePort;
+
+    @Override
+    public List<ServiceSummaryRes> getServices() {
+        return apiServicePort.findAll().stream()
+                .map(this::convertToSummary)
+                .toList();
+    }
+
+    @Override
+    public Optional<ServiceSummaryRes> getService(String serviceName) {
+        return apiServicePort.findByServiceName(serviceName)
+                .map(this::convertToSummary);
+    }
+
+    private ServiceSummaryRes convertToSummary(ApiService service) {
+        return new ServiceSummaryRes(
+                service.getServiceName(),
+                service.getLatestVersionId(),
+                service.getSwaggerUrl(),
+                service.getVersionTag(),
+                service.getEndpointCount(),
+                service.getSchemaCount(),
+                service.getLastChangedAt(),
+                service.getLastDiffLogId()
+        );
+    }
+}
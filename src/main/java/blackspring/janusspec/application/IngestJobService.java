@@ -0,0 +1,267 @@
+package blackspring.janusspec.application;
+
+import blackspring.janusspec.application.dto.IngestJobRes;
+import blackspring.janusspec.application.port.ingestjob.IngestJobPort;
+import blackspring.janusspec.application.port.ingestjob.IngestJobSourceKey;
+import blackspring.janusspec.application.port.swaggersource.SwaggerSourcePort;
+import blackspring.janusspec.domain.ApiDiffLog;
+import blackspring.janusspec.domain.IngestJob;
+import blackspring.janusspec.domain.SpecSnapshot;
+import blackspring.janusspec.infrastructure.adapter.json.CanonicalJsonWriter;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * 비동기 수집 작업 실행기
+ * 작업은 소스(서비스명, Swagger URL) 단위로 생성 순서대로 실행합니다. (다음 버전 diff 가 직전 버전 행을 기준으로 하므로)
+ * 워커 수와 큐 크기가 제한된 executor 를 쓰고, 큐에 못 들어간 작업과 재시작 전에 끝나지 않은 작업은 주기적으로 다시 넣습니다.
+ * 실패한 작업은 간격을 늘려 가며 재시도하고, 재시도 대기 중인 작업 뒤의 같은 소스 작업은 순서를 지키기 위해 기다립니다.
+ * 최대 횟수까지 실패하면 FAILED 로 끝내고 소스의 검증자/지문을 지워, 다음 수집이 304 로 끝나지 않고 작업을 다시 살리게 합니다.
+ */
+@Service
+public class IngestJobService implements GetIngestJob {
+
+    private final IngestJobPort ingestJobPort;
+    private final SwaggerSourcePort swaggerSourcePort;
+    private final VersionContentWriter versionContentWriter;
+    private final CanonicalJsonWriter canonicalJsonWriter;
+    private final TransactionTemplate transactionTemplate;
+    private final ThreadPoolExecutor executor;
+    private final int maxAttempts;
+    private final Duration retryBackoff;
+    private final Duration maxRetryBackoff;
+
+    // 같은 소스의 버전 저장과 작업 실행을 직렬화 (프로세스 안에서만 유효)
+    // 고정 개수 stripe 는 서로 다른 소스가 같은 락을 나눠 써서 느린 수집 하나가 무관한 소스를 막으므로 소스마다 락을 둠
+    // 값을 약한 참조로 두어 잡거나 기다리는 스레드가 없는 락은 GC 로 정리됨 (그동안은 같은 락이 유지되므로 직렬화는 깨지지 않음)
+    private final LoadingCache<IngestJobSourceKey, Lock> sourceLocks = CacheBuilder.newBuilder()
+            .weakValues()
+            .build(CacheLoader.from(key -> new ReentrantLock()));
+    // 실행 대기 중인 소스 (같은 소스를 큐에 중복으로 넣지 않음)
+    private final Set<IngestJobSourceKey> queued = ConcurrentHashMap.newKeySet();
+    // 실행 중인 작업의 현재 단계
+    private final ConcurrentMap<Long, String> stages = new ConcurrentHashMap<>();
+
+    public IngestJobService(
+            IngestJobPort ingestJobPort,
+            SwaggerSourcePort swaggerSourcePort,
+            VersionContentWriter versionContentWriter,
+            CanonicalJsonWriter canonicalJsonWriter,
+            TransactionTemplate transactionTemplate,
+            @Value("${janus.ingest-job.workers:2}") int workers,
+            @Value("${janus.ingest-job.queue-capacity:100}") int queueCapacity,
+            @Value("${janus.ingest-job.max-attempts:5}") int maxAttempts,
+            @Value("${janus.ingest-job.retry-backoff:PT30S}") Duration retryBackoff,
+            @Value("${janus.ingest-job.max-retry-backoff:PT30M}") Duration maxRetryBackoff) {
+        this.ingestJobPort = ingestJobPort;
+        this.swaggerSourcePort = swaggerSourcePort;
+        this.versionContentWriter = versionContentWriter;
+        this.canonicalJsonWriter = canonicalJsonWriter;
+        this.transactionTemplate = transactionTemplate;
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.retryBackoff = retryBackoff;
+        this.maxRetryBackoff = maxRetryBackoff;
+
+        AtomicInteger threadCount = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+                workers, workers, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "ingest-job-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    @Override
+    public Optional<IngestJobRes> getIngestJob(Long jobId) {
+        return ingestJobPort.findById(jobId)
+                .map(job -> new IngestJobRes(
+                        job.getId(),
+                        job.getStatus().name(),
+                        job.getStatus() == IngestJob.Status.RUNNING ? stages.get(job.getId()) : null,
+                        job.getServiceName(),
+                        job.getSwaggerUrl(),
+                        job.getSwaggerVersionId(),
+                        job.getOldVersionId(),
+                        job.getApiDiffLogId(),
+                        job.getError(),
+                        job.getAttempts(),
+                        job.getCreateAt(),
+                        job.getStartedAt(),
+                        job.getFinishedAt()
+                ));
+    }
+
+    /**
+     * 소스 락을 잡고 실행 (같은 소스의 버전 저장/작업 실행이 겹치지 않도록)
+     */
+    public <T> T withSourceLock(String serviceName, String swaggerUrl, Supplier<T> action) {
+        Lock lock = sourceLocks.getUnchecked(new IngestJobSourceKey(serviceName, swaggerUrl));
+        lock.lock();
+        try {
+            return action.get();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 소스의 끝나지 않은 작업 실행을 예약합니다.
+     * 큐가 가득 차면 작업은 PENDING 으로 남고 다음 재개 주기에 다시 넣습니다.
+     */
+    public void enqueue(String serviceName, String swaggerUrl) {
+        IngestJobSourceKey key = new IngestJobSourceKey(serviceName, swaggerUrl);
+        if (!queued.add(key)) {
+            return;
+        }
+        try {
+            executor.execute(() -> {
+                // 실행 시작 후 생긴 작업은 다시 예약될 수 있도록 먼저 해제
+                queued.remove(key);
+                withSourceLock(serviceName, swaggerUrl, () -> runPending(serviceName, swaggerUrl, false));
+            });
+        } catch (RejectedExecutionException e) {
+            queued.remove(key);
+            System.err.println("[INGEST JOB QUEUE FULL] " + serviceName + " - 다음 재개 주기에 처리");
+        }
+    }
+
+    /**
+     * 소스의 끝나지 않은 작업을 생성 순으로 실행합니다. (소스 락을 잡은 상태에서 호출)
+     * 재시도를 기다리거나 이번에도 실패한 작업이 있으면 뒤의 작업은 실행하지 않습니다. (직전 버전 행이 diff 기준이므로)
+     *
+     * @param force 재시도 대기 시각을 무시하고 바로 실행 (동기 수집이 앞선 작업을 먼저 끝내야 할 때)
+     * @return 끝나지 않은 작업이 남아 있지 않으면 true
+     */
+    public boolean runPending(String serviceName, String swaggerUrl, boolean force) {
+        for (Long jobId : ingestJobPort.findUnfinishedIds(serviceName, swaggerUrl)) {
+            if (!run(jobId, force)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 버전의 작업이 실패로 끝났으면 다시 대기 상태로 되돌립니다. (소스 락을 잡은 상태에서 호출)
+     * 실패 후 지운 검증자 때문에 같은 내용을 다시 받은 경우, 새 버전이 생기지 않으므로 기존 작업을 다시 살립니다.
+     *
+     * @return 다시 살린 작업 id
+     */
+    public Optional<Long> rearmFailed(Long swaggerVersionId) {
+        return transactionTemplate.execute(status -> ingestJobPort.findFailedByVersion(swaggerVersionId).map(job -> {
+            job.rearm();
+            ingestJobPort.save(job);
+            System.out.println("[INGEST JOB REARM] id=" + job.getId() + " version=" + swaggerVersionId);
+            return job.getId();
+        }));
+    }
+
+    /**
+     * 끝나지 않은 작업 재개 (시작 직후 한 번 돌므로 재시작 전에 RUNNING 이던 작업도 다시 실행)
+     */
+    @Scheduled(fixedDelayString = "${janus.ingest-job.resume-interval:PT1M}")
+    public void resumeUnfinished() {
+        for (IngestJobSourceKey key : ingestJobPort.findUnfinishedSources()) {
+            enqueue(key.serviceName(), key.swaggerUrl());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        // 실행 중이던 작업은 롤백되고 RUNNING 으로 남아 재시작 후 다시 실행됨
+        executor.shutdownNow();
+    }
+
+    /**
+     * @return 작업이 끝났으면(이미 끝난 경우 포함) true, 재시도 대기 중이거나 이번에 실패해 재시도를 예약했으면 false
+     */
+    private boolean run(Long jobId, boolean force) {
+        IngestJob job = transactionTemplate.execute(status -> {
+            IngestJob pending = ingestJobPort.findById(jobId).orElse(null);
+            if (pending == null || pending.isFinished() || (!force && pending.isWaitingForRetry(LocalDateTime.now()))) {
+                return pending;
+            }
+            pending.start(LocalDateTime.now());
+            ingestJobPort.save(pending);
+            return pending;
+        });
+        if (job == null || job.isFinished()) {
+            return true;
+        }
+        if (job.getStatus() != IngestJob.Status.RUNNING) {
+            return false;
+        }
+
+        try {
+            stages.put(jobId, "EXTRACT");
+            SpecSnapshot current = SpecSnapshot.extract(ingestJobPort.readSpec(job), canonicalJsonWriter);
+
+            // 엔드포인트/스키마/diff 와 작업 완료 표시는 한 트랜잭션으로
+            Long apiDiffLogId = transactionTemplate.execute(status -> {
+                Long diffLogId = versionContentWriter.write(
+                                job.getSourceId(), job.getServiceName(), job.getSwaggerVersionId(), job.getOldVersionId(),
+                                current, stage -> stages.put(jobId, stage))
+                        .map(ApiDiffLog::getId)
+                        .orElse(null);
+                IngestJob running = ingestJobPort.findById(jobId).orElseThrow();
+                running.complete(diffLogId, LocalDateTime.now());
+                ingestJobPort.save(running);
+                return diffLogId;
+            });
+            System.out.println("[INGEST JOB DONE] id=" + jobId + " version=" + job.getSwaggerVersionId() + " diff=" + apiDiffLogId);
+            return true;
+        } catch (RuntimeException e) {
+            String error = e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName();
+            return transactionTemplate.execute(status -> {
+                IngestJob failed = ingestJobPort.findById(jobId).orElseThrow();
+                LocalDateTime now = LocalDateTime.now();
+                if (failed.getAttempts() < maxAttempts) {
+                    Duration backoff = backoff(failed.getAttempts());
+                    failed.retryLater(error, now.plus(backoff));
+                    ingestJobPort.save(failed);
+                    System.err.println("[INGEST JOB RETRY] id=" + jobId + " attempt=" + failed.getAttempts()
+                            + " next=" + backoff.toSeconds() + "s - " + error);
+                    return false;
+                }
+
+                // 버전은 이미 커밋됐으므로 검증자/지문을 지워 다음 수집이 본문을 다시 받고 작업을 살리게 함
+                failed.fail(error, now);
+                ingestJobPort.save(failed);
+                swaggerSourcePort.saveFetchState(failed.getServiceName(), failed.getSwaggerUrl(), null, null, null);
+                System.err.println("[INGEST JOB FAILED] id=" + jobId + " attempts=" + failed.getAttempts() + " - " + error);
+                return true;
+            });
+        } finally {
+            stages.remove(jobId);
+        }
+    }
+
+    // retryBackoff * 2^(attempts-1), 최대 maxRetryBackoff
+    private Duration backoff(int attempts) {
+        Duration backoff = retryBackoff.multipliedBy(1L << Math.min(attempts - 1, 20));
+        return backoff.compareTo(maxRetryBackoff) > 0 ? maxRetryBackoff : backoff;
+    }
+}
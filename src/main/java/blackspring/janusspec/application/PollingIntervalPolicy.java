@@ -0,0 +1,89 @@
+package blackspring.janusspec.application;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 서비스별 수집 주기 계산
+ * 변경 이력(ApiDiffLog)의 평균 변경 간격에 맞춰 주기를 늘리거나 줄이고, 실패 시 지수 백오프합니다.
+ */
+@Component
+public class PollingIntervalPolicy {
+
+    private final Duration minInterval;
+    private final Duration maxInterval;
+    private final Duration defaultInterval;
+    private final Duration maxBackoff;
+    private final int intervalDivisor;
+    private final double jitterRatio;
+
+    public PollingIntervalPolicy(
+            @Value("${janus.polling.min-interval:1m}") Duration minInterval,
+            @Value("${janus.polling.max-interval:6h}") Duration maxInterval,
+            @Value("${janus.polling.default-interval:5m}") Duration defaultInterval,
+            @Value("${janus.polling.max-backoff:1h}") Duration maxBackoff,
+            @Value("${janus.polling.interval-divisor:10}") int intervalDivisor,
+            @Value("${janus.polling.jitter-ratio:0.1}") double jitterRatio) {
+        if (jitterRatio < 0 || jitterRatio >= 1) {
+            throw new IllegalArgumentException("janus.polling.jitter-ratio 는 0 이상 1 미만이어야 합니다: " + jitterRatio);
+        }
+        this.minInterval = minInterval;
+        this.maxInterval = maxInterval;
+        this.defaultInterval = defaultInterval;
+        this.maxBackoff = maxBackoff;
+        this.intervalDivisor = intervalDivisor;
+        this.jitterRatio = jitterRatio;
+    }
+
+    /**
+     * 최근 변경 시각(최신순)으로 다음 수집 주기를 계산합니다.
+     * 평균 변경 간격의 1/intervalDivisor 로 잡아서, 자주 바뀌는 서비스는 빨리, 거의 안 바뀌는 서비스는 드물게 수집합니다.
+     * 마지막 변경 이후 흐른 시간도 간격에 포함하므로 조용한 서비스일수록 주기가 길어집니다.
+     */
+    public Duration nextInterval(List<LocalDateTime> recentChangeTimes, LocalDateTime now) {
+        if (recentChangeTimes.isEmpty()) {
+            return defaultInterval;
+        }
+
+        List<Duration> gaps = new ArrayList<>();
+        gaps.add(Duration.between(recentChangeTimes.get(0), now));
+        for (int i = 0; i + 1 < recentChangeTimes.size(); i++) {
+            gaps.add(Duration.between(recentChangeTimes.get(i + 1), recentChangeTimes.get(i)));
+        }
+
+        long meanSeconds = (long) gaps.stream().mapToLong(Duration::toSeconds).average().orElse(0);
+        return clamp(Duration.ofSeconds(meanSeconds / intervalDivisor), minInterval, maxInterval);
+    }
+
+    /**
+     * 연속 실패 횟수 기준 지수 백오프 (최소 주기부터 두 배씩, 최대 maxBackoff)
+     */
+    public Duration backoff(int consecutiveFailures) {
+        int exponent = Math.min(consecutiveFailures, 20);
+        return clamp(minInterval.multipliedBy(1L << exponent), minInterval, maxBackoff);
+    }
+
+    /**
+     * 여러 서비스가 같은 시각에 몰리지 않도록 ±jitterRatio 만큼 흔듭니다. (0 이면 그대로)
+     */
+    public Duration withJitter(Duration interval) {
+        if (jitterRatio <= 0) {
+            return interval;
+        }
+        double factor = 1 + ThreadLocalRandom.current().nextDouble(-jitterRatio, jitterRatio);
+        return Duration.ofMillis((long) (interval.toMillis() * factor));
+    }
+
+    private Duration clamp(Duration value, Duration min, Duration max) {
+        if (value.compareTo(min) < 0) {
+            return min;
+        }
+        return value.compareTo(max) > 0 ? max : value;
+    }
+}
@@ -1,14 +1,41 @@
 package blackspring.janusspec.application;
 
+import blackspring.janusspec.application.dto.ApiEndpointFilter;
 import blackspring.janusspec.application.dto.GetLatestSwaggerApiRes;
 import blackspring.janusspec.application.dto.GetServiceApiPathsRes;
 import blackspring.janusspec.application.dto.SaveSwaggerApiReq;
 import blackspring.janusspec.application.dto.SaveSwaggerApiRes;
+import blackspring.janusspec.application.dto.SaveSwaggerJobRes;
 
+import java.io.OutputStream;
 import java.util.Optional;
 
 public interface SaveApiSpec {
     SaveSwaggerApiRes saveServiceApiSpec(SaveSwaggerApiReq req);
+
+    /**
+     * 버전만 커밋하고 엔드포인트/스키마/diff 저장은 비동기 작업으로 넘김
+     */
+    SaveSwaggerJobRes saveServiceApiSpecAsync(SaveSwaggerApiReq req);
     Optional<GetLatestSwaggerApiRes> getLatestSwaggerApi();
-    Optional<GetServiceApiPathsRes> getServiceApiPaths(String serviceName);
+
+    /**
+     * 서비스의 최신 버전 정보
+     */
+    Optional<GetLatestSwaggerApiRes> getLatestSwaggerApi(String serviceName);
+
+    /**
+     * 버전 시점 엔드포인트 조회 (limit 0 이하면 전체)
+     */
+    Optional<GetServiceApiPathsRes> getApiPaths(Long swaggerVersionId, ApiEndpointFilter filter, Long after, int limit);
+
+    /**
+     * 버전의 엔드포인트/스키마 저장이 끝났는지 (비동기 수집 작업이 남아 있거나 실패로 끝났으면 false)
+     */
+    boolean isContentReady(Long swaggerVersionId);
+
+    /**
+     * 버전 시점 엔드포인트를 한 줄에 하나씩 JSON 으로 씀 (NDJSON)
+     */
+    void writeApiPaths(Long swaggerVersionId, ApiEndpointFilter filter, OutputStream out);
 }
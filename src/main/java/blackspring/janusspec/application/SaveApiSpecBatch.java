@@ -0,0 +1,14 @@
+package blackspring.janusspec.application;
+
+import blackspring.janusspec.application.dto.SaveSwaggerApiReq;
+import blackspring.janusspec.application.dto.SaveSwaggerBatchRes;
+
+import java.util.List;
+
+public interface SaveApiSpecBatch {
+
+    /**
+     * 여러 서비스의 Swagger 문서를 동시에 수집 (항목별 결과 반환)
+     */
+    SaveSwaggerBatchRes saveServiceApiSpecs(List<SaveSwaggerApiReq> reqs);
+}
@@ -0,0 +1,146 @@
+package blackspring.janusspec.application;
+
+import blackspring.janusspec.application.dto.SaveSwaggerApiReq;
+import blackspring.janusspec.application.dto.SaveSwaggerBatchItemRes;
+import blackspring.janusspec.application.dto.SaveSwaggerBatchRes;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+
+@Service
+public class SaveSwaggerBatchService implements SaveApiSpecBatch {
+
+    private final SaveApiSpec saveApiSpec;
+    private final Duration itemTimeout;
+    private final Duration batchTimeout;
+
+    // 호스트별 동시 요청 제한 (같은 upstream 에 요청이 몰리지 않도록)
+    // 값을 약한 참조로 두어 permit 을 쥔 작업이 없는 호스트는 GC 로 정리됨 (맵이 호스트 수만큼 계속 커지지 않음)
+    private final LoadingCache<String, Semaphore> hostPermits;
+
+    // 타임아웃으로 응답에서 빠진 항목도 끝까지 실행되도록 요청과 무관한 실행기에서 수행
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    public SaveSwaggerBatchService(
+            SaveApiSpec saveApiSpec,
+            @Value("${janus.batch.per-host-concurrency:4}") int perHostConcurrency,
+            @Value("${janus.batch.item-timeout:120s}") Duration itemTimeout,
+            @Value("${janus.batch.timeout:300s}") Duration batchTimeout) {
+        this.saveApiSpec = saveApiSpec;
+        this.itemTimeout = itemTimeout;
+        this.batchTimeout = batchTimeout;
+        this.hostPermits = CacheBuilder.newBuilder()
+                .weakValues()
+                .build(CacheLoader.from(host -> new Semaphore(perHostConcurrency)));
+    }
+
+    /**
+     * 요청 전체에 batchTimeout 기한을 두어, 호스트 permit 대기와 항목 실행을 합쳐 그 안에 응답합니다.
+     */
+    @Override
+    public SaveSwaggerBatchRes saveServiceApiSpecs(List<SaveSwaggerApiReq> reqs) {
+        long deadline = System.nanoTime() + batchTimeout.toNanos();
+
+        List<Future<SaveSwaggerBatchItemRes>> futures = new ArrayList<>();
+        for (SaveSwaggerApiReq req : reqs) {
+            futures.add(executor.submit(() -> saveItem(req, deadline)));
+        }
+
+        List<SaveSwaggerBatchItemRes> items = new ArrayList<>();
+        for (int i = 0; i < futures.size(); i++) {
+            items.add(await(reqs.get(i), futures.get(i), deadline));
+        }
+
+        int failed = (int) items.stream().filter(item -> "ERROR".equals(item.status())).count();
+        int timedOut = (int) items.stream().filter(item -> "TIMEOUT".equals(item.status())).count();
+        return new SaveSwaggerBatchRes(items.size(), failed, timedOut, items);
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        // 진행 중인 수집은 항목 타임아웃만큼 마무리할 시간을 준 뒤 중단 (중단된 저장은 트랜잭션이 롤백됨)
+        executor.shutdown();
+        if (!executor.awaitTermination(itemTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * 기한까지 호스트 permit 을 기다리고, 얻은 뒤부터 항목별 타임아웃(기한을 넘지 않게 줄임)을 적용합니다.
+     * 기한 안에 permit 을 얻지 못한 항목은 시작하지 않고 TIMEOUT 으로 알립니다.
+     * 타임아웃이 나도 시작한 수집은 멈추지 않으므로(연결/읽기 타임아웃은 JsonParserAdapter 가 적용)
+     * permit 은 수집 작업이 실제로 끝날 때 반환하고, 결과는 "반영됐을 수 있음"(TIMEOUT) 으로 알립니다.
+     */
+    private SaveSwaggerBatchItemRes saveItem(SaveSwaggerApiReq req, long deadline) throws InterruptedException {
+        Semaphore permits = hostPermits.getUnchecked(hostOf(req.url()));
+        if (!permits.tryAcquire(remainingNanos(deadline), TimeUnit.NANOSECONDS)) {
+            return SaveSwaggerBatchItemRes.timedOut(req,
+                    "시간 초과 (" + batchTimeout.toSeconds() + "s), 같은 호스트의 앞선 수집을 기다리다 시작하지 못함");
+        }
+        Future<SaveSwaggerBatchItemRes> future;
+        try {
+            future = executor.submit(() -> {
+                try {
+                    return SaveSwaggerBatchItemRes.of(req, saveApiSpec.saveServiceApiSpec(req));
+                } finally {
+                    permits.release();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            permits.release();
+            return SaveSwaggerBatchItemRes.error(req, "서버 종료 중");
+        }
+
+        try {
+            return future.get(Math.min(itemTimeout.toNanos(), remainingNanos(deadline)), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            return SaveSwaggerBatchItemRes.timedOut(req, "시간 초과, 처리가 계속 진행 중이라 반영됐을 수 있음");
+        } catch (ExecutionException e) {
+            return SaveSwaggerBatchItemRes.error(req, errorMessage(e.getCause()));
+        }
+    }
+
+    /**
+     * saveItem 은 기한 안에 끝나지만, 실행기가 늦게 띄운 경우를 위해 기다리는 쪽도 기한을 둡니다.
+     */
+    private SaveSwaggerBatchItemRes await(SaveSwaggerApiReq req, Future<SaveSwaggerBatchItemRes> future, long deadline) {
+        try {
+            return future.get(remainingNanos(deadline), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            // permit 대기 중이면 중단해 시작하지 않게 함 (시작한 수집은 별도 작업이라 계속 진행)
+            future.cancel(true);
+            return SaveSwaggerBatchItemRes.timedOut(req, "시간 초과 (" + batchTimeout.toSeconds() + "s), 반영됐을 수 있음");
+        } catch (ExecutionException e) {
+            return SaveSwaggerBatchItemRes.error(req, errorMessage(e.getCause()));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return SaveSwaggerBatchItemRes.timedOut(req, "중단됨, 반영됐을 수 있음");
+        }
+    }
+
+    private static long remainingNanos(long deadline) {
+        return Math.max(0, deadline - System.nanoTime());
+    }
+
+    private String hostOf(String url) {
+        try {
+            String host = URI.create(url).getHost();
+            return host != null ? host : url;
+        } catch (Exception e) {
+            return url;
+        }
+    }
+
+    private String errorMessage(Throwable e) {
+        return e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName();
+    }
+}
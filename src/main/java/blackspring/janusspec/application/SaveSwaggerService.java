@@ -1,105 +1,245 @@
 package blackspring.janusspec.application;
 
 import blackspring.janusspec.application.dto.ApiEndpointDto;
+import blackspring.janusspec.application.dto.ApiEndpointFilter;
 import blackspring.janusspec.application.dto.GetLatestSwaggerApiRes;
 import blackspring.janusspec.application.dto.GetServiceApiPathsRes;
 import blackspring.janusspec.application.dto.SaveSwaggerApiReq;
 import blackspring.janusspec.application.dto.SaveSwaggerApiRes;
-import blackspring.janusspec.application.port.apidiff.ApiDiffPort;
+import blackspring.janusspec.application.dto.SaveSwaggerJobRes;
 import blackspring.janusspec.application.port.apiendpoint.ApiEndPointPort;
-import blackspring.janusspec.application.port.apiendpoint.ApiEndPointReq;
-import blackspring.janusspec.application.port.apischema.ApiSchemaPort;
+import blackspring.janusspec.application.port.apiendpoint.ApiEndpointPage;
+import blackspring.janusspec.application.port.ingestjob.IngestJobPort;
 import blackspring.janusspec.application.port.jsonparser.JsonParserPort;
+import blackspring.janusspec.application.port.jsonparser.SwaggerFetchReq;
+import blackspring.janusspec.application.port.jsonparser.SwaggerFetchRes;
+import blackspring.janusspec.application.port.swaggersource.SwaggerSourcePort;
 import blackspring.janusspec.application.port.swaggerversion.SwaggerVersionPort;
 import blackspring.janusspec.application.port.swaggerversion.SwaggerVersionReq;
 import blackspring.janusspec.application.port.swaggerversion.SwaggerVersionRes;
+import blackspring.janusspec.domain.IngestJob;
+import blackspring.janusspec.domain.SpecSnapshot;
+import blackspring.janusspec.domain.SwaggerSource;
 import blackspring.janusspec.domain.SwaggerVersion;
+import blackspring.janusspec.infrastructure.adapter.json.CanonicalJsonWriter;
 import blackspring.janusspec.infrastructure.adapter.json.OpenApiSpec;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonFactoryBuilder;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.StreamWriteFeature;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
 
-import java.util.List;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.util.Optional;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class SaveSwaggerService implements SaveApiSpec {
 
+    // NDJSON: 루트 값마다 줄바꿈, 응답 스트림은 컨테이너가 닫음
+    private static final JsonFactory NDJSON_FACTORY = new JsonFactoryBuilder()
+            .rootValueSeparator("\n")
+            .disable(StreamWriteFeature.AUTO_CLOSE_TARGET)
+            .build();
+    private static final int NDJSON_FLUSH_ROWS = 500;
+
     private final SwaggerVersionPort swaggerVersionPort;
     private final ApiEndPointPort endPointPort;
-    private final ApiSchemaPort apiSchemaPort;
     private final JsonParserPort jsonParserPort;
-    private final ApiDiffPort apiDiffPort;
+    private final SwaggerSourcePort swaggerSourcePort;
+    private final IngestJobPort ingestJobPort;
+    private final TransactionTemplate transactionTemplate;
+    private final CanonicalJsonWriter canonicalJsonWriter;
+    private final VersionContentWriter versionContentWriter;
+    private final IngestJobService ingestJobService;
+    private final EndpointCatalog endpointCatalog;
 
     @Override
     public SaveSwaggerApiRes saveServiceApiSpec(SaveSwaggerApiReq req) {
         String serviceName = req.getServiceName();
-        OpenApiSpec openApiSpec = jsonParserPort.saveApiSpecAll(req.url());
-        SwaggerVersionRes swaggerVersionRes = swaggerVersionPort.save(new SwaggerVersionReq(serviceName, req.url(), openApiSpec));
-        
-        // 해시가 변경된 경우 (API가 변경된 경우)
-        if (swaggerVersionRes.checkHash() == false) {
-            Optional<SwaggerVersion> newVersionOpt = swaggerVersionPort.findById(swaggerVersionRes.swaggerVersionId());
-            
-            if (newVersionOpt.isPresent()) {
-                SwaggerVersion newVersion = newVersionOpt.get();
-                
-                // 새 버전의 엔드포인트 저장
-                endPointPort.save(new ApiEndPointReq(serviceName, swaggerVersionRes.swaggerVersionId(), openApiSpec));
-                
-                // 새 버전의 스키마 저장
-                apiSchemaPort.save(newVersion, openApiSpec);
-                
-                // 이전 버전이 존재하면 diff 저장
-                if (swaggerVersionRes.oldVersionId() != null) {
-                    Optional<SwaggerVersion> oldVersionOpt = swaggerVersionPort.findById(swaggerVersionRes.oldVersionId());
-                    
-                    if (oldVersionOpt.isPresent()) {
-                        apiDiffPort.saveDiff(oldVersionOpt.get(), newVersion);
-                    }
+        SwaggerFetchRes fetchRes = fetch(serviceName, req.url());
+
+        // 304 또는 원본 바이트 지문 동일: 파싱/정규화/해시/DB 저장 없이 최신 버전 그대로 반환
+        if (fetchRes.notModified()) {
+            Long latestId = swaggerVersionPort.findLatestIdByServiceNameAndSwaggerUrl(serviceName, req.url()).orElseThrow();
+            return new SaveSwaggerApiRes(latestId.toString(), req.url(), true);
+        }
+
+        // 엔드포인트/스키마 추출은 파싱 직후 메모리에서 한 번만 (트랜잭션 밖)
+        SpecSnapshot current = SpecSnapshot.extract(fetchRes.openApiSpec(), canonicalJsonWriter);
+
+        // 네트워크 조회는 트랜잭션 밖에서, 저장(버전/엔드포인트/스키마/diff/검증자)은 한 트랜잭션으로
+        SwaggerVersionRes swaggerVersionRes = ingestJobService.withSourceLock(serviceName, req.url(), () -> {
+            // 같은 소스의 비동기 작업이 남아 있으면 재시도 대기 중이어도 먼저 처리 (직전 버전 행이 있어야 diff 기준이 맞음)
+            if (!ingestJobService.runPending(serviceName, req.url(), true)) {
+                throw new IllegalStateException("이전 버전의 수집 작업이 실패해 재시도 대기 중: " + serviceName + " " + req.url());
+            }
+            SwaggerVersionRes saved = transactionTemplate.execute(status -> persist(serviceName, req.url(), fetchRes, current));
+
+            // 같은 내용이지만 그 버전의 작업이 실패로 끝났던 경우 다시 살려 바로 처리
+            if (saved.checkHash() && ingestJobService.rearmFailed(saved.swaggerVersionId()).isPresent()) {
+                ingestJobService.runPending(serviceName, req.url(), true);
+            }
+            return saved;
+        });
+
+        return new SaveSwaggerApiRes(swaggerVersionRes.swaggerVersionId().toString(), req.url(), swaggerVersionRes.checkHash());
+    }
+
+    @Override
+    public SaveSwaggerJobRes saveServiceApiSpecAsync(SaveSwaggerApiReq req) {
+        String serviceName = req.getServiceName();
+        SwaggerFetchRes fetchRes = fetch(serviceName, req.url());
+
+        if (fetchRes.notModified()) {
+            Long latestId = swaggerVersionPort.findLatestIdByServiceNameAndSwaggerUrl(serviceName, req.url()).orElseThrow();
+            return new SaveSwaggerJobRes(null, latestId.toString(), req.url(), true);
+        }
+
+        // 버전/검증자와 작업만 커밋하고 엔드포인트/스키마/diff 는 백그라운드 작업으로
+        SaveSwaggerJobRes res = ingestJobService.withSourceLock(serviceName, req.url(), () -> {
+            SaveSwaggerJobRes saved = transactionTemplate.execute(status -> {
+                SwaggerSource source = swaggerSourcePort.saveFetchState(serviceName, req.url(), fetchRes.etag(), fetchRes.lastModified(), fetchRes.fingerprint());
+                SwaggerVersionRes swaggerVersionRes = swaggerVersionPort.save(new SwaggerVersionReq(serviceName, req.url(), fetchRes.openApiSpec()));
+                if (swaggerVersionRes.checkHash()) {
+                    return new SaveSwaggerJobRes(null, swaggerVersionRes.swaggerVersionId().toString(), req.url(), true);
                 }
+                // 내용은 작업이 저장하므로 그때까지 카탈로그는 최신 버전을 DB 로 조회하게 함
+                endpointCatalog.publishLatest(serviceName, swaggerVersionRes.swaggerVersionId());
+                IngestJob job = ingestJobPort.createPending(source.getId(), serviceName, req.url(),
+                        swaggerVersionRes.swaggerVersionId(), swaggerVersionRes.oldVersionId(), fetchRes.openApiSpec());
+                return new SaveSwaggerJobRes(job.getId(), swaggerVersionRes.swaggerVersionId().toString(), req.url(), false);
+            });
+
+            // 같은 내용이지만 그 버전의 작업이 실패로 끝났던 경우 다시 살려 작업 id 로 알림
+            if (saved.unchanged()) {
+                return ingestJobService.rearmFailed(Long.valueOf(saved.version()))
+                        .map(jobId -> new SaveSwaggerJobRes(jobId, saved.version(), req.url(), true))
+                        .orElse(saved);
             }
+            return saved;
+        });
+
+        if (res.jobId() != null) {
+            ingestJobService.enqueue(serviceName, req.url());
         }
+        return res;
+    }
 
-        return new SaveSwaggerApiRes(swaggerVersionRes.swaggerVersionId().toString(),req.url());
+    /**
+     * 저장된 검증자/지문으로 조건부 조회 (버전이 없는데 304 를 받은 경우 검증자 없이 다시 수집)
+     */
+    private SwaggerFetchRes fetch(String serviceName, String url) {
+        Optional<SwaggerSource> source = swaggerSourcePort.findByServiceNameAndSwaggerUrl(serviceName, url);
+
+        SwaggerFetchRes fetchRes = jsonParserPort.fetch(new SwaggerFetchReq(
+                url,
+                source.map(SwaggerSource::getEtag).orElse(null),
+                source.map(SwaggerSource::getLastModified).orElse(null),
+                source.map(SwaggerSource::getFingerprint).orElse(null)
+        ));
+
+        if (fetchRes.notModified() && swaggerVersionPort.findLatestIdByServiceNameAndSwaggerUrl(serviceName, url).isEmpty()) {
+            fetchRes = jsonParserPort.fetch(SwaggerFetchReq.unconditional(url));
+        }
+        return fetchRes;
+    }
+
+    private SwaggerVersionRes persist(String serviceName, String url, SwaggerFetchRes fetchRes, SpecSnapshot current) {
+        OpenApiSpec openApiSpec = fetchRes.openApiSpec();
+
+        // 다음 조건부 요청을 위한 검증자와 원본 지문 저장 (엔드포인트 유효 구간의 기준이 되는 소스도 여기서 생성)
+        SwaggerSource source = swaggerSourcePort.saveFetchState(serviceName, url, fetchRes.etag(), fetchRes.lastModified(), fetchRes.fingerprint());
+
+        SwaggerVersionRes swaggerVersionRes = swaggerVersionPort.save(new SwaggerVersionReq(serviceName, url, openApiSpec));
+
+        // 해시가 변경된 경우 (API가 변경된 경우)
+        if (swaggerVersionRes.checkHash() == false) {
+            endpointCatalog.publishLatest(serviceName, swaggerVersionRes.swaggerVersionId());
+            versionContentWriter.write(source.getId(), serviceName, swaggerVersionRes.swaggerVersionId(),
+                    swaggerVersionRes.oldVersionId(), current, stage -> {});
+        }
+
+        return swaggerVersionRes;
     }
 
     @Override
     public Optional<GetLatestSwaggerApiRes> getLatestSwaggerApi() {
-        return swaggerVersionPort.findLatest()
-                .map(swaggerVersion -> new GetLatestSwaggerApiRes(
-                        swaggerVersion.getId(),
-                        swaggerVersion.getServiceName(),
-                        swaggerVersion.getSwaggerUrl(),
-                        swaggerVersion.getVersionTag(),
-                        swaggerVersion.getHash()
-                ));
+        return swaggerVersionPort.findLatestSummary();
+    }
+
+    @Override
+    public Optional<GetLatestSwaggerApiRes> getLatestSwaggerApi(String serviceName) {
+        return swaggerVersionPort.findLatestSummaryByServiceName(serviceName);
     }
 
     @Override
-    public Optional<GetServiceApiPathsRes> getServiceApiPaths(String serviceName) {
-        return swaggerVersionPort.findLatestByServiceName(serviceName)
+    public Optional<GetServiceApiPathsRes> getApiPaths(Long swaggerVersionId, ApiEndpointFilter filter, Long after, int limit) {
+        return swaggerVersionPort.findById(swaggerVersionId)
                 .map(swaggerVersion -> {
-                    List<ApiEndpointDto> endpoints = endPointPort.findBySwaggerVersion(swaggerVersion)
-                            .stream()
-                            .map(endpoint -> new ApiEndpointDto(
-                                    endpoint.getPath(),
-                                    endpoint.getHttpMethod(),
-                                    endpoint.getSummary(),
-                                    endpoint.getOperationId(),
-                                    endpoint.isDeprecated(),
-                                    endpoint.getRequestSchemaName(),
-                                    endpoint.getResponseSchemaName()
-                            ))
-                            .collect(Collectors.toList());
+                    // 필터/커서는 SQL 조건으로, 엔티티 대신 프로젝션으로 조회
+                    ApiEndpointPage page = endPointPort.findEndpoints(swaggerVersion, filter, after, limit);
 
                     return new GetServiceApiPathsRes(
                             swaggerVersion.getServiceName(),
                             swaggerVersion.getVersionTag(),
                             swaggerVersion.getId(),
-                            endpoints
+                            page.endpoints(),
+                            page.nextCursor(),
+                            page.hasNext()
                     );
                 });
     }
+
+    @Override
+    public boolean isContentReady(Long swaggerVersionId) {
+        return !ingestJobPort.existsIncompleteByVersion(swaggerVersionId);
+    }
+
+    /**
+     * DB 커서에서 읽는 행을 바로 한 줄씩 씁니다. (목록 전체를 메모리에 만들지 않음)
+     * DB 커서는 트랜잭션 안에서만 유지되므로 쓰는 동안 트랜잭션을 엶
+     */
+    @Override
+    public void writeApiPaths(Long swaggerVersionId, ApiEndpointFilter filter, OutputStream out) {
+        transactionTemplate.executeWithoutResult(status -> {
+            SwaggerVersion swaggerVersion = swaggerVersionPort.findById(swaggerVersionId).orElseThrow();
+            try (JsonGenerator gen = NDJSON_FACTORY.createGenerator(out)) {
+                int[] written = {0};
+                endPointPort.forEachEndpoint(swaggerVersion, filter, endpoint -> {
+                    try {
+                        writeEndpoint(gen, endpoint);
+                        // 일정 행마다 내보내서 클라이언트가 바로 읽을 수 있게 함
+                        if (++written[0] % NDJSON_FLUSH_ROWS == 0) {
+                            gen.flush();
+                        }
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+                // 줄 구분자는 값 사이에만 들어가므로 마지막 줄도 끝맺음
+                if (written[0] > 0) {
+                    gen.writeRaw('\n');
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    private void writeEndpoint(JsonGenerator gen, ApiEndpointDto endpoint) throws IOException {
+        gen.writeStartObject();
+        gen.writeStringField("path", endpoint.path());
+        gen.writeStringField("httpMethod", endpoint.httpMethod());
+        gen.writeStringField("summary", endpoint.summary());
+        gen.writeStringField("operationId", endpoint.operationId());
+        gen.writeBooleanField("deprecated", endpoint.deprecated());
+        gen.writeStringField("requestSchemaName", endpoint.requestSchemaName());
+        gen.writeStringField("responseSchemaName", endpoint.responseSchemaName());
+        gen.writeEndObject();
+    }
 }
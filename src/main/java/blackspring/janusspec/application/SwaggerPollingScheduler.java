@@ -0,0 +1,85 @@
+package blackspring.janusspec.application;
+
+import blackspring.janusspec.application.dto.SaveSwaggerApiReq;
+import blackspring.janusspec.application.dto.SaveSwaggerBatchItemRes;
+import blackspring.janusspec.application.dto.SaveSwaggerBatchRes;
+import blackspring.janusspec.application.port.apidiff.ApiDiffPort;
+import blackspring.janusspec.application.port.swaggersource.SwaggerSourcePort;
+import blackspring.janusspec.domain.SwaggerSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 등록된 (서비스명, Swagger URL) 을 주기적으로 수집하는 스케줄러
+ * 수집 시각이 된 대상만 일괄 수집 서비스로 넘기고, 결과에 따라 다음 수집 시각을 정합니다.
+ */
+@Component
+public class SwaggerPollingScheduler {
+
+    private static final int CHANGE_HISTORY_SIZE = 10;
+
+    private final SwaggerSourcePort swaggerSourcePort;
+    private final SaveApiSpecBatch saveApiSpecBatch;
+    private final ApiDiffPort apiDiffPort;
+    private final PollingIntervalPolicy pollingIntervalPolicy;
+    private final boolean enabled;
+    private final int batchSize;
+
+    public SwaggerPollingScheduler(
+            SwaggerSourcePort swaggerSourcePort,
+            SaveApiSpecBatch saveApiSpecBatch,
+            ApiDiffPort apiDiffPort,
+            PollingIntervalPolicy pollingIntervalPolicy,
+            @Value("${janus.polling.enabled:false}") boolean enabled,
+            @Value("${janus.polling.batch-size:50}") int batchSize) {
+        this.swaggerSourcePort = swaggerSourcePort;
+        this.saveApiSpecBatch = saveApiSpecBatch;
+        this.apiDiffPort = apiDiffPort;
+        this.pollingIntervalPolicy = pollingIntervalPolicy;
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(fixedDelayString = "${janus.polling.tick:PT30S}")
+    public void pollDueSources() {
+        if (!enabled) {
+            return;
+        }
+
+        List<SwaggerSource> due = swaggerSourcePort.findDueForPolling(LocalDateTime.now(), batchSize);
+        if (due.isEmpty()) {
+            return;
+        }
+
+        List<SaveSwaggerApiReq> reqs = due.stream()
+                .map(source -> new SaveSwaggerApiReq(source.getSwaggerUrl(), source.getServiceName()))
+                .toList();
+        SaveSwaggerBatchRes res = saveApiSpecBatch.saveServiceApiSpecs(reqs);
+
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 0; i < due.size(); i++) {
+            SwaggerSource source = due.get(i);
+            SaveSwaggerBatchItemRes item = res.items().get(i);
+
+            if ("ERROR".equals(item.status())) {
+                Duration backoff = pollingIntervalPolicy.backoff(source.getConsecutiveFailures());
+                source.pollFailed(now, pollingIntervalPolicy.withJitter(backoff));
+                System.err.println("[POLL FAILED] " + source.getServiceName() + " - " + item.error()
+                        + " (재시도 " + backoff.toSeconds() + "s 후)");
+            } else {
+                List<LocalDateTime> changeTimes = apiDiffPort.findRecentChangeTimes(source.getServiceName(), CHANGE_HISTORY_SIZE);
+                Duration interval = pollingIntervalPolicy.nextInterval(changeTimes, now);
+                source.pollSucceeded(now, interval, pollingIntervalPolicy.withJitter(interval));
+            }
+            // 수집 중 검증자/지문이 갱신되므로 엔티티 전체가 아니라 스케줄 컬럼만 씀
+            swaggerSourcePort.savePollState(source);
+        }
+
+        System.out.println("[POLL] " + res.total() + "개 수집, 실패 " + res.failed() + "개");
+    }
+}
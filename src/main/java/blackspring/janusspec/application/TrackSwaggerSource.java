@@ -0,0 +1,10 @@
+package blackspring.janusspec.application;
+
+public interface TrackSwaggerSource {
+
+    /**
+     * 주기 수집 대상에 넣거나 뺌 (소스는 첫 수집 때 추적 대상으로 생성됨)
+     * @return 소스가 없으면 false
+     */
+    boolean setTracked(String serviceName, String swaggerUrl, boolean tracked);
+}
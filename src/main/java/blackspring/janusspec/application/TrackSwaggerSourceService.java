@@ -0,0 +1,21 @@
+package blackspring.janusspec.application;
+
+import blackspring.janusspec.application.port.swaggersource.SwaggerSourcePort;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+@Service
+@RequiredArgsConstructor
+public class TrackSwaggerSourceService implements TrackSwaggerSource {
+
+    private final SwaggerSourcePort swaggerSourcePort;
+
+    @Override
+    public boolean setTracked(String serviceName, String swaggerUrl, boolean tracked) {
+        boolean exists = swaggerSourcePort.updateTracked(serviceName, swaggerUrl, tracked);
+        if (exists) {
+            System.out.println("[POLL TRACKING] " + serviceName + " " + swaggerUrl + " tracked=" + tracked);
+        }
+        return exists;
+    }
+}
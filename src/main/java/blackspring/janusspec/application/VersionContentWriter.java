@@ -0,0 +1,85 @@
+package blackspring.janusspec.application;
+
+import blackspring.janusspec.application.port.apidiff.ApiDiffPort;
+import blackspring.janusspec.application.port.apiendpoint.ApiEndPointPort;
+import blackspring.janusspec.application.port.apiendpoint.ApiEndPointReq;
+import blackspring.janusspec.application.port.apiendpoint.ApiEndPointRes;
+import blackspring.janusspec.application.port.apischema.ApiSchemaPort;
+import blackspring.janusspec.application.port.apiservice.ApiServicePort;
+import blackspring.janusspec.application.port.specsnapshot.SpecSnapshotPort;
+import blackspring.janusspec.application.port.swaggerversion.SwaggerVersionPort;
+import blackspring.janusspec.domain.ApiDiffLog;
+import blackspring.janusspec.domain.SpecSnapshot;
+import blackspring.janusspec.domain.SwaggerVersion;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * 새 버전의 엔드포인트/스키마/diff 저장
+ * 동기 수집은 버전 저장과 같은 트랜잭션에서, 비동기 수집은 작업 실행 트랜잭션에서 호출합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class VersionContentWriter {
+
+    private final SwaggerVersionPort swaggerVersionPort;
+    private final ApiEndPointPort endPointPort;
+    private final ApiSchemaPort apiSchemaPort;
+    private final ApiDiffPort apiDiffPort;
+    private final SpecSnapshotPort specSnapshotPort;
+    private final ApiServicePort apiServicePort;
+    private final EndpointCatalog endpointCatalog;
+
+    /**
+     * @param progress 단계 이름 (ENDPOINTS, SCHEMAS, DIFF) 을 받는 콜백
+     * @return 생성된 diff 로그 (이전 버전이 없으면 empty)
+     */
+    public Optional<ApiDiffLog> write(Long sourceId, String serviceName, Long swaggerVersionId, Long oldVersionId,
+                                      SpecSnapshot current, Consumer<String> progress) {
+        Optional<SwaggerVersion> newVersionOpt = swaggerVersionPort.findById(swaggerVersionId);
+        if (newVersionOpt.isEmpty()) {
+            return Optional.empty();
+        }
+        SwaggerVersion newVersion = newVersionOpt.get();
+
+        // 직전 버전 모델 (소스별 캐시, 없을 때만 DB 에서 만듦)
+        Optional<SwaggerVersion> oldVersionOpt = oldVersionId == null
+                ? Optional.empty()
+                : swaggerVersionPort.findById(oldVersionId);
+        SpecSnapshot previous = oldVersionOpt
+                .map(oldVersion -> specSnapshotPort.findPrevious(sourceId, oldVersion))
+                .orElse(null);
+
+        // 새 버전의 엔드포인트 저장 (변경분만 새 행)
+        progress.accept("ENDPOINTS");
+        ApiEndPointRes endPointRes = endPointPort.save(
+                new ApiEndPointReq(serviceName, swaggerVersionId, sourceId, previous, current));
+
+        // 새 버전의 스키마 저장
+        progress.accept("SCHEMAS");
+        apiSchemaPort.save(newVersion, previous, current);
+
+        // 이전 버전이 존재하면 메모리 모델끼리 diff 저장
+        Optional<ApiDiffLog> diffLog = Optional.empty();
+        if (oldVersionOpt.isPresent()) {
+            progress.accept("DIFF");
+            diffLog = Optional.of(apiDiffPort.saveDiff(oldVersionOpt.get(), newVersion, previous, current));
+        }
+
+        // 서비스 목록의 최신 버전 통계 (같은 트랜잭션)
+        apiServicePort.recordContent(newVersion.getServiceName(), newVersion.getId(),
+                current.getEndpoints().size(), current.getSchemas().size(),
+                diffLog.map(ApiDiffLog::getId).orElse(null));
+
+        // 다음 수집의 직전 모델로 보관 (커밋 후 반영)
+        specSnapshotPort.put(sourceId, newVersion.getId(), current.compact(endPointRes.endpoints()));
+
+        // 조회용 메모리 카탈로그도 커밋 후 교체
+        endpointCatalog.publish(newVersion, endPointRes.endpoints().values());
+
+        return diffLog;
+    }
+}
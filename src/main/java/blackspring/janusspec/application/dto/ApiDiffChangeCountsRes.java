@@ -0,0 +1,14 @@
+package blackspring.janusspec.application.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "변경 타입별 개수")
+public record ApiDiffChangeCountsRes(
+        int addedEndpoints,
+        int removedEndpoints,
+        int updatedEndpoints,
+        int addedSchemas,
+        int removedSchemas,
+        int updatedSchemas
+) {
+}
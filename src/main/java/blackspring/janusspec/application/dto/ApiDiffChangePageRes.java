@@ -0,0 +1,18 @@
+package blackspring.janusspec.application.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "변경 타입별 변경 내역 페이지")
+public record ApiDiffChangePageRes<T>(
+        @Schema(description = "변경 내역 (저장 순)")
+        List<T> items,
+
+        @Schema(description = "다음 페이지 커서 (다음 요청의 after 값, 마지막 페이지면 null)")
+        Long nextCursor,
+
+        @Schema(description = "다음 페이지 존재 여부")
+        boolean hasNext
+) {
+}
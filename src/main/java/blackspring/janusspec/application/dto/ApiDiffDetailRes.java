@@ -2,33 +2,33 @@ package blackspring.janusspec.application.dto;
 
 import io.swagger.v3.oas.annotations.media.Schema;
 
-import java.util.List;
-import java.util.Map;
-
 @Schema(description = "API 변경 상세 정보")
 public record ApiDiffDetailRes(
         @Schema(description = "Diff Log 요약 정보")
         ApiDiffLogSummaryRes summary,
+
+        @Schema(description = "변경 타입별 전체 개수")
+        ApiDiffChangeCountsRes counts,
         
-        @Schema(description = "추가된 엔드포인트 목록")
-        List<ApiEndpointChangeDto> addedEndpoints,
+        @Schema(description = "추가된 엔드포인트 목록 (첫 페이지)")
+        ApiDiffChangePageRes<ApiEndpointChangeDto> addedEndpoints,
         
-        @Schema(description = "삭제된 엔드포인트 목록")
-        List<ApiEndpointChangeDto> removedEndpoints,
+        @Schema(description = "삭제된 엔드포인트 목록 (첫 페이지)")
+        ApiDiffChangePageRes<ApiEndpointChangeDto> removedEndpoints,
         
-        @Schema(description = "수정된 엔드포인트 목록")
-        List<ApiEndpointChangeDto> updatedEndpoints,
+        @Schema(description = "수정된 엔드포인트 목록 (첫 페이지)")
+        ApiDiffChangePageRes<ApiEndpointChangeDto> updatedEndpoints,
         
-        @Schema(description = "추가된 스키마 목록")
-        List<ApiSchemaChangeDto> addedSchemas,
+        @Schema(description = "추가된 스키마 목록 (첫 페이지)")
+        ApiDiffChangePageRes<ApiSchemaChangeDto> addedSchemas,
         
-        @Schema(description = "삭제된 스키마 목록")
-        List<ApiSchemaChangeDto> removedSchemas,
+        @Schema(description = "삭제된 스키마 목록 (첫 페이지)")
+        ApiDiffChangePageRes<ApiSchemaChangeDto> removedSchemas,
         
-        @Schema(description = "수정된 스키마 목록")
-        List<ApiSchemaChangeDto> updatedSchemas,
+        @Schema(description = "수정된 스키마 목록 (첫 페이지)")
+        ApiDiffChangePageRes<ApiSchemaChangeDto> updatedSchemas,
         
-        @Schema(description = "전체 Diff JSON 요약")
+        @Schema(description = "전체 Diff JSON 요약 (includeDiffJson=true 일 때만)")
         String diffJsonSummary
 ) {
 }
@@ -0,0 +1,18 @@
+package blackspring.janusspec.application.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "API 변경 이력 커서 페이지")
+public record ApiDiffLogCursorRes(
+        @Schema(description = "변경 이력 요약 (최신순)")
+        List<ApiDiffLogSummaryRes> items,
+
+        @Schema(description = "다음 페이지 커서 (다음 요청의 before 값, 마지막 페이지면 null)")
+        Long nextCursor,
+
+        @Schema(description = "다음 페이지 존재 여부")
+        boolean hasNext
+) {
+}
@@ -0,0 +1,29 @@
+package blackspring.janusspec.application.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * 엔드포인트 목록 조회 필터 (null 인 조건은 적용하지 않음)
+ */
+public record ApiEndpointFilter(
+        @Schema(description = "경로 접두사", example = "/api/v1/users")
+        String pathPrefix,
+
+        @Schema(description = "HTTP 메서드", example = "GET")
+        String httpMethod,
+
+        @Schema(description = "deprecated 여부")
+        Boolean deprecated,
+
+        @Schema(description = "요청 또는 응답 스키마 이름", example = "UserResponse")
+        String schemaName
+) {
+    public static ApiEndpointFilter none() {
+        return new ApiEndpointFilter(null, null, null, null);
+    }
+
+    // 스펙의 operation 키와 같이 소문자로 저장되어 있으므로 맞춰서 비교
+    public String normalizedHttpMethod() {
+        return httpMethod == null || httpMethod.isBlank() ? null : httpMethod.toLowerCase();
+    }
+}
@@ -0,0 +1,24 @@
+package blackspring.janusspec.application.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "서비스 최신 버전의 엔드포인트")
+public record CatalogEndpointRes(
+        @Schema(description = "서비스명")
+        String serviceName,
+
+        @Schema(description = "버전 ID")
+        Long swaggerVersionId,
+
+        @Schema(description = "버전 태그")
+        String versionTag,
+
+        String path,
+        String httpMethod,
+        String summary,
+        String operationId,
+        boolean deprecated,
+        String requestSchemaName,
+        String responseSchemaName
+) {
+}
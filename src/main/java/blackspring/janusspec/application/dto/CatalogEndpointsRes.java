@@ -0,0 +1,19 @@
+package blackspring.janusspec.application.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+public record CatalogEndpointsRes(
+        List<CatalogEndpointRes> items,
+
+        @Schema(description = "다음 페이지 서비스 커서 (다음 요청의 afterService 값, 마지막 페이지면 null)")
+        String nextService,
+
+        @Schema(description = "다음 페이지 커서 (다음 요청의 after 값, 마지막 페이지면 null)")
+        Long nextCursor,
+
+        @Schema(description = "다음 페이지 존재 여부")
+        boolean hasNext
+) {
+}
@@ -1,12 +1,20 @@
 package blackspring.janusspec.application.dto;
 
+import io.swagger.v3.oas.annotations.media.Schema;
+
 import java.util.List;
 
 public record GetServiceApiPathsRes(
         String serviceName,
         String versionTag,
         Long swaggerVersionId,
-        List<ApiEndpointDto> endpoints
+        List<ApiEndpointDto> endpoints,
+
+        @Schema(description = "다음 페이지 커서 (다음 요청의 after 값, limit 이 없거나 마지막 페이지면 null)")
+        Long nextCursor,
+
+        @Schema(description = "다음 페이지 존재 여부")
+        boolean hasNext
 ) {
 }
 
@@ -0,0 +1,33 @@
+package blackspring.janusspec.application.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.LocalDateTime;
+
+@Schema(description = "비동기 수집 작업 상태")
+public record IngestJobRes(
+        Long jobId,
+
+        @Schema(description = "작업 상태 (PENDING, RUNNING, COMPLETED, FAILED)")
+        String status,
+
+        @Schema(description = "실행 중인 단계 (EXTRACT, ENDPOINTS, SCHEMAS, DIFF), 실행 중이 아니면 null")
+        String stage,
+
+        String serviceName,
+        String url,
+        Long swaggerVersionId,
+        Long oldVersionId,
+
+        @Schema(description = "완료 후 생성된 diff 로그 ID (첫 버전이면 null)")
+        Long apiDiffLogId,
+
+        @Schema(description = "실패 사유 (FAILED 인 경우)")
+        String error,
+
+        int attempts,
+        LocalDateTime createAt,
+        LocalDateTime startedAt,
+        LocalDateTime finishedAt
+) {
+}
@@ -1,7 +1,12 @@
 package blackspring.janusspec.application.dto;
 
+import io.swagger.v3.oas.annotations.media.Schema;
+
 public record SaveSwaggerApiRes(
         String version,
-        String url
+        String url,
+
+        @Schema(description = "이전 수집 이후 변경 없음 여부 (304 또는 동일 해시)")
+        boolean unchanged
 ) {
 }
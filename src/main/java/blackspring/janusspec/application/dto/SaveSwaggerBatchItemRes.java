@@ -0,0 +1,39 @@
+package blackspring.janusspec.application.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "일괄 수집 항목별 결과")
+public record SaveSwaggerBatchItemRes(
+        @Schema(description = "요청한 서비스명")
+        String serviceName,
+
+        @Schema(description = "Swagger API 문서 URL")
+        String url,
+
+        @Schema(description = "처리 결과 (NEW_VERSION, UNCHANGED, ERROR, TIMEOUT: 응답 시간 초과로 결과를 알 수 없으며 반영됐을 수 있음)")
+        String status,
+
+        @Schema(description = "저장된(또는 최신) 버전 ID")
+        String version,
+
+        @Schema(description = "실패 사유 (ERROR, TIMEOUT 인 경우)")
+        String error
+) {
+    public static SaveSwaggerBatchItemRes of(SaveSwaggerApiReq req, SaveSwaggerApiRes res) {
+        return new SaveSwaggerBatchItemRes(
+                req.serviceName(),
+                req.url(),
+                res.unchanged() ? "UNCHANGED" : "NEW_VERSION",
+                res.version(),
+                null
+        );
+    }
+
+    public static SaveSwaggerBatchItemRes error(SaveSwaggerApiReq req, String error) {
+        return new SaveSwaggerBatchItemRes(req.serviceName(), req.url(), "ERROR", null, error);
+    }
+
+    public static SaveSwaggerBatchItemRes timedOut(SaveSwaggerApiReq req, String error) {
+        return new SaveSwaggerBatchItemRes(req.serviceName(), req.url(), "TIMEOUT", null, error);
+    }
+}
@@ -0,0 +1,21 @@
+package blackspring.janusspec.application.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "Swagger API 일괄 수집 결과")
+public record SaveSwaggerBatchRes(
+        @Schema(description = "요청 항목 수")
+        int total,
+
+        @Schema(description = "실패 항목 수")
+        int failed,
+
+        @Schema(description = "시간 초과 항목 수 (반영됐을 수 있으므로 재시도 전 최신 버전 확인)")
+        int timedOut,
+
+        @Schema(description = "요청 순서대로 정렬된 항목별 결과")
+        List<SaveSwaggerBatchItemRes> items
+) {
+}
@@ -0,0 +1,18 @@
+package blackspring.janusspec.application.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "비동기 수집 요청 결과")
+public record SaveSwaggerJobRes(
+        @Schema(description = "엔드포인트/스키마/diff 저장 작업 ID (변경 없으면 null, 변경 없어도 그 버전의 실패한 작업을 다시 시작했으면 그 작업 ID)")
+        Long jobId,
+
+        @Schema(description = "커밋된(또는 최신) 버전 ID")
+        String version,
+
+        String url,
+
+        @Schema(description = "이전 수집 이후 변경 없음 여부 (304 또는 동일 해시)")
+        boolean unchanged
+) {
+}
@@ -0,0 +1,33 @@
+package blackspring.janusspec.application.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.LocalDateTime;
+
+@Schema(description = "수집 중인 서비스 요약")
+public record ServiceSummaryRes(
+        @Schema(description = "서비스명")
+        String serviceName,
+
+        @Schema(description = "최신 버전 ID")
+        Long latestVersionId,
+
+        @Schema(description = "최신 버전 Swagger URL")
+        String swaggerUrl,
+
+        @Schema(description = "최신 버전 태그")
+        String versionTag,
+
+        @Schema(description = "최신 버전 엔드포인트 개수 (비동기 수집 중이면 null)")
+        Integer endpointCount,
+
+        @Schema(description = "최신 버전 스키마 개수 (비동기 수집 중이면 null)")
+        Integer schemaCount,
+
+        @Schema(description = "최신 버전이 바뀐 시간")
+        LocalDateTime lastChangedAt,
+
+        @Schema(description = "최신 버전의 Diff Log ID (첫 버전이면 null)")
+        Long lastDiffLogId
+) {
+}
@@ -0,0 +1,16 @@
+package blackspring.janusspec.application.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "주기 수집 대상 변경 요청")
+public record SwaggerTrackingReq(
+        @Schema(description = "Swagger API 문서 URL", example = "http://localhost:18081/api/v1/users/api-docs", required = true)
+        String url,
+
+        @Schema(description = "서비스 이름", example = "users", required = true)
+        String serviceName,
+
+        @Schema(description = "주기 수집 여부", example = "false", required = true)
+        boolean tracked
+) {
+}
@@ -1,9 +1,21 @@
 package blackspring.janusspec.application.port.apidiff;
 
 import blackspring.janusspec.domain.ApiDiffLog;
+import blackspring.janusspec.domain.SpecSnapshot;
 import blackspring.janusspec.domain.SwaggerVersion;
 
+import java.time.LocalDateTime;
+import java.util.List;
+
 public interface ApiDiffPort {
-    ApiDiffLog saveDiff(SwaggerVersion oldVersion, SwaggerVersion newVersion);
+    /**
+     * 두 버전의 메모리 모델을 비교해 diff 저장 (엔드포인트/스키마를 DB 에서 다시 읽지 않음)
+     */
+    ApiDiffLog saveDiff(SwaggerVersion oldVersion, SwaggerVersion newVersion, SpecSnapshot oldModel, SpecSnapshot newModel);
+
+    /**
+     * 서비스의 최근 변경 감지 시각 (최신순)
+     */
+    List<LocalDateTime> findRecentChangeTimes(String serviceName, int limit);
 }
 
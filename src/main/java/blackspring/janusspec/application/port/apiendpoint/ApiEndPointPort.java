@@ -1,11 +1,30 @@
 package blackspring.janusspec.application.port.apiendpoint;
 
+import blackspring.janusspec.application.dto.ApiEndpointDto;
+import blackspring.janusspec.application.dto.ApiEndpointFilter;
 import blackspring.janusspec.domain.ApiEndpoint;
+import blackspring.janusspec.domain.EndpointSnapshot;
 import blackspring.janusspec.domain.SwaggerVersion;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 public interface ApiEndPointPort {
     ApiEndPointRes save(ApiEndPointReq req);
     List<ApiEndpoint> findBySwaggerVersion(SwaggerVersion swaggerVersion);
+
+    /**
+     * 버전 시점 엔드포인트를 필터와 id 커서로 조회 (limit 0 이하면 전체)
+     */
+    ApiEndpointPage findEndpoints(SwaggerVersion swaggerVersion, ApiEndpointFilter filter, Long after, int limit);
+
+    /**
+     * 버전 시점 엔드포인트를 DB 커서에서 읽는 대로 넘김 (트랜잭션 안에서 호출)
+     */
+    void forEachEndpoint(SwaggerVersion swaggerVersion, ApiEndpointFilter filter, Consumer<ApiEndpointDto> action);
+
+    /**
+     * 버전 시점 전체 엔드포인트를 행 id 와 함께 넘김 (트랜잭션 안에서 호출, contentHash 는 채우지 않음)
+     */
+    void forEachEndpointSnapshot(SwaggerVersion swaggerVersion, Consumer<EndpointSnapshot> action);
 }
@@ -1,7 +1,9 @@
 package blackspring.janusspec.application.port.apiendpoint;
 
-import blackspring.janusspec.domain.SwaggerVersion;
-import blackspring.janusspec.infrastructure.adapter.json.OpenApiSpec;
+import blackspring.janusspec.domain.SpecSnapshot;
 
-public record ApiEndPointReq(String serviceName, Long swaggerVersionId, OpenApiSpec openApiSpec) {
+/**
+ * previous: 직전 버전 모델 (첫 버전이면 null), current: 새 스펙에서 추출한 모델
+ */
+public record ApiEndPointReq(String serviceName, Long swaggerVersionId, Long sourceId, SpecSnapshot previous, SpecSnapshot current) {
 }
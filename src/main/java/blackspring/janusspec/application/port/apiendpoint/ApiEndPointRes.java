@@ -1,4 +1,11 @@
 package blackspring.janusspec.application.port.apiendpoint;
 
-public record ApiEndPointRes (){
+import blackspring.janusspec.domain.EndpointSnapshot;
+
+import java.util.Map;
+
+/**
+ * 새 버전에서 유효한 엔드포인트 (행 id 포함, path:method 기준)
+ */
+public record ApiEndPointRes (Map<String, EndpointSnapshot> endpoints){
 }
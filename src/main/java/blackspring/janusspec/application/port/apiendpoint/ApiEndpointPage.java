@@ -0,0 +1,12 @@
+package blackspring.janusspec.application.port.apiendpoint;
+
+import blackspring.janusspec.application.dto.ApiEndpointDto;
+
+import java.util.List;
+
+public record ApiEndpointPage(
+        List<ApiEndpointDto> endpoints,
+        Long nextCursor,
+        boolean hasNext
+) {
+}
@@ -1,13 +1,13 @@
 package blackspring.janusspec.application.port.apischema;
 
 import blackspring.janusspec.domain.ApiSchema;
+import blackspring.janusspec.domain.SpecSnapshot;
 import blackspring.janusspec.domain.SwaggerVersion;
-import blackspring.janusspec.infrastructure.adapter.json.OpenApiSpec;
 
 import java.util.List;
 
 public interface ApiSchemaPort {
-    void save(SwaggerVersion swaggerVersion, OpenApiSpec openApiSpec);
+    void save(SwaggerVersion swaggerVersion, SpecSnapshot previous, SpecSnapshot current);
     List<ApiSchema> findBySwaggerVersion(SwaggerVersion swaggerVersion);
 }
 
@@ -0,0 +1,21 @@
+package blackspring.janusspec.application.port.apiservice;
+
+import blackspring.janusspec.domain.ApiService;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface ApiServicePort {
+
+    /**
+     * 서비스명 순 전체 목록 (swagger_version 을 읽지 않음)
+     */
+    List<ApiService> findAll();
+
+    Optional<ApiService> findByServiceName(String serviceName);
+
+    /**
+     * 버전 내용 저장 후 엔드포인트/스키마 수와 마지막 diff 를 기록 (버전이 아직 최신일 때만)
+     */
+    void recordContent(String serviceName, Long versionId, int endpointCount, int schemaCount, Long diffLogId);
+}
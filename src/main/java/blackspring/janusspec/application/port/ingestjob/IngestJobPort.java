@@ -0,0 +1,42 @@
+package blackspring.janusspec.application.port.ingestjob;
+
+import blackspring.janusspec.domain.IngestJob;
+import blackspring.janusspec.infrastructure.adapter.json.OpenApiSpec;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface IngestJobPort {
+
+    /**
+     * 대기 작업 생성 (스펙은 gzip 으로 같이 저장)
+     */
+    IngestJob createPending(Long sourceId, String serviceName, String swaggerUrl,
+                            Long swaggerVersionId, Long oldVersionId, OpenApiSpec openApiSpec);
+
+    Optional<IngestJob> findById(Long id);
+
+    /**
+     * 소스의 끝나지 않은(PENDING/RUNNING) 작업 id (생성 순)
+     */
+    List<Long> findUnfinishedIds(String serviceName, String swaggerUrl);
+
+    /**
+     * 끝나지 않은 작업이 있는 소스 (가장 오래된 작업 순, 재시작 후 이어서 처리할 대상)
+     */
+    List<IngestJobSourceKey> findUnfinishedSources();
+
+    /**
+     * 버전의 엔드포인트/스키마 저장이 아직 끝나지 않았는지 (대기/실행 중이거나 실패로 끝난 작업이 있음)
+     */
+    boolean existsIncompleteByVersion(Long swaggerVersionId);
+
+    /**
+     * 버전의 실패로 끝난 작업 (다시 시도할 대상)
+     */
+    Optional<IngestJob> findFailedByVersion(Long swaggerVersionId);
+
+    OpenApiSpec readSpec(IngestJob job);
+
+    void save(IngestJob job);
+}
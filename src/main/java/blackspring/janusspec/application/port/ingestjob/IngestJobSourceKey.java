@@ -0,0 +1,10 @@
+package blackspring.janusspec.application.port.ingestjob;
+
+/**
+ * 작업을 순서대로 처리해야 하는 단위 (서비스명, Swagger URL)
+ */
+public record IngestJobSourceKey(
+        String serviceName,
+        String swaggerUrl
+) {
+}
@@ -5,4 +5,8 @@ import blackspring.janusspec.infrastructure.adapter.json.OpenApiSpec;
 public interface JsonParserPort {
     OpenApiSpec saveApiSpecAll(String urls);
 
+    /**
+     * 저장된 검증자로 조건부 요청을 보내고, 304 이면 파싱 없이 notModified 로 반환합니다.
+     */
+    SwaggerFetchRes fetch(SwaggerFetchReq req);
 }
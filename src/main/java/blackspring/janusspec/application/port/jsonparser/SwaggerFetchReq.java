@@ -0,0 +1,12 @@
+package blackspring.janusspec.application.port.jsonparser;
+
+public record SwaggerFetchReq(
+        String url,
+        String etag,
+        String lastModified,
+        String fingerprint
+) {
+    public static SwaggerFetchReq unconditional(String url) {
+        return new SwaggerFetchReq(url, null, null, null);
+    }
+}
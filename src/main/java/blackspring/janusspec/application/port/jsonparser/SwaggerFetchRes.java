@@ -0,0 +1,19 @@
+package blackspring.janusspec.application.port.jsonparser;
+
+import blackspring.janusspec.infrastructure.adapter.json.OpenApiSpec;
+
+/**
+ * @param notModified 304 응답이거나 원본 바이트 지문이 요청의 지문과 같으면 true (openApiSpec 은 null)
+ * @param fingerprint 응답 원본 바이트의 지문 (304 인 경우 요청 값 그대로)
+ */
+public record SwaggerFetchRes(
+        OpenApiSpec openApiSpec,
+        boolean notModified,
+        String etag,
+        String lastModified,
+        String fingerprint
+) {
+    public static SwaggerFetchRes unchanged(String etag, String lastModified, String fingerprint) {
+        return new SwaggerFetchRes(null, true, etag, lastModified, fingerprint);
+    }
+}
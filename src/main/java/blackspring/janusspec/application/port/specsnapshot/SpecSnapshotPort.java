@@ -0,0 +1,17 @@
+package blackspring.janusspec.application.port.specsnapshot;
+
+import blackspring.janusspec.domain.SpecSnapshot;
+import blackspring.janusspec.domain.SwaggerVersion;
+
+public interface SpecSnapshotPort {
+
+    /**
+     * 소스의 직전 버전 모델 (캐시에 없으면 DB 에서 한 번 만들어 둠)
+     */
+    SpecSnapshot findPrevious(Long sourceId, SwaggerVersion previousVersion);
+
+    /**
+     * 새 버전 모델을 다음 수집의 기준으로 보관 (현재 트랜잭션이 커밋된 뒤에 반영)
+     */
+    void put(Long sourceId, Long swaggerVersionId, SpecSnapshot snapshot);
+}
@@ -0,0 +1,25 @@
+package blackspring.janusspec.application.port.swaggersource;
+
+import blackspring.janusspec.domain.SwaggerSource;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+public interface SwaggerSourcePort {
+    Optional<SwaggerSource> findByServiceNameAndSwaggerUrl(String serviceName, String swaggerUrl);
+    List<SwaggerSource> findDueForPolling(LocalDateTime now, int limit);
+
+    /**
+     * 수집 스케줄 컬럼만 갱신 (수집 중 바뀐 검증자/지문, 추적 여부를 덮지 않음)
+     */
+    void savePollState(SwaggerSource source);
+
+    SwaggerSource saveFetchState(String serviceName, String swaggerUrl, String etag, String lastModified, String fingerprint);
+
+    /**
+     * 주기 수집 대상 여부 변경
+     * @return 소스가 있으면 true
+     */
+    boolean updateTracked(String serviceName, String swaggerUrl, boolean tracked);
+}
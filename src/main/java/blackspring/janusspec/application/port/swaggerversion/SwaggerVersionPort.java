@@ -1,5 +1,6 @@
 package blackspring.janusspec.application.port.swaggerversion;
 
+import blackspring.janusspec.application.dto.GetLatestSwaggerApiRes;
 import blackspring.janusspec.domain.SwaggerVersion;
 
 import java.util.Optional;
@@ -9,4 +10,14 @@ public interface SwaggerVersionPort {
     Optional<SwaggerVersion> findLatest();
     Optional<SwaggerVersion> findLatestByServiceName(String serviceName);
     Optional<SwaggerVersion> findById(Long id);
+    // 최신 버전 id 만 (해시 맵 등 엔티티를 읽지 않음)
+    Optional<Long> findLatestIdByServiceNameAndSwaggerUrl(String serviceName, String swaggerUrl);
+
+    /**
+     * 최신 버전 메타데이터만 조회 (엔티티를 읽지 않음)
+     */
+    Optional<GetLatestSwaggerApiRes> findLatestSummary();
+    Optional<GetLatestSwaggerApiRes> findLatestSummaryByServiceName(String serviceName);
+    // 스냅샷/델타에서 복원한 정규화 paths JSON
+    Optional<String> findRawJson(Long swaggerVersionId);
 }
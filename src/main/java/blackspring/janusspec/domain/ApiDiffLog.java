@@ -2,11 +2,20 @@ package blackspring.janusspec.domain;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.Immutable;
 import org.hibernate.annotations.JdbcTypeCode;
 import org.hibernate.type.SqlTypes;
 
 @Entity
-@Table(name = "api_diff_log")
+@Immutable
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_ONLY)
+@Table(name = "api_diff_log",
+        indexes = {
+                @Index(name = "idx_api_diff_log_service_name", columnList = "service_name, id")
+        })
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
@@ -28,4 +37,37 @@ public class ApiDiffLog extends BaseEntity {
     @JdbcTypeCode(SqlTypes.JSON)
     @Column(columnDefinition = "jsonb")
     private String diffJson;
+
+    // 목록 조회용 요약 (diffJson 을 읽지 않도록 컬럼으로 따로 저장, 이전 행은 백필 전까지 null)
+    @Column(name = "service_name", length = 100)
+    private String serviceName;
+
+    @Column(name = "old_version_tag", length = 50)
+    private String oldVersionTag;
+
+    @Column(name = "new_version_tag", length = 50)
+    private String newVersionTag;
+
+    @Column(name = "added_count")
+    private Integer addedCount;
+
+    @Column(name = "removed_count")
+    private Integer removedCount;
+
+    @Column(name = "updated_count")
+    private Integer updatedCount;
+
+    @Column(name = "total_changes")
+    private Integer totalChanges;
+
+    /**
+     * 요약 JSON 과 엔드포인트 변경 통계 기록 (비교가 끝난 뒤 저장 전에 한 번 호출)
+     */
+    public void recordSummary(String diffJson, int addedCount, int removedCount, int updatedCount) {
+        this.diffJson = diffJson;
+        this.addedCount = addedCount;
+        this.removedCount = removedCount;
+        this.updatedCount = updatedCount;
+        this.totalChanges = addedCount + removedCount + updatedCount;
+    }
 }
@@ -2,19 +2,30 @@ package blackspring.janusspec.domain;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.Immutable;
 import org.hibernate.annotations.JdbcTypeCode;
 import org.hibernate.type.SqlTypes;
 
 @Entity
-@Table(name = "api_diff_schema")
+@Immutable
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_ONLY)
+@Table(name = "api_diff_schema",
+        indexes = {
+                @Index(name = "idx_api_diff_schema_log_type", columnList = "diff_log_id, change_type, id")
+        })
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
 @Builder
 public class ApiDiffSchema {
 
+    // IDENTITY 는 insert 배치를 막으므로 pooled 시퀀스 사용 (50개 단위 선할당)
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "api_diff_schema_seq")
+    @SequenceGenerator(name = "api_diff_schema_seq", sequenceName = "api_diff_schema_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
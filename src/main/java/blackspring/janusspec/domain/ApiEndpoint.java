@@ -8,21 +8,40 @@ import lombok.*;
 import java.util.List;
 
 @Entity
-@Table(name = "api_endpoint")
+@Table(name = "api_endpoint",
+        indexes = {
+                @Index(name = "idx_api_endpoint_version_path", columnList = "swagger_version_id, path"),
+                @Index(name = "idx_api_endpoint_source_valid_to", columnList = "source_id, valid_to_version_id"),
+                // 경로 목록 스키마 이름 필터 (요청/응답 각각)
+                @Index(name = "idx_api_endpoint_source_request_schema", columnList = "source_id, request_schema_name"),
+                @Index(name = "idx_api_endpoint_source_response_schema", columnList = "source_id, response_schema_name")
+        })
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
 public class ApiEndpoint extends BaseEntity {
 
+    // IDENTITY 는 insert 배치를 막으므로 pooled 시퀀스 사용 (50개 단위 선할당)
+    // 블록을 먼저 받은 쪽이 나중에 저장할 수 있어 id 는 생성 순서가 아님 (목록 커서의 안정적인 정렬 키로만 사용)
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "api_endpoint_seq")
+    @SequenceGenerator(name = "api_endpoint_seq", sequenceName = "api_endpoint_seq", allocationSize = 50)
     private Long id;
 
+    // 유효 구간 시작 버전 (이 버전부터 유효)
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "swagger_version_id")
     private SwaggerVersion swaggerVersion;
 
+    // 같은 Swagger 소스의 버전끼리 행을 공유 (null 이면 구간 없이 swaggerVersion 한 버전에만 속한 이전 데이터)
+    @Column(name = "source_id")
+    private Long sourceId;
+
+    // 유효 구간 끝 버전 (이 버전부터 무효, null 이면 최신 버전까지 유효)
+    @Column(name = "valid_to_version_id")
+    private Long validToVersionId;
+
     @Column(length = 500, nullable = false)
     private String path;
 
@@ -43,16 +62,23 @@ public class ApiEndpoint extends BaseEntity {
     @Column(name = "response_schema_name", length = 200)
     private String responseSchemaName;
 
+    // operation 노드의 정규화 해시 (같으면 상세 비교 생략)
+    @Column(name = "content_hash", length = 64)
+    private String contentHash;
+
     public ApiEndpoint saveApiEndPoint(
             SwaggerVersion swaggerVersion,
+            Long sourceId,
             String path,
             String httpMethod,
             String summary,
             String operationId,
             boolean deprecated,
             String requestSchemaName,
-            String responseSchemaName) {
+            String responseSchemaName,
+            String contentHash) {
         this.swaggerVersion = swaggerVersion;
+        this.sourceId = sourceId;
         this.path = path;
         this.httpMethod = httpMethod;
         this.summary = summary;
@@ -60,6 +86,7 @@ public class ApiEndpoint extends BaseEntity {
         this.deprecated = deprecated;
         this.requestSchemaName = requestSchemaName;
         this.responseSchemaName = responseSchemaName;
+        this.contentHash = contentHash;
 
         return this;
     }
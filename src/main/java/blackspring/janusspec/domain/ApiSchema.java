@@ -1,22 +1,30 @@
 package blackspring.janusspec.domain;
 
-import com.fasterxml.jackson.databind.JsonNode;
 import jakarta.persistence.*;
 import lombok.*;
-import org.hibernate.annotations.JdbcTypeCode;
-import org.hibernate.type.SqlTypes;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.Immutable;
 
 @Entity
+@Immutable
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_ONLY)
 @Setter
-@Table(name = "api_schema")
+@Table(name = "api_schema",
+        indexes = {
+                @Index(name = "idx_api_schema_version_name", columnList = "swagger_version_id, name")
+        })
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
 @Builder
 public class ApiSchema extends BaseEntity {
 
+    // IDENTITY 는 insert 배치를 막으므로 pooled 시퀀스 사용 (50개 단위 선할당)
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "api_schema_seq")
+    @SequenceGenerator(name = "api_schema_seq", sequenceName = "api_schema_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -26,11 +34,20 @@ public class ApiSchema extends BaseEntity {
     @Column(length = 200, nullable = false)
     private String name;
 
-    @JdbcTypeCode(SqlTypes.JSON)
-    @Column(columnDefinition = "jsonb")
-    private String rawSchema;
+    // 정규화된 rawSchema 의 해시 (같으면 상세 비교 생략, api_schema_content 의 키)
+    @Column(name = "content_hash", length = 64)
+    private String contentHash;
 
-    @JdbcTypeCode(SqlTypes.JSON)
-    @Column(columnDefinition = "jsonb")
-    private String properties;
+    // 본문은 해시로 공유 저장 (버전마다 jsonb 를 다시 쓰지 않음)
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "content_hash", insertable = false, updatable = false)
+    private ApiSchemaContent content;
+
+    public String getRawSchema() {
+        return content == null ? null : content.getRawSchema();
+    }
+
+    public String getProperties() {
+        return content == null ? null : content.getProperties();
+    }
 }
\ No newline at end of file
@@ -0,0 +1,58 @@
+package blackspring.janusspec.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 수집 중인 서비스 목록과 최신 버전 포인터
+ * 최신 버전 조회가 swagger_version 을 정렬 검색하지 않도록 수집 트랜잭션에서 함께 갱신합니다.
+ * 엔드포인트/스키마 수는 최신 버전 기준이며, 비동기 수집 작업이 끝나기 전에는 null 입니다.
+ */
+@Entity
+@Table(name = "service",
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uk_service_service_name", columnNames = {"service_name"})
+        },
+        indexes = {
+                @Index(name = "idx_service_latest_version", columnList = "latest_version_id")
+        })
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class ApiService extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "service_name", length = 100, nullable = false)
+    private String serviceName;
+
+    @Column(name = "latest_version_id")
+    private Long latestVersionId;
+
+    @Column(name = "swagger_url", length = 500)
+    private String swaggerUrl;
+
+    @Column(name = "version_tag", length = 50)
+    private String versionTag;
+
+    @Column(length = 128)
+    private String hash;
+
+    @Column(name = "endpoint_count")
+    private Integer endpointCount;
+
+    @Column(name = "schema_count")
+    private Integer schemaCount;
+
+    // 최신 버전이 바뀐 시각
+    @Column(name = "last_changed_at")
+    private LocalDateTime lastChangedAt;
+
+    @Column(name = "last_diff_log_id")
+    private Long lastDiffLogId;
+}
@@ -0,0 +1,44 @@
+package blackspring.janusspec.domain;
+
+import lombok.Builder;
+import lombok.Value;
+import lombok.With;
+
+/**
+ * diff 비교용 operation 요약 (엔티티/트리 없이 메모리에 보관)
+ */
+@Value
+@Builder
+public class EndpointSnapshot {
+
+    // api_endpoint 행 id (저장 전에는 null)
+    @With
+    Long id;
+    String path;
+    String httpMethod;
+    String summary;
+    String operationId;
+    boolean deprecated;
+    String requestSchemaName;
+    String responseSchemaName;
+    // operation 노드의 정규화 해시
+    String contentHash;
+
+    public String key() {
+        return path + ":" + httpMethod;
+    }
+
+    public static EndpointSnapshot from(ApiEndpoint endpoint) {
+        return EndpointSnapshot.builder()
+                .id(endpoint.getId())
+                .path(endpoint.getPath())
+                .httpMethod(endpoint.getHttpMethod())
+                .summary(endpoint.getSummary())
+                .operationId(endpoint.getOperationId())
+                .deprecated(endpoint.isDeprecated())
+                .requestSchemaName(endpoint.getRequestSchemaName())
+                .responseSchemaName(endpoint.getResponseSchemaName())
+                .contentHash(endpoint.getContentHash())
+                .build();
+    }
+}
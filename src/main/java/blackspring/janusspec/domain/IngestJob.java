@@ -0,0 +1,137 @@
+package blackspring.janusspec.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 비동기 수집 작업
+ * 버전은 요청 시점에 커밋하고, 엔드포인트/스키마/diff 저장은 이 작업으로 백그라운드에서 처리합니다.
+ * 재시작 후 이어서 처리할 수 있도록 파싱된 스펙을 gzip 으로 같이 보관합니다. (완료 시 비움)
+ * 실패하면 PENDING 으로 되돌려 간격을 늘려 가며 재시도하고, 최대 횟수를 넘기면 FAILED 로 끝냅니다. (스펙은 남겨 다시 시작할 수 있음)
+ */
+@Entity
+@Table(name = "ingest_job",
+        indexes = {
+                @Index(name = "idx_ingest_job_status", columnList = "status, id")
+        })
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class IngestJob extends BaseEntity {
+
+    public enum Status {
+        PENDING, RUNNING, COMPLETED, FAILED
+    }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "source_id", nullable = false)
+    private Long sourceId;
+
+    @Column(name = "service_name", length = 100, nullable = false)
+    private String serviceName;
+
+    @Column(name = "swagger_url", length = 500, nullable = false)
+    private String swaggerUrl;
+
+    @Column(name = "swagger_version_id", nullable = false)
+    private Long swaggerVersionId;
+
+    // 직전 버전 (첫 버전이면 null, diff 없음)
+    @Column(name = "old_version_id")
+    private Long oldVersionId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(length = 20, nullable = false)
+    private Status status;
+
+    // 완료 후 생성된 diff 로그 (diff 가 없으면 null)
+    @Column(name = "api_diff_log_id")
+    private Long apiDiffLogId;
+
+    @Column(length = 1000)
+    private String error;
+
+    private int attempts;
+
+    // 재시도 대기 중이면 다음 실행 가능 시각 (그 전에는 주기 재개에서 건너뜀)
+    @Column(name = "next_attempt_at")
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "started_at")
+    private LocalDateTime startedAt;
+
+    @Column(name = "finished_at")
+    private LocalDateTime finishedAt;
+
+    // gzip 압축된 OpenApiSpec JSON
+    @Column(name = "spec_data", columnDefinition = "bytea")
+    private byte[] specData;
+
+    public static IngestJob pending(Long sourceId, String serviceName, String swaggerUrl,
+                                    Long swaggerVersionId, Long oldVersionId, byte[] specData) {
+        return IngestJob.builder()
+                .sourceId(sourceId)
+                .serviceName(serviceName)
+                .swaggerUrl(swaggerUrl)
+                .swaggerVersionId(swaggerVersionId)
+                .oldVersionId(oldVersionId)
+                .status(Status.PENDING)
+                .specData(specData)
+                .build();
+    }
+
+    public boolean isFinished() {
+        return status == Status.COMPLETED || status == Status.FAILED;
+    }
+
+    public boolean isWaitingForRetry(LocalDateTime now) {
+        return status == Status.PENDING && nextAttemptAt != null && nextAttemptAt.isAfter(now);
+    }
+
+    public void start(LocalDateTime now) {
+        this.status = Status.RUNNING;
+        this.attempts++;
+        this.startedAt = now;
+        this.nextAttemptAt = null;
+    }
+
+    public void complete(Long apiDiffLogId, LocalDateTime now) {
+        this.status = Status.COMPLETED;
+        this.apiDiffLogId = apiDiffLogId;
+        this.error = null;
+        this.finishedAt = now;
+        this.specData = null;
+    }
+
+    public void retryLater(String error, LocalDateTime nextAttemptAt) {
+        this.status = Status.PENDING;
+        this.error = truncate(error);
+        this.nextAttemptAt = nextAttemptAt;
+    }
+
+    public void fail(String error, LocalDateTime now) {
+        this.status = Status.FAILED;
+        this.error = truncate(error);
+        this.finishedAt = now;
+    }
+
+    /**
+     * 실패로 끝난 작업을 처음부터 다시 시도 (같은 내용이 다시 수집됐을 때)
+     */
+    public void rearm() {
+        this.status = Status.PENDING;
+        this.attempts = 0;
+        this.nextAttemptAt = null;
+        this.finishedAt = null;
+    }
+
+    private static String truncate(String error) {
+        return error != null && error.length() > 1000 ? error.substring(0, 1000) : error;
+    }
+}
@@ -0,0 +1,31 @@
+package blackspring.janusspec.domain;
+
+import lombok.Value;
+
+/**
+ * diff 비교용 스키마 요약
+ * 본문은 새로 파싱한 스펙에서만 들고 있고, 캐시에 남기는 이전 버전 모델에서는 해시만 둡니다. (본문은 api_schema_content)
+ */
+@Value
+public class SchemaSnapshot {
+
+    String name;
+    // 정규화된 rawSchema 의 해시 (해시가 없는 이전 데이터는 null)
+    String contentHash;
+    String rawSchema;
+    String properties;
+
+    /**
+     * 해시로 본문을 다시 찾을 수 있으면 본문을 뺀 요약
+     */
+    public SchemaSnapshot compact() {
+        return contentHash == null ? this : new SchemaSnapshot(name, contentHash, null, null);
+    }
+
+    public static SchemaSnapshot from(ApiSchema schema) {
+        // 해시가 있으면 본문은 필요할 때 api_schema_content 에서 읽음
+        return schema.getContentHash() != null
+                ? new SchemaSnapshot(schema.getName(), schema.getContentHash(), null, null)
+                : new SchemaSnapshot(schema.getName(), null, schema.getRawSchema(), schema.getProperties());
+    }
+}
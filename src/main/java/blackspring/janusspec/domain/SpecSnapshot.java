@@ -0,0 +1,130 @@
+package blackspring.janusspec.domain;
+
+import blackspring.janusspec.infrastructure.adapter.json.CanonicalJsonWriter;
+import blackspring.janusspec.infrastructure.adapter.json.OpenApiSpec;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.google.common.hash.Hashing;
+import lombok.Value;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 한 버전의 엔드포인트/스키마 모델
+ * 새 스펙은 파싱 직후 한 번만 추출하고, 저장 후에는 다음 수집의 diff 기준으로 소스별로 캐시합니다.
+ */
+@Value
+public class SpecSnapshot {
+
+    // path:method -> operation
+    Map<String, EndpointSnapshot> endpoints;
+    // 스키마 이름 -> 스키마
+    Map<String, SchemaSnapshot> schemas;
+    // endpoints 가 소스의 열린(valid_to 없는) api_endpoint 행과 일치하고 id 를 가지고 있는지
+    boolean openRows;
+
+    public static SpecSnapshot of(Collection<EndpointSnapshot> endpoints, Collection<SchemaSnapshot> schemas, boolean openRows) {
+        Map<String, EndpointSnapshot> endpointMap = new LinkedHashMap<>();
+        endpoints.forEach(endpoint -> endpointMap.put(endpoint.key(), endpoint));
+        Map<String, SchemaSnapshot> schemaMap = new LinkedHashMap<>();
+        schemas.forEach(schema -> schemaMap.put(schema.getName(), schema));
+        return new SpecSnapshot(endpointMap, schemaMap, openRows);
+    }
+
+    /**
+     * 저장된 행 id 를 가진 엔드포인트와 본문을 뺀 스키마로 된 캐시용 모델
+     */
+    public SpecSnapshot compact(Map<String, EndpointSnapshot> savedEndpoints) {
+        Map<String, SchemaSnapshot> compactSchemas = new LinkedHashMap<>();
+        schemas.forEach((name, schema) -> compactSchemas.put(name, schema.compact()));
+        return new SpecSnapshot(savedEndpoints, compactSchemas, true);
+    }
+
+    /**
+     * 파싱된 스펙에서 엔드포인트와 스키마를 한 번에 추출 (DB 조회 없음)
+     */
+    public static SpecSnapshot extract(OpenApiSpec spec, CanonicalJsonWriter canonicalJsonWriter) {
+        Map<String, EndpointSnapshot> endpoints = new LinkedHashMap<>();
+        JsonNode paths = spec.getPaths();
+        if (paths != null) {
+            Iterator<String> pathNames = paths.fieldNames();
+            while (pathNames.hasNext()) {
+                String path = pathNames.next();
+                JsonNode pathNode = paths.get(path);
+
+                // GET/POST/PUT/DELETE 등 HTTP 메소드 루프
+                Iterator<String> methods = pathNode.fieldNames();
+                while (methods.hasNext()) {
+                    String httpMethod = methods.next();
+                    EndpointSnapshot endpoint = extractEndpoint(path, httpMethod, pathNode.get(httpMethod), canonicalJsonWriter);
+                    endpoints.put(endpoint.key(), endpoint);
+                }
+            }
+        }
+
+        Map<String, SchemaSnapshot> schemas = new LinkedHashMap<>();
+        if (spec.getComponents() != null && spec.getComponents().getSchemas() != null) {
+            JsonNode schemaNodes = spec.getComponents().getSchemas();
+            Iterator<String> schemaNames = schemaNodes.fieldNames();
+            while (schemaNames.hasNext()) {
+                String schemaName = schemaNames.next();
+                JsonNode schemaNode = schemaNodes.get(schemaName);
+
+                // JSON 키 순서를 보장하기 위해 정렬된 형태로 직렬화
+                String rawSchema = canonicalJsonWriter.writeValueAsString(schemaNode);
+                String properties = schemaNode.has("properties")
+                        ? canonicalJsonWriter.writeValueAsString(schemaNode.get("properties"))
+                        : null;
+                // 정규화 문자열의 해시 = SwaggerVersion.schemaHashes 값과 동일
+                String contentHash = Hashing.sha256().hashString(rawSchema, StandardCharsets.UTF_8).toString();
+                schemas.put(schemaName, new SchemaSnapshot(schemaName, contentHash, rawSchema, properties));
+            }
+        }
+
+        return new SpecSnapshot(endpoints, schemas, false);
+    }
+
+    private static EndpointSnapshot extractEndpoint(String path, String httpMethod, JsonNode methodNode,
+                                                    CanonicalJsonWriter canonicalJsonWriter) {
+        // request schema
+        String requestSchemaName = "";
+        JsonNode requestSchemaNode = methodNode
+                .path("requestBody")
+                .path("content")
+                .path("application/json")
+                .path("schema")
+                .path("$ref");
+
+        if (!requestSchemaNode.isMissingNode()) {
+            requestSchemaName = requestSchemaNode.asText("").replace("#/components/schemas/", "");
+        }
+
+        // response schema
+        String responseSchemaName = "";
+        JsonNode responseSchemaNode = methodNode
+                .path("responses")
+                .path("200")
+                .path("content")
+                .path("application/json")
+                .path("schema")
+                .path("$ref");
+
+        if (!responseSchemaNode.isMissingNode()) {
+            responseSchemaName = responseSchemaNode.asText("").replace("#/components/schemas/", "");
+        }
+
+        return EndpointSnapshot.builder()
+                .path(path)
+                .httpMethod(httpMethod)
+                .summary(methodNode.path("summary").asText(""))
+                .operationId(methodNode.path("operationId").asText(""))
+                .deprecated(methodNode.path("deprecated").asBoolean(false))
+                .requestSchemaName(requestSchemaName)
+                .responseSchemaName(responseSchemaName)
+                .contentHash(canonicalJsonWriter.sha256(methodNode))
+                .build();
+    }
+}
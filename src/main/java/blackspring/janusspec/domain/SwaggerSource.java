@@ -0,0 +1,113 @@
+package blackspring.janusspec.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.DynamicUpdate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * 수집 대상 (서비스명, Swagger URL) 등록 정보와 조회 상태
+ * 조건부 요청(If-None-Match / If-Modified-Since)에 사용할 검증자,
+ * 최신 버전 원본 바이트의 지문, 주기 수집 스케줄을 보관합니다.
+ * 수집 저장, 스케줄러, 추적 여부 변경이 같은 행을 쓰므로 바뀐 컬럼만 UPDATE 합니다.
+ */
+@Entity
+@DynamicUpdate
+@Table(name = "swagger_source",
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uk_swagger_source_service_url", columnNames = {"service_name", "swagger_url"})
+        },
+        indexes = {
+                @Index(name = "idx_swagger_source_next_poll", columnList = "tracked, next_poll_at")
+        })
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class SwaggerSource extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "service_name", length = 100, nullable = false)
+    private String serviceName;
+
+    @Column(name = "swagger_url", length = 500, nullable = false)
+    private String swaggerUrl;
+
+    @Column(length = 500)
+    private String etag;
+
+    @Column(name = "last_modified", length = 100)
+    private String lastModified;
+
+    // 최신 버전 응답 원본 바이트의 murmur3_128 지문
+    @Column(length = 64)
+    private String fingerprint;
+
+    // 주기 수집 대상 여부
+    private boolean tracked;
+
+    @Column(name = "poll_interval_seconds")
+    private Long pollIntervalSeconds;
+
+    // null 이면 다음 스케줄 주기에 바로 수집
+    @Column(name = "next_poll_at")
+    private LocalDateTime nextPollAt;
+
+    @Column(name = "last_polled_at")
+    private LocalDateTime lastPolledAt;
+
+    @Column(name = "consecutive_failures")
+    private int consecutiveFailures;
+
+    // 이 URL 의 최신 swagger_version id (직전 버전 조회 시 정렬 검색 대신 사용)
+    @Column(name = "latest_version_id")
+    private Long latestVersionId;
+
+    /**
+     * 응답 검증자나 지문이 달라졌을 때만 갱신합니다.
+     * @return 변경 여부
+     */
+    public boolean updateFetchState(String etag, String lastModified, String fingerprint) {
+        if (Objects.equals(this.etag, etag)
+                && Objects.equals(this.lastModified, lastModified)
+                && Objects.equals(this.fingerprint, fingerprint)) {
+            return false;
+        }
+        this.etag = etag;
+        this.lastModified = lastModified;
+        this.fingerprint = fingerprint;
+        return true;
+    }
+
+    /**
+     * 새 버전 저장 시 같은 트랜잭션에서 최신 버전 포인터를 옮깁니다.
+     */
+    public void pointToLatestVersion(Long versionId) {
+        this.latestVersionId = versionId;
+    }
+
+    /**
+     * 수집 성공: 실패 횟수를 초기화하고 다음 수집 시각을 잡습니다.
+     */
+    public void pollSucceeded(LocalDateTime now, Duration interval, Duration delay) {
+        this.lastPolledAt = now;
+        this.consecutiveFailures = 0;
+        this.pollIntervalSeconds = interval.toSeconds();
+        this.nextPollAt = now.plus(delay);
+    }
+
+    /**
+     * 수집 실패: 실패 횟수를 늘리고 백오프 후 다시 시도합니다.
+     */
+    public void pollFailed(LocalDateTime now, Duration backoff) {
+        this.lastPolledAt = now;
+        this.consecutiveFailures++;
+        this.nextPollAt = now.plus(backoff);
+    }
+}
@@ -1,11 +1,9 @@
 package blackspring.janusspec.domain;
 
+import blackspring.janusspec.infrastructure.adapter.json.CanonicalJsonWriter;
 import blackspring.janusspec.infrastructure.adapter.json.OpenApiSpec;
 import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.node.ArrayNode;
-import com.fasterxml.jackson.databind.node.ObjectNode;
-import com.google.common.hash.Hashing;
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
@@ -13,14 +11,23 @@ import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.Index;
 import jakarta.persistence.Table;
-import java.nio.charset.StandardCharsets;
-import java.util.TreeMap;
+import jakarta.persistence.Transient;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.Immutable;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
 
 @Entity
+@Immutable
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_ONLY)
 @Table(name = "swagger_version",
 	indexes = {
 		@Index(name = "idx_service_url", columnList = "service_name, swagger_url")
@@ -31,6 +38,8 @@ import lombok.NoArgsConstructor;
 @Builder
 public class SwaggerVersion {
 
+	// 행마다 DB 가 발급하므로 버전 생성 순서를 나타냄 (최신 버전 판단, 엔드포인트 유효 구간의 기준)
+	// 같은 소스의 수집은 인스턴스 내 락으로만 직렬화하므로 단일 인스턴스 배포를 전제로 함
 	@Id
 	@GeneratedValue(strategy = GenerationType.IDENTITY)
 	private Long id;
@@ -44,96 +53,76 @@ public class SwaggerVersion {
 	@Column(name = "version_tag", length = 50, nullable = false)
 	private String versionTag;
 
-	@Column(columnDefinition = "TEXT")
+	// 저장 전 정규화 JSON 을 payload 로 넘기기 위한 값 (매핑하지 않아 버전 조회 시 읽지 않음, 본문은 swagger_version_payload)
+	@Transient
 	private String rawJson;
 
 	@Column(length = 128)
 	private String hash;
 
-	public SwaggerVersion saveSwaggerVersion(String serviceName, String swaggerUrl, OpenApiSpec spec, String checkHash) {
-		// JSON 키 순서를 보장하기 위해 정렬된 형태로 직렬화
-		String normalizedPathsJson = null;
+	// 최상위 path 별 정규화 해시 (diff 시 해시가 같은 path 는 건너뜀)
+	@JdbcTypeCode(SqlTypes.JSON)
+	@Column(name = "path_hashes", columnDefinition = "jsonb")
+	private Map<String, String> pathHashes;
 
-		if (spec.getPaths() == null) {
-			normalizedPathsJson = normalizeJsonNode(spec.getTags());
-		} else {
-			normalizedPathsJson = normalizeJsonNode(spec.getPaths());
-		}
+	// schema 별 정규화 해시
+	@JdbcTypeCode(SqlTypes.JSON)
+	@Column(name = "schema_hashes", columnDefinition = "jsonb")
+	private Map<String, String> schemaHashes;
+
+	public SwaggerVersion saveSwaggerVersion(String serviceName, String swaggerUrl, OpenApiSpec spec, String checkHash,
+		CanonicalJsonWriter canonicalJsonWriter) {
+		// paths 가 없으면 tags 로 대체
+		JsonNode pathsNode = spec.getPaths() == null ? spec.getTags() : spec.getPaths();
 
 		// schemas도 hash에 포함
-		String normalizedSchemasJson = "";
+		JsonNode schemasNode = null;
 		if (spec.getComponents() != null && spec.getComponents().getSchemas() != null) {
-			normalizedSchemasJson = normalizeJsonNode(spec.getComponents().getSchemas());
+			schemasNode = spec.getComponents().getSchemas();
 		}
 
-		// paths + schemas를 합쳐서 hash 생성
-		String combinedJson = normalizedPathsJson + normalizedSchemasJson;
-		String hash = Hashing.sha256()
-			.hashString(combinedJson, StandardCharsets.UTF_8)
-			.toString();
+		// 정규화된 paths + schemas 를 이어 붙인 바이트로 hash 생성 (중간 문자열 없이 digest 로 바로 씀)
+		String hash = schemasNode == null
+			? canonicalJsonWriter.sha256(pathsNode)
+			: canonicalJsonWriter.sha256(pathsNode, schemasNode);
 
 		if (hash.equals(checkHash)) {
 			return new SwaggerVersion();
 		}
 
+		// 새 버전일 때만 정규화 문자열 생성
 		SwaggerVersion version = SwaggerVersion.builder()
 			.serviceName(serviceName)
 			.swaggerUrl(swaggerUrl)
 			.versionTag(spec.getInfo().getVersion())
-			.rawJson(normalizedPathsJson)
+			.rawJson(canonicalJsonWriter.writeValueAsString(pathsNode))
 			.hash(hash)
+			.pathHashes(hashChildren(spec.getPaths(), canonicalJsonWriter))
+			.schemaHashes(hashChildren(schemasNode, canonicalJsonWriter))
 			.build();
 
 		return version;
 	}
 
 	/**
-	 * JSON 노드를 정규화하여 키 순서를 보장합니다. 같은 내용이라도 항상 같은 문자열이 되도록 보장합니다. 중첩된 객체도 재귀적으로 정렬합니다.
+	 * 정규화 JSON 을 payload 저장소로 넘기고 엔티티에는 남기지 않습니다.
 	 */
-	private String normalizeJsonNode(JsonNode node) {
-		try {
-			ObjectMapper mapper = new ObjectMapper();
-			JsonNode normalized = normalizeJsonNodeRecursive(node, mapper);
-			return mapper.writeValueAsString(normalized);
-		} catch (Exception e) {
-			// 에러 발생 시 원본 toString 사용
-			return node.toString();
-		}
+	public String detachRawJson() {
+		String detached = this.rawJson;
+		this.rawJson = null;
+		return detached;
 	}
 
 	/**
-	 * JSON 노드를 재귀적으로 정규화합니다.
+	 * 객체 노드의 하위 항목별 정규화 해시 (path 또는 schema 단위)
 	 */
-	private JsonNode normalizeJsonNodeRecursive(JsonNode node, ObjectMapper mapper) {
-		if (node == null || node.isNull()) {
-			return node;
-		}
-
-		if (node.isObject()) {
-			ObjectNode objectNode = (ObjectNode) node;
-			TreeMap<String, JsonNode> sortedMap = new TreeMap<>();
-
-			// 모든 필드를 키 순서대로 정렬
-			objectNode.fields().forEachRemaining(entry -> {
-				// 중첩된 객체도 재귀적으로 정규화
-				JsonNode normalizedValue = normalizeJsonNodeRecursive(entry.getValue(), mapper);
-				sortedMap.put(entry.getKey(), normalizedValue);
-			});
-
-			// 정렬된 Map을 다시 JsonNode로 변환
-			ObjectNode sortedNode = mapper.createObjectNode();
-			sortedMap.forEach(sortedNode::set);
-			return sortedNode;
-		} else if (node.isArray()) {
-			// 배열의 경우 각 요소를 정규화
-			ArrayNode arrayNode = mapper.createArrayNode();
-			node.forEach(element -> {
-				arrayNode.add(normalizeJsonNodeRecursive(element, mapper));
-			});
-			return arrayNode;
-		} else {
-			// 원시 값은 그대로 반환
-			return node;
+	private static Map<String, String> hashChildren(JsonNode node, CanonicalJsonWriter canonicalJsonWriter) {
+		Map<String, String> hashes = new LinkedHashMap<>();
+		if (node == null || !node.isObject()) {
+			return hashes;
 		}
+		node.fields().forEachRemaining(entry ->
+			hashes.put(entry.getKey(), canonicalJsonWriter.sha256(entry.getValue())));
+		return hashes;
 	}
 }
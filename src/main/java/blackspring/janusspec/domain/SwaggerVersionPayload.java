@@ -0,0 +1,52 @@
+package blackspring.janusspec.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.Immutable;
+import org.springframework.data.domain.Persistable;
+
+/**
+ * SwaggerVersion 의 정규화 paths JSON 저장소 (gzip)
+ * N 버전마다 전체 스냅샷을, 그 사이에는 직전 버전 대비 최상위 JSON Patch 만 저장합니다.
+ */
+@Entity
+@Immutable
+@Table(name = "swagger_version_payload")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class SwaggerVersionPayload extends BaseEntity implements Persistable<Long> {
+
+    // SwaggerVersion.id 와 같은 값 (직접 할당)
+    @Id
+    @Column(name = "swagger_version_id")
+    private Long swaggerVersionId;
+
+    // 델타의 기준 버전 (null 이면 스냅샷)
+    @Column(name = "base_version_id")
+    private Long baseVersionId;
+
+    // 마지막 스냅샷 이후 델타 수 (스냅샷은 0)
+    @Column(name = "chain_length", nullable = false)
+    private int chainLength;
+
+    // gzip 압축된 정규화 JSON (스냅샷) 또는 JSON Patch (델타)
+    @Column(columnDefinition = "bytea", nullable = false)
+    private byte[] data;
+
+    public boolean isSnapshot() {
+        return baseVersionId == null;
+    }
+
+    @Override
+    public Long getId() {
+        return swaggerVersionId;
+    }
+
+    // 할당 id 라 save 시 merge(SELECT) 대신 바로 insert 하도록 항상 새 엔티티로 취급 (수정하지 않음)
+    @Override
+    public boolean isNew() {
+        return true;
+    }
+}
@@ -0,0 +1,142 @@
+package blackspring.janusspec.global;
+
+import blackspring.janusspec.domain.ApiDiffEndpoint;
+import blackspring.janusspec.domain.ApiDiffLog;
+import blackspring.janusspec.domain.ApiDiffSchema;
+import blackspring.janusspec.domain.ApiSchema;
+import blackspring.janusspec.domain.ApiSchemaContent;
+import blackspring.janusspec.domain.SwaggerVersion;
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cache.spi.RegionFactory;
+import org.hibernate.cache.spi.entry.CacheEntry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.hibernate.autoconfigure.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import javax.cache.spi.CachingProvider;
+import java.net.URI;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalLong;
+
+/**
+ * Hibernate 2차 캐시 / 쿼리 캐시 (JCache + Caffeine, 프로세스 내)
+ * 한 번 쓰이면 바뀌지 않는 엔티티만 READ_ONLY 로 캐시하고, region 별로 따로 상한을 두어 메모리를 제한합니다.
+ * 본문(JSON/해시 맵)을 들고 있어 항목 크기 차이가 큰 region 은 항목 수 대신 대략적인 크기 합(maximumWeight)으로 제한합니다.
+ * 적중/누락 수는 Hibernate 통계를 통해 Micrometer(hibernate.second.level.cache.*, hibernate.query.cache.*) 로 노출됩니다.
+ */
+@Configuration
+public class SecondLevelCacheConfig {
+
+    // @Cache 를 붙인 엔티티마다 region 하나 (region 이름 = 엔티티 클래스명)
+    @Bean(destroyMethod = "close")
+    public CacheManager hibernateCacheManager(
+            @Value("${janus.second-level-cache.swagger-version-max-size:32MB}") DataSize swaggerVersionMaxSize,
+            @Value("${janus.second-level-cache.schema-content-max-size:64MB}") DataSize schemaContentMaxSize,
+            @Value("${janus.second-level-cache.diff-log-max-size:32MB}") DataSize diffLogMaxSize,
+            @Value("${janus.second-level-cache.schema-max-entries:20000}") long schemaMaxEntries,
+            @Value("${janus.second-level-cache.diff-endpoint-max-entries:20000}") long diffEndpointMaxEntries,
+            @Value("${janus.second-level-cache.diff-schema-max-entries:10000}") long diffSchemaMaxEntries,
+            @Value("${janus.second-level-cache.query-max-entries:2000}") long queryMaxEntries) {
+        CachingProvider provider = Caching.getCachingProvider(CaffeineCachingProvider.class.getName());
+        // 기본 CacheManager 는 JVM 에서 공유되므로 (devtools 재시작 등) 클래스로더별 전용 URI 사용
+        CacheManager cacheManager = provider.getCacheManager(URI.create("janus-hibernate"), getClass().getClassLoader());
+
+        // 버전마다 path/schema 해시 맵, 스키마 본문, diff JSON 을 들고 있는 region
+        createWeighedCache(cacheManager, SwaggerVersion.class.getName(), swaggerVersionMaxSize);
+        createWeighedCache(cacheManager, ApiSchemaContent.class.getName(), schemaContentMaxSize);
+        createWeighedCache(cacheManager, ApiDiffLog.class.getName(), diffLogMaxSize);
+
+        // 짧은 컬럼만 있는 행
+        createCache(cacheManager, ApiSchema.class.getName(), schemaMaxEntries);
+        createCache(cacheManager, ApiDiffEndpoint.class.getName(), diffEndpointMaxEntries);
+        createCache(cacheManager, ApiDiffSchema.class.getName(), diffSchemaMaxEntries);
+
+        createCache(cacheManager, RegionFactory.DEFAULT_QUERY_RESULTS_REGION_UNQUALIFIED_NAME, queryMaxEntries);
+        // 테이블별 마지막 변경 시각 (테이블 수 만큼만 쌓이고, 잘리면 쿼리 캐시가 오래된 결과를 줄 수 있어 제한하지 않음)
+        createCache(cacheManager, RegionFactory.DEFAULT_UPDATE_TIMESTAMPS_REGION_UNQUALIFIED_NAME, -1);
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheCustomizer(CacheManager hibernateCacheManager) {
+        return properties -> properties.put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+    }
+
+    private static void createCache(CacheManager cacheManager, String name, long maxEntries) {
+        if (cacheManager.getCache(name) != null) {
+            return;
+        }
+        CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+        if (maxEntries > 0) {
+            configuration.setMaximumSize(OptionalLong.of(maxEntries));
+        }
+        configuration.setStatisticsEnabled(true);
+        cacheManager.createCache(name, configuration);
+    }
+
+    private static void createWeighedCache(CacheManager cacheManager, String name, DataSize maxSize) {
+        if (cacheManager.getCache(name) != null) {
+            return;
+        }
+        CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+        configuration.setMaximumWeight(OptionalLong.of(maxSize.toBytes()));
+        configuration.setWeigherFactory(Optional.of(() -> (Object key, Object value) -> weigh(value)));
+        configuration.setStatisticsEnabled(true);
+        cacheManager.createCache(name, configuration);
+    }
+
+    /**
+     * 캐시 항목의 대략적인 크기 (바이트)
+     * Hibernate 는 엔티티를 컬럼 값 배열(분해된 상태)로 저장하므로 그 안의 문자열/맵/배열을 따라가며 더함
+     * 객체 헤더는 대략 값으로 두고, 문자열은 Latin-1 (compact string) 기준으로 셈
+     */
+    private static int weigh(Object value) {
+        return (int) Math.min(Integer.MAX_VALUE, estimate(value));
+    }
+
+    private static long estimate(Object value) {
+        if (value == null) {
+            return 0;
+        }
+        if (value instanceof CacheEntry entry) {
+            return 32 + estimate(entry.getDisassembledState());
+        }
+        if (value instanceof CharSequence text) {
+            return 40 + text.length();
+        }
+        if (value instanceof byte[] bytes) {
+            return 16 + bytes.length;
+        }
+        if (value instanceof Object[] array) {
+            long size = 16 + 4L * array.length;
+            for (Object element : array) {
+                size += estimate(element);
+            }
+            return size;
+        }
+        if (value instanceof Map<?, ?> map) {
+            long size = 48;
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                size += 32 + estimate(entry.getKey()) + estimate(entry.getValue());
+            }
+            return size;
+        }
+        if (value instanceof Collection<?> collection) {
+            long size = 40;
+            for (Object element : collection) {
+                size += 8 + estimate(element);
+            }
+            return size;
+        }
+        // 숫자, 날짜 등
+        return 24;
+    }
+}
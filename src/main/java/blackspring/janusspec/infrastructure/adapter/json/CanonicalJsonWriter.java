@@ -0,0 +1,101 @@
+package blackspring.janusspec.infrastructure.adapter.json;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonFactoryBuilder;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SegmentedStringWriter;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.hash.Funnels;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Iterator;
+
+/**
+ * 키를 정렬한 정규화 JSON 을 정렬된 트리를 새로 만들지 않고 JsonGenerator 로 바로 씁니다.
+ * 출력은 기존 TreeMap 재구성 + ObjectMapper.writeValueAsString 방식과 바이트 단위로 같습니다.
+ */
+@Component
+public class CanonicalJsonWriter {
+
+    // 여러 값을 이어 쓸 때 기존 문자열 연결과 같도록 루트 값 구분자(공백)를 쓰지 않음
+    private final JsonFactory jsonFactory = new JsonFactoryBuilder()
+            .rootValueSeparator((String) null)
+            .build();
+    private final ObjectMapper objectMapper = new ObjectMapper(jsonFactory);
+
+    /**
+     * 정규화 JSON 들을 이어 붙인 바이트의 SHA-256 (문자열을 만들지 않고 digest 로 바로 흘려보냄)
+     * null 은 JSON null 로 씁니다.
+     * UTF8JsonGenerator 는 보조 문자(이모지 등)를 서로게이트 쌍 이스케이프로 써서 기존 해시와 달라지므로
+     * 기존과 같은 문자 기반 generator 로 쓰고 UTF-8 인코딩만 스트림에서 처리합니다.
+     */
+    public String sha256(JsonNode... nodes) {
+        Hasher hasher = Hashing.sha256().newHasher();
+        try (Writer out = new OutputStreamWriter(Funnels.asOutputStream(hasher), StandardCharsets.UTF_8);
+             JsonGenerator gen = jsonFactory.createGenerator(out)) {
+            for (JsonNode node : nodes) {
+                writeCanonical(gen, node);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return hasher.hash().toString();
+    }
+
+    /**
+     * 정규화 JSON 문자열
+     * ObjectMapper.writeValueAsString 과 같이 재활용 버퍼 기반 writer 에 써서 StringWriter 확장 복사를 피합니다.
+     */
+    public String writeValueAsString(JsonNode node) {
+        SegmentedStringWriter writer = new SegmentedStringWriter(jsonFactory._getBufferRecycler());
+        try {
+            try (JsonGenerator gen = jsonFactory.createGenerator(writer)) {
+                writeCanonical(gen, node);
+            }
+            return writer.getAndClear();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void writeCanonical(JsonGenerator gen, JsonNode node) throws IOException {
+        if (node == null || node.isNull()) {
+            gen.writeNull();
+        } else if (node.isObject()) {
+            // 필드명만 정렬 (TreeMap 과 같은 String 자연 순서)
+            String[] names = new String[node.size()];
+            Iterator<String> fieldNames = node.fieldNames();
+            for (int i = 0; fieldNames.hasNext(); i++) {
+                names[i] = fieldNames.next();
+            }
+            Arrays.sort(names);
+
+            gen.writeStartObject();
+            for (String name : names) {
+                gen.writeFieldName(name);
+                writeCanonical(gen, node.get(name));
+            }
+            gen.writeEndObject();
+        } else if (node.isArray()) {
+            gen.writeStartArray();
+            for (JsonNode element : node) {
+                writeCanonical(gen, element);
+            }
+            gen.writeEndArray();
+        } else if (node.isBinary() || node.isPojo()) {
+            objectMapper.writeTree(gen, node);
+        } else {
+            // 문자열/숫자/불리언은 SerializerProvider 없이 직접 씀
+            node.serialize(gen, null);
+        }
+    }
+}
@@ -1,37 +1,163 @@
 package blackspring.janusspec.infrastructure.adapter.json;
 
 import blackspring.janusspec.application.port.jsonparser.JsonParserPort;
-import com.fasterxml.jackson.databind.JsonNode;
+import blackspring.janusspec.application.port.jsonparser.SwaggerFetchReq;
+import blackspring.janusspec.application.port.jsonparser.SwaggerFetchRes;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.StreamReadConstraints;
+import com.fasterxml.jackson.core.StreamReadFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.hash.HashFunction;
+import com.google.common.hash.Hashing;
+import com.google.common.hash.HashingInputStream;
+import com.google.common.io.ByteStreams;
+import com.google.common.io.FileBackedOutputStream;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
 
+import java.io.IOException;
 import java.io.InputStream;
+import java.io.UncheckedIOException;
 import java.net.HttpURLConnection;
 import java.net.URL;
+import java.time.Duration;
+import java.util.zip.GZIPInputStream;
 
 @Component
 public class JsonParserAdapter implements JsonParserPort {
 
+    // 원본 바이트 비교용 (보안 해시가 아닌 빠른 비암호화 해시)
+    private static final HashFunction FINGERPRINT = Hashing.murmur3_128();
+
+    private final ObjectMapper objectMapper;
+    private final long maxDocumentSize;
+    // 지문 비교 전 원본을 메모리에 둘 최대 크기 (넘으면 임시 파일)
+    private final int spoolThreshold;
+    private final int connectTimeoutMillis;
+    private final int readTimeoutMillis;
+
+    public JsonParserAdapter(
+            @Value("${janus.fetch.max-document-size:64MB}") DataSize maxDocumentSize,
+            @Value("${janus.fetch.spool-threshold:1MB}") DataSize spoolThreshold,
+            @Value("${janus.fetch.connect-timeout:5s}") Duration connectTimeout,
+            @Value("${janus.fetch.read-timeout:60s}") Duration readTimeout) {
+        this.maxDocumentSize = maxDocumentSize.toBytes();
+        this.spoolThreshold = (int) Math.min(spoolThreshold.toBytes(), Integer.MAX_VALUE);
+        this.connectTimeoutMillis = (int) connectTimeout.toMillis();
+        this.readTimeoutMillis = (int) readTimeout.toMillis();
+
+        // 압축 해제 후 문서 크기를 파서 단계에서 제한 (gzip bomb 방지 포함)
+        JsonFactory jsonFactory = JsonFactory.builder()
+                .streamReadConstraints(StreamReadConstraints.builder()
+                        .maxDocumentLength(this.maxDocumentSize)
+                        .build())
+                // 바인딩 후 남은 바이트까지 지문에 포함하기 위해 스트림은 직접 닫음
+                .disable(StreamReadFeature.AUTO_CLOSE_SOURCE)
+                .build();
+        this.objectMapper = new ObjectMapper(jsonFactory);
+    }
 
     @Override
     public OpenApiSpec saveApiSpecAll(String urls) {
-        System.out.println(urls);
         try {
-            URL url = new URL(urls);
+            return fetch(SwaggerFetchReq.unconditional(urls)).openApiSpec();
+        } catch (Exception e) {
+            e.printStackTrace();
+            return null;
+
+        }
+    }
+
+    @Override
+    public SwaggerFetchRes fetch(SwaggerFetchReq req) {
+        System.out.println(req.url());
+        try {
+            URL url = new URL(req.url());
             HttpURLConnection conn = (HttpURLConnection) url.openConnection();
             conn.setRequestMethod("GET");
+            conn.setRequestProperty("Accept", "application/json");
+            conn.setRequestProperty("Accept-Encoding", "gzip");
+            conn.setConnectTimeout(connectTimeoutMillis);
+            conn.setReadTimeout(readTimeoutMillis);
 
-            InputStream is = conn.getInputStream();
-            ObjectMapper mapper = new ObjectMapper();
-            JsonNode json = mapper.readTree(is);
+            // 이전 응답의 검증자로 조건부 요청
+            if (req.etag() != null) {
+                conn.setRequestProperty("If-None-Match", req.etag());
+            }
+            if (req.lastModified() != null) {
+                conn.setRequestProperty("If-Modified-Since", req.lastModified());
+            }
 
-            OpenApiSpec spec = mapper.readValue(json.toPrettyString(), OpenApiSpec.class);
+            if (conn.getResponseCode() == HttpURLConnection.HTTP_NOT_MODIFIED) {
+                System.out.println("[NOT MODIFIED] " + req.url());
+                return SwaggerFetchRes.unchanged(req.etag(), req.lastModified(), req.fingerprint());
+            }
 
-            return spec;
-        } catch (Exception e) {
-            e.printStackTrace();
-            return null;
+            long contentLength = conn.getContentLengthLong();
+            if (contentLength > maxDocumentSize) {
+                throw new IOException("Swagger 문서 크기 초과: " + contentLength + " bytes (최대 " + maxDocumentSize + " bytes)");
+            }
+
+            String etag = conn.getHeaderField("ETag");
+            String lastModified = conn.getHeaderField("Last-Modified");
+
+            SwaggerFetchRes res = readBody(openBody(conn), etag, lastModified, req.fingerprint());
+            if (res.notModified()) {
+                System.out.println("[SAME FINGERPRINT] " + req.url());
+            }
+            return res;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Swagger 문서 조회 실패: " + req.url(), e);
+        }
+    }
+
+    /**
+     * 응답 본문을 읽으며 원본 바이트 지문을 계산합니다.
+     * 비교할 지문이 없으면 바인딩하면서 지문도 같이 계산하고,
+     * 있으면 원본을 먼저 받아 두었다가 (spoolThreshold 를 넘으면 임시 파일) 지문이 다를 때만 바인딩합니다.
+     * spoolThreshold 보다 큰 문서는 메모리에 복사하지 않습니다.
+     */
+    SwaggerFetchRes readBody(InputStream body, String etag, String lastModified, String knownFingerprint) throws IOException {
+        try (HashingInputStream is = new HashingInputStream(FINGERPRINT, body)) {
+            if (knownFingerprint == null) {
+                OpenApiSpec spec = readSpec(is);
+                ByteStreams.exhaust(is);
+                return new SwaggerFetchRes(spec, false, etag, lastModified, is.hash().toString());
+            }
+
+            FileBackedOutputStream spool = new FileBackedOutputStream(spoolThreshold);
+            try {
+                long size = ByteStreams.copy(ByteStreams.limit(is, maxDocumentSize + 1), spool);
+                if (size > maxDocumentSize) {
+                    throw new IOException("Swagger 문서 크기 초과: 최대 " + maxDocumentSize + " bytes");
+                }
+                String fingerprint = is.hash().toString();
+                if (fingerprint.equals(knownFingerprint)) {
+                    return SwaggerFetchRes.unchanged(etag, lastModified, fingerprint);
+                }
+                try (InputStream spooled = spool.asByteSource().openStream()) {
+                    return new SwaggerFetchRes(readSpec(spooled), false, etag, lastModified, fingerprint);
+                }
+            } finally {
+                // 임시 파일 삭제
+                spool.reset();
+            }
+        }
+    }
+
+    /**
+     * 응답 스트림을 JsonNode 트리나 문자열로 복사하지 않고 OpenApiSpec 으로 한 번에 바인딩합니다.
+     */
+    OpenApiSpec readSpec(InputStream is) throws IOException {
+        return objectMapper.readValue(is, OpenApiSpec.class);
+    }
 
+    private InputStream openBody(HttpURLConnection conn) throws IOException {
+        InputStream is = conn.getInputStream();
+        if ("gzip".equalsIgnoreCase(conn.getContentEncoding())) {
+            return new GZIPInputStream(is);
         }
+        return is;
     }
 }
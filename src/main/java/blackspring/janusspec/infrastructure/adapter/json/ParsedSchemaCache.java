@@ -0,0 +1,65 @@
+package blackspring.janusspec.infrastructure.adapter.json;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.GuavaCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.function.Supplier;
+
+/**
+ * 저장된 스키마 본문(정규화 JSON)을 파싱한 트리를 content hash 기준으로 보관하는 LRU 캐시
+ * 같은 해시는 같은 정규화 문자열이므로 다시 파싱/정렬하지 않고 트리를 공유합니다. (반환 트리는 수정하면 안 됨)
+ * 적중/미스 등은 janus.schema.tree.cache 메트릭으로 노출됩니다.
+ */
+@Component
+public class ParsedSchemaCache {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final Cache<String, JsonNode> cache;
+
+    public ParsedSchemaCache(
+            MeterRegistry meterRegistry,
+            @Value("${janus.schema-cache.max-entries:10000}") long maxEntries) {
+        this.cache = CacheBuilder.newBuilder()
+                .maximumSize(maxEntries)
+                .recordStats()
+                .build();
+        GuavaCacheMetrics.monitor(meterRegistry, cache, "janus.schema.tree.cache");
+    }
+
+    /**
+     * 해시에 해당하는 트리, 없으면 rawSchema 를 읽어 파싱 후 보관
+     * (적중 시에는 rawSchema 를 읽지 않으므로 지연 로딩되는 본문도 조회하지 않음)
+     */
+    public JsonNode get(String contentHash, Supplier<String> rawSchema) {
+        if (contentHash == null) {
+            // 해시가 없는 이전 데이터는 캐시하지 않음
+            return parse(rawSchema.get());
+        }
+
+        JsonNode tree = cache.getIfPresent(contentHash);
+        if (tree == null) {
+            tree = parse(rawSchema.get());
+            cache.put(contentHash, tree);
+        }
+        return tree;
+    }
+
+    private JsonNode parse(String json) {
+        if (json == null || json.isEmpty()) {
+            return objectMapper.missingNode();
+        }
+        try {
+            return objectMapper.readTree(json);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package blackspring.janusspec.infrastructure.adapter.json;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * 최상위 키(path) 단위의 JSON Patch (RFC 6902 의 add / replace / remove 만 사용)
+ * 하위 항목 해시(SwaggerVersion.pathHashes)로 바뀐 키를 찾으므로 이전 문서를 다시 읽지 않습니다.
+ */
+public final class TopLevelJsonPatch {
+
+    private TopLevelJsonPatch() {
+    }
+
+    /**
+     * 이전/새 하위 해시를 비교해 새 문서로 가는 patch 를 만듭니다.
+     */
+    public static ArrayNode diff(Map<String, String> oldHashes, Map<String, String> newHashes, JsonNode newNode) {
+        ArrayNode ops = JsonNodeFactory.instance.arrayNode();
+        newHashes.forEach((key, hash) -> {
+            String oldHash = oldHashes.get(key);
+            if (!Objects.equals(oldHash, hash)) {
+                ops.addObject()
+                        .put("op", oldHash == null ? "add" : "replace")
+                        .put("path", pointer(key))
+                        .set("value", newNode.get(key));
+            }
+        });
+        oldHashes.keySet().forEach(key -> {
+            if (!newHashes.containsKey(key)) {
+                ops.addObject()
+                        .put("op", "remove")
+                        .put("path", pointer(key));
+            }
+        });
+        return ops;
+    }
+
+    public static void apply(ObjectNode target, JsonNode ops) {
+        for (JsonNode op : ops) {
+            String key = unpointer(op.path("path").asText());
+            switch (op.path("op").asText()) {
+                case "add", "replace" -> target.set(key, op.get("value"));
+                case "remove" -> target.remove(key);
+                default -> throw new IllegalArgumentException("지원하지 않는 patch op: " + op.path("op").asText());
+            }
+        }
+    }
+
+    // JSON Pointer 이스케이프 (~ -> ~0, / -> ~1)
+    private static String pointer(String key) {
+        return "/" + key.replace("~", "~0").replace("/", "~1");
+    }
+
+    private static String unpointer(String pointer) {
+        return pointer.substring(1).replace("~1", "/").replace("~0", "~");
+    }
+}
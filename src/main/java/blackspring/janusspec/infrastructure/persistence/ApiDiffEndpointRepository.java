@@ -1,17 +1,37 @@
 package blackspring.janusspec.infrastructure.persistence;
 
+import blackspring.janusspec.application.dto.ApiEndpointChangeDto;
 import blackspring.janusspec.domain.ApiDiffEndpoint;
-import blackspring.janusspec.domain.ApiDiffLog;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import jakarta.persistence.QueryHint;
 import java.util.List;
+import java.util.stream.Stream;
 
 public interface ApiDiffEndpointRepository extends JpaRepository<ApiDiffEndpoint, Long> {
-    
-    // 특정 DiffLog의 모든 엔드포인트 변경 내역 조회
-    List<ApiDiffEndpoint> findByDiffLog(ApiDiffLog diffLog);
-    
-    // 특정 DiffLog의 특정 타입 변경 내역만 조회
-    List<ApiDiffEndpoint> findByDiffLogAndChangeType(ApiDiffLog diffLog, String changeType);
-}
 
+    // 특정 DiffLog의 변경 타입별 개수 (before/after jsonb 는 읽지 않음)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    @Query("SELECT new blackspring.janusspec.infrastructure.persistence.ChangeTypeCount(e.changeType, COUNT(e)) "
+            + "FROM ApiDiffEndpoint e WHERE e.diffLog.id = :diffLogId GROUP BY e.changeType")
+    List<ChangeTypeCount> countByChangeType(@Param("diffLogId") Long diffLogId);
+
+    // 특정 DiffLog의 특정 타입 변경 내역 (id 커서 이후, 저장 순)
+    @Query("SELECT e FROM ApiDiffEndpoint e WHERE e.diffLog.id = :diffLogId AND e.changeType = :changeType AND e.id > :after ORDER BY e.id")
+    List<ApiDiffEndpoint> findByDiffLogAndChangeType(@Param("diffLogId") Long diffLogId,
+                                                     @Param("changeType") String changeType,
+                                                     @Param("after") Long after,
+                                                     Pageable pageable);
+
+    // 스트리밍 응답용 (DB 커서로 조금씩 읽고, DTO 프로젝션이라 영속성 컨텍스트에 쌓이지 않음)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "200"))
+    @Query("SELECT new blackspring.janusspec.application.dto.ApiEndpointChangeDto(e.path, e.httpMethod, e.changeType, e.beforeJson, e.afterJson) "
+            + "FROM ApiDiffEndpoint e WHERE e.diffLog.id = :diffLogId AND e.changeType = :changeType ORDER BY e.id")
+    Stream<ApiEndpointChangeDto> streamByDiffLogAndChangeType(@Param("diffLogId") Long diffLogId,
+                                                              @Param("changeType") String changeType);
+}
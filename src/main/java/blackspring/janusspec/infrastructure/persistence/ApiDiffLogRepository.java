@@ -7,18 +7,39 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface ApiDiffLogRepository extends JpaRepository<ApiDiffLog, Long> {
+
+    String SUMMARY_SELECT = "SELECT new blackspring.janusspec.infrastructure.persistence.ApiDiffLogSummaryRow("
+            + "d.id, d.serviceName, d.oldVersion.id, d.oldVersionTag, d.newVersion.id, d.newVersionTag, "
+            + "d.addedCount, d.removedCount, d.updatedCount, d.totalChanges, d.createAt) FROM ApiDiffLog d ";
+
+    // 최신순으로 전체 요약 조회 (diffJson 은 읽지 않음)
+    @Query(value = SUMMARY_SELECT + "ORDER BY d.id DESC",
+            countQuery = "SELECT COUNT(d) FROM ApiDiffLog d")
+    Page<ApiDiffLogSummaryRow> findSummariesOrderByIdDesc(Pageable pageable);
+
+    // 특정 서비스의 변경 이력 요약 조회
+    @Query(value = SUMMARY_SELECT + "WHERE d.serviceName = :serviceName ORDER BY d.id DESC",
+            countQuery = "SELECT COUNT(d) FROM ApiDiffLog d WHERE d.serviceName = :serviceName")
+    Page<ApiDiffLogSummaryRow> findSummariesByServiceNameOrderByIdDesc(@Param("serviceName") String serviceName, Pageable pageable);
     
-    // 최신순으로 전체 조회
-    Page<ApiDiffLog> findAllByOrderByIdDesc(Pageable pageable);
-    
-    // 특정 서비스의 변경 이력 조회
-    @Query("SELECT d FROM ApiDiffLog d WHERE d.newVersion.serviceName = :serviceName ORDER BY d.id DESC")
-    Page<ApiDiffLog> findByServiceNameOrderByIdDesc(@Param("serviceName") String serviceName, Pageable pageable);
-    
+    // 커서(id) 이전 요약 (PK 인덱스 역순 스캔, count 쿼리 없음)
+    @Query(SUMMARY_SELECT + "WHERE d.id < :before ORDER BY d.id DESC")
+    List<ApiDiffLogSummaryRow> findSummariesBefore(@Param("before") Long before, Pageable pageable);
+
+    // 서비스의 커서(id) 이전 요약 (service_name, id) 인덱스 사용
+    @Query(SUMMARY_SELECT + "WHERE d.serviceName = :serviceName AND d.id < :before ORDER BY d.id DESC")
+    List<ApiDiffLogSummaryRow> findSummariesByServiceNameBefore(@Param("serviceName") String serviceName,
+                                                                @Param("before") Long before, Pageable pageable);
+
     // 최근 N개 조회
     List<ApiDiffLog> findTop10ByOrderByIdDesc();
+
+    // 특정 서비스의 최근 변경 감지 시각 (diffJson 은 읽지 않음)
+    @Query("SELECT d.createAt FROM ApiDiffLog d WHERE d.serviceName = :serviceName ORDER BY d.id DESC")
+    List<LocalDateTime> findRecentCreateAtByServiceName(@Param("serviceName") String serviceName, Pageable pageable);
 }
 
@@ -0,0 +1,21 @@
+package blackspring.janusspec.infrastructure.persistence;
+
+import java.time.LocalDateTime;
+
+/**
+ * 변경 이력 목록 조회용 프로젝션 (diffJson 제외)
+ */
+public record ApiDiffLogSummaryRow(
+        Long id,
+        String serviceName,
+        Long oldVersionId,
+        String oldVersionTag,
+        Long newVersionId,
+        String newVersionTag,
+        Integer addedCount,
+        Integer removedCount,
+        Integer updatedCount,
+        Integer totalChanges,
+        LocalDateTime createAt
+) {
+}
@@ -4,17 +4,20 @@ import blackspring.janusspec.application.port.apidiff.ApiDiffPort;
 import blackspring.janusspec.domain.ApiDiffEndpoint;
 import blackspring.janusspec.domain.ApiDiffLog;
 import blackspring.janusspec.domain.ApiDiffSchema;
-import blackspring.janusspec.domain.ApiEndpoint;
-import blackspring.janusspec.domain.ApiSchema;
+import blackspring.janusspec.domain.ApiSchemaContent;
+import blackspring.janusspec.domain.EndpointSnapshot;
+import blackspring.janusspec.domain.SchemaSnapshot;
+import blackspring.janusspec.domain.SpecSnapshot;
 import blackspring.janusspec.domain.SwaggerVersion;
+import blackspring.janusspec.infrastructure.adapter.json.ParsedSchemaCache;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.node.ObjectNode;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Component;
 
+import java.time.LocalDateTime;
 import java.util.*;
-import java.util.stream.Collectors;
 
 @Component
 @RequiredArgsConstructor
@@ -23,112 +26,108 @@ public class ApiDiffRepoAdapter implements ApiDiffPort {
     private final ApiDiffLogRepository apiDiffLogRepository;
     private final ApiDiffEndpointRepository apiDiffEndpointRepository;
     private final ApiDiffSchemaRepository apiDiffSchemaRepository;
-    private final ApiEndPointRepository apiEndPointRepository;
-    private final ApiSchemaRepository apiSchemaRepository;
+    private final ApiSchemaContentRepository apiSchemaContentRepository;
+    private final ParsedSchemaCache parsedSchemaCache;
     private ObjectMapper objectMapper = new ObjectMapper();
 
     @Override
-    public ApiDiffLog saveDiff(SwaggerVersion oldVersion, SwaggerVersion newVersion) {
-        // 이전 버전과 새 버전의 엔드포인트 가져오기
-        List<ApiEndpoint> oldEndpoints = apiEndPointRepository.findBySwaggerVersion(oldVersion);
-        List<ApiEndpoint> newEndpoints = apiEndPointRepository.findBySwaggerVersion(newVersion);
-
-        // 이전 버전과 새 버전의 스키마 가져오기
-        List<ApiSchema> oldSchemas = apiSchemaRepository.findBySwaggerVersion(oldVersion);
-        List<ApiSchema> newSchemas = apiSchemaRepository.findBySwaggerVersion(newVersion);
-
-        // 엔드포인트 비교
-        Map<String, ApiEndpoint> oldEndpointMap = oldEndpoints.stream()
-                .collect(Collectors.toMap(
-                        e -> e.getPath() + ":" + e.getHttpMethod(),
-                        e -> e
-                ));
-
-        Map<String, ApiEndpoint> newEndpointMap = newEndpoints.stream()
-                .collect(Collectors.toMap(
-                        e -> e.getPath() + ":" + e.getHttpMethod(),
-                        e -> e
-                ));
-
-        // 스키마 비교
-        Map<String, ApiSchema> oldSchemaMap = oldSchemas.stream()
-                .collect(Collectors.toMap(
-                        ApiSchema::getName,
-                        s -> s
-                ));
-
-        Map<String, ApiSchema> newSchemaMap = newSchemas.stream()
-                .collect(Collectors.toMap(
-                        ApiSchema::getName,
-                        s -> s
-                ));
+    public ApiDiffLog saveDiff(SwaggerVersion oldVersion, SwaggerVersion newVersion, SpecSnapshot oldModel, SpecSnapshot newModel) {
+        // 두 버전 모두 메모리 모델에서 비교 (엔드포인트/스키마 행을 다시 읽지 않음)
+        Map<String, EndpointSnapshot> oldEndpointMap = oldModel.getEndpoints();
+        Map<String, EndpointSnapshot> newEndpointMap = newModel.getEndpoints();
+        Map<String, SchemaSnapshot> oldSchemaMap = oldModel.getSchemas();
+        Map<String, SchemaSnapshot> newSchemaMap = newModel.getSchemas();
 
         // 통계 정보 수집
         int addedCount = 0;
         int removedCount = 0;
         int updatedCount = 0;
 
-        // ApiDiffLog 생성 (통계 포함)
+        // ApiDiffLog 생성 (요약과 통계는 비교가 끝난 뒤 기록)
         ApiDiffLog diffLog = ApiDiffLog.builder()
                 .oldVersion(oldVersion)
                 .newVersion(newVersion)
-                .diffJson(createDiffSummary(oldVersion, newVersion, oldEndpointMap, newEndpointMap, oldSchemaMap, newSchemaMap))
+                .serviceName(newVersion.getServiceName())
+                .oldVersionTag(oldVersion.getVersionTag())
+                .newVersionTag(newVersion.getVersionTag())
                 .build();
 
-        ApiDiffLog savedDiffLog = apiDiffLogRepository.save(diffLog);
+        // 변경 행은 모아서 한 번에 저장 (JDBC batch insert)
+        List<ApiDiffEndpoint> diffEndpoints = new ArrayList<>();
+        List<ApiDiffSchema> diffSchemas = new ArrayList<>();
+
+        // diffJson 요약용 목록 (비교하면서 같이 모음)
+        List<String> addedPaths = new ArrayList<>();
+        List<String> removedPaths = new ArrayList<>();
+        List<Map<String, Object>> updatedDetails = new ArrayList<>();
+        List<String> addedSchemas = new ArrayList<>();
+        List<String> removedSchemas = new ArrayList<>();
+        List<String> updatedSchemas = new ArrayList<>();
 
         // ADDED: 새 버전에만 있는 엔드포인트
-        for (Map.Entry<String, ApiEndpoint> entry : newEndpointMap.entrySet()) {
+        for (Map.Entry<String, EndpointSnapshot> entry : newEndpointMap.entrySet()) {
             if (!oldEndpointMap.containsKey(entry.getKey())) {
-                ApiEndpoint newEndpoint = entry.getValue();
+                EndpointSnapshot newEndpoint = entry.getValue();
                 ApiDiffEndpoint diffEndpoint = ApiDiffEndpoint.builder()
-                        .diffLog(savedDiffLog)
+                        .diffLog(diffLog)
                         .path(newEndpoint.getPath())
                         .httpMethod(newEndpoint.getHttpMethod())
                         .changeType("ADDED")
                         .beforeJson(null)
                         .afterJson(endpointToJson(newEndpoint, null))
                         .build();
-                apiDiffEndpointRepository.save(diffEndpoint);
+                diffEndpoints.add(diffEndpoint);
+                addedPaths.add(endpointLabel(newEndpoint));
                 addedCount++;
             }
         }
 
         // REMOVED: 이전 버전에만 있는 엔드포인트
-        for (Map.Entry<String, ApiEndpoint> entry : oldEndpointMap.entrySet()) {
+        for (Map.Entry<String, EndpointSnapshot> entry : oldEndpointMap.entrySet()) {
             if (!newEndpointMap.containsKey(entry.getKey())) {
-                ApiEndpoint oldEndpoint = entry.getValue();
+                EndpointSnapshot oldEndpoint = entry.getValue();
                 ApiDiffEndpoint diffEndpoint = ApiDiffEndpoint.builder()
-                        .diffLog(savedDiffLog)
+                        .diffLog(diffLog)
                         .path(oldEndpoint.getPath())
                         .httpMethod(oldEndpoint.getHttpMethod())
                         .changeType("REMOVED")
                         .beforeJson(endpointToJson(oldEndpoint, null))
                         .afterJson(null)
                         .build();
-                apiDiffEndpointRepository.save(diffEndpoint);
+                diffEndpoints.add(diffEndpoint);
+                removedPaths.add(endpointLabel(oldEndpoint));
                 removedCount++;
             }
         }
 
         // UPDATED: 양쪽 모두에 있지만 내용이 다른 엔드포인트
-        for (Map.Entry<String, ApiEndpoint> entry : oldEndpointMap.entrySet()) {
+        for (Map.Entry<String, EndpointSnapshot> entry : oldEndpointMap.entrySet()) {
             if (newEndpointMap.containsKey(entry.getKey())) {
-                ApiEndpoint oldEndpoint = entry.getValue();
-                ApiEndpoint newEndpoint = newEndpointMap.get(entry.getKey());
-                
+                EndpointSnapshot oldEndpoint = entry.getValue();
+                EndpointSnapshot newEndpoint = newEndpointMap.get(entry.getKey());
+                if (isSameContent(oldEndpoint.getContentHash(), newEndpoint.getContentHash())) {
+                    continue;
+                }
+
                 Map<String, Map<String, String>> fieldChanges = getDetailedFieldChanges(oldEndpoint, newEndpoint);
                 if (!fieldChanges.isEmpty()) {
                     ApiDiffEndpoint diffEndpoint = ApiDiffEndpoint.builder()
-                            .diffLog(savedDiffLog)
+                            .diffLog(diffLog)
                             .path(newEndpoint.getPath())
                             .httpMethod(newEndpoint.getHttpMethod())
                             .changeType("UPDATED")
                             .beforeJson(createDetailedBeforeJson(oldEndpoint, fieldChanges))
                             .afterJson(createDetailedAfterJson(newEndpoint, fieldChanges))
                             .build();
-                    apiDiffEndpointRepository.save(diffEndpoint);
+                    diffEndpoints.add(diffEndpoint);
                     updatedCount++;
+
+                    // 변경 상세 정보
+                    Map<String, Object> detail = new LinkedHashMap<>();
+                    detail.put("path", newEndpoint.getPath());
+                    detail.put("method", newEndpoint.getHttpMethod());
+                    detail.put("changes", fieldChanges);
+                    updatedDetails.add(detail);
                 }
             }
         }
@@ -139,67 +138,76 @@ public class ApiDiffRepoAdapter implements ApiDiffPort {
         int schemaUpdatedCount = 0;
 
         // ADDED: 새 버전에만 있는 스키마
-        for (Map.Entry<String, ApiSchema> entry : newSchemaMap.entrySet()) {
+        for (Map.Entry<String, SchemaSnapshot> entry : newSchemaMap.entrySet()) {
             if (!oldSchemaMap.containsKey(entry.getKey())) {
-                ApiSchema newSchema = entry.getValue();
+                SchemaSnapshot newSchema = entry.getValue();
                 ApiDiffSchema diffSchema = ApiDiffSchema.builder()
-                        .diffLog(savedDiffLog)
+                        .diffLog(diffLog)
                         .schemaName(newSchema.getName())
                         .changeType("ADDED")
                         .beforeJson(null)
-                        .afterJson(newSchema.getRawSchema())
+                        .afterJson(rawSchema(newSchema))
                         .build();
-                apiDiffSchemaRepository.save(diffSchema);
+                diffSchemas.add(diffSchema);
+                addedSchemas.add(entry.getKey());
                 schemaAddedCount++;
                 System.out.println("[SCHEMA ADDED] " + entry.getKey());
             }
         }
 
         // REMOVED: 이전 버전에만 있는 스키마
-        for (Map.Entry<String, ApiSchema> entry : oldSchemaMap.entrySet()) {
+        for (Map.Entry<String, SchemaSnapshot> entry : oldSchemaMap.entrySet()) {
             if (!newSchemaMap.containsKey(entry.getKey())) {
-                ApiSchema oldSchema = entry.getValue();
+                SchemaSnapshot oldSchema = entry.getValue();
                 ApiDiffSchema diffSchema = ApiDiffSchema.builder()
-                        .diffLog(savedDiffLog)
+                        .diffLog(diffLog)
                         .schemaName(oldSchema.getName())
                         .changeType("REMOVED")
-                        .beforeJson(oldSchema.getRawSchema())
+                        .beforeJson(rawSchema(oldSchema))
                         .afterJson(null)
                         .build();
-                apiDiffSchemaRepository.save(diffSchema);
+                diffSchemas.add(diffSchema);
+                removedSchemas.add(entry.getKey());
                 schemaRemovedCount++;
                 System.out.println("[SCHEMA REMOVED] " + entry.getKey());
             }
         }
 
         // UPDATED: 양쪽 모두에 있지만 내용이 다른 스키마
-        for (Map.Entry<String, ApiSchema> entry : oldSchemaMap.entrySet()) {
+        for (Map.Entry<String, SchemaSnapshot> entry : oldSchemaMap.entrySet()) {
             if (newSchemaMap.containsKey(entry.getKey())) {
-                ApiSchema oldSchema = entry.getValue();
-                ApiSchema newSchema = newSchemaMap.get(entry.getKey());
-                
-                // 정규화된 rawSchema로 비교 (순서 무관하게 비교)
-                String normalizedOldSchema = normalizeSchemaJson(oldSchema.getRawSchema());
-                String normalizedNewSchema = normalizeSchemaJson(newSchema.getRawSchema());
-                
-                if (!Objects.equals(normalizedOldSchema, normalizedNewSchema)) {
+                SchemaSnapshot oldSchema = entry.getValue();
+                SchemaSnapshot newSchema = newSchemaMap.get(entry.getKey());
+
+                if (isSchemaChanged(oldSchema, newSchema)) {
                     // Schema 변경 상세 정보 추출
                     Map<String, Map<String, String>> schemaFieldChanges = getDetailedSchemaChanges(oldSchema, newSchema);
                     
                     ApiDiffSchema diffSchema = ApiDiffSchema.builder()
-                            .diffLog(savedDiffLog)
+                            .diffLog(diffLog)
                             .schemaName(newSchema.getName())
                             .changeType("UPDATED")
                             .beforeJson(createDetailedSchemaBeforeJson(oldSchema, schemaFieldChanges))
                             .afterJson(createDetailedSchemaAfterJson(newSchema, schemaFieldChanges))
                             .build();
-                    apiDiffSchemaRepository.save(diffSchema);
+                    diffSchemas.add(diffSchema);
+                    updatedSchemas.add(entry.getKey());
                     schemaUpdatedCount++;
                     System.out.println("[SCHEMA UPDATED] " + entry.getKey());
                 }
             }
         }
 
+        // 요약 JSON 과 요약 컬럼은 위에서 센 값으로 한 번에 기록하고 insert 한 번에 같이 저장
+        diffLog.recordSummary(
+                createDiffSummary(oldVersion, newVersion, oldModel, newModel, addedPaths, removedPaths, updatedDetails,
+                        addedSchemas, removedSchemas, updatedSchemas),
+                addedCount, removedCount, updatedCount);
+        ApiDiffLog savedDiffLog = apiDiffLogRepository.save(diffLog);
+
+        apiDiffEndpointRepository.saveAll(diffEndpoints);
+        apiDiffSchemaRepository.saveAll(diffSchemas);
+
         // 상세 로그 출력
         System.out.println("\n========================================");
         System.out.println("📊 API 변경 감지 완료!");
@@ -216,11 +224,31 @@ public class ApiDiffRepoAdapter implements ApiDiffPort {
         return savedDiffLog;
     }
 
+    /**
+     * 양쪽 모두 해시가 있고 같으면 내용이 같은 것으로 봄
+     */
+    private boolean isSameContent(String oldHash, String newHash) {
+        return oldHash != null && oldHash.equals(newHash);
+    }
+
+    private boolean isSchemaChanged(SchemaSnapshot oldSchema, SchemaSnapshot newSchema) {
+        if (oldSchema.getContentHash() != null && newSchema.getContentHash() != null) {
+            return !oldSchema.getContentHash().equals(newSchema.getContentHash());
+        }
+        // 해시가 없는 이전 데이터는 파싱한 트리로 비교 (ObjectNode 비교는 키 순서 무관)
+        return !Objects.equals(schemaTree(oldSchema), schemaTree(newSchema));
+    }
+
+    @Override
+    public List<LocalDateTime> findRecentChangeTimes(String serviceName, int limit) {
+        return apiDiffLogRepository.findRecentCreateAtByServiceName(serviceName, PageRequest.of(0, limit));
+    }
+
     /**
      * 두 엔드포인트를 비교하여 변경된 필드의 상세 정보 반환
      * Map<필드명, Map<"before"/"after", 값>>
      */
-    private Map<String, Map<String, String>> getDetailedFieldChanges(ApiEndpoint oldEndpoint, ApiEndpoint newEndpoint) {
+    private Map<String, Map<String, String>> getDetailedFieldChanges(EndpointSnapshot oldEndpoint, EndpointSnapshot newEndpoint) {
         Map<String, Map<String, String>> changes = new LinkedHashMap<>();
         
         if (!Objects.equals(oldEndpoint.getSummary(), newEndpoint.getSummary())) {
@@ -264,7 +292,7 @@ public class ApiDiffRepoAdapter implements ApiDiffPort {
     /**
      * 변경 전 상세 JSON 생성 (변경된 필드만 강조)
      */
-    private String createDetailedBeforeJson(ApiEndpoint endpoint, Map<String, Map<String, String>> fieldChanges) {
+    private String createDetailedBeforeJson(EndpointSnapshot endpoint, Map<String, Map<String, String>> fieldChanges) {
         try {
             Map<String, Object> data = new LinkedHashMap<>();
             data.put("path", endpoint.getPath());
@@ -293,7 +321,7 @@ public class ApiDiffRepoAdapter implements ApiDiffPort {
     /**
      * 변경 후 상세 JSON 생성 (변경된 필드만 강조)
      */
-    private String createDetailedAfterJson(ApiEndpoint endpoint, Map<String, Map<String, String>> fieldChanges) {
+    private String createDetailedAfterJson(EndpointSnapshot endpoint, Map<String, Map<String, String>> fieldChanges) {
         try {
             Map<String, Object> data = new LinkedHashMap<>();
             data.put("path", endpoint.getPath());
@@ -322,14 +350,14 @@ public class ApiDiffRepoAdapter implements ApiDiffPort {
     /**
      * 두 엔드포인트를 비교하여 변경된 필드 목록 반환 (통계용)
      */
-    private List<String> getChangedFields(ApiEndpoint oldEndpoint, ApiEndpoint newEndpoint) {
+    private List<String> getChangedFields(EndpointSnapshot oldEndpoint, EndpointSnapshot newEndpoint) {
         return new ArrayList<>(getDetailedFieldChanges(oldEndpoint, newEndpoint).keySet());
     }
 
     /**
      * 엔드포인트를 간단한 JSON으로 변환 (ADDED/REMOVED용)
      */
-    private String endpointToJson(ApiEndpoint endpoint, List<String> changedFields) {
+    private String endpointToJson(EndpointSnapshot endpoint, List<String> changedFields) {
         try {
             Map<String, Object> endpointData = new LinkedHashMap<>();
             endpointData.put("path", endpoint.getPath());
@@ -349,16 +377,13 @@ public class ApiDiffRepoAdapter implements ApiDiffPort {
     /**
      * 두 스키마를 비교하여 변경된 필드의 상세 정보 반환
      */
-    private Map<String, Map<String, String>> getDetailedSchemaChanges(ApiSchema oldSchema, ApiSchema newSchema) {
+    private Map<String, Map<String, String>> getDetailedSchemaChanges(SchemaSnapshot oldSchema, SchemaSnapshot newSchema) {
         Map<String, Map<String, String>> changes = new LinkedHashMap<>();
         
         try {
-            // 정규화된 JSON으로 파싱하여 비교
-            String normalizedOld = normalizeSchemaJson(oldSchema.getRawSchema());
-            String normalizedNew = normalizeSchemaJson(newSchema.getRawSchema());
-            
-            JsonNode oldJson = objectMapper.readTree(normalizedOld);
-            JsonNode newJson = objectMapper.readTree(normalizedNew);
+            // 저장 시 이미 정규화된 본문이므로 캐시된 트리를 그대로 비교
+            JsonNode oldJson = schemaTree(oldSchema);
+            JsonNode newJson = schemaTree(newSchema);
             
             // type 변경 감지
             if (oldJson.has("type") && newJson.has("type")) {
@@ -424,10 +449,10 @@ public class ApiDiffRepoAdapter implements ApiDiffPort {
             
         } catch (Exception e) {
             // JSON 파싱 실패 시 전체 스키마 비교
-            if (!Objects.equals(oldSchema.getRawSchema(), newSchema.getRawSchema())) {
+            if (!Objects.equals(rawSchema(oldSchema), rawSchema(newSchema))) {
                 Map<String, String> change = new LinkedHashMap<>();
-                change.put("before", oldSchema.getRawSchema());
-                change.put("after", newSchema.getRawSchema());
+                change.put("before", rawSchema(oldSchema));
+                change.put("after", rawSchema(newSchema));
                 changes.put("rawSchema", change);
             }
         }
@@ -438,11 +463,11 @@ public class ApiDiffRepoAdapter implements ApiDiffPort {
     /**
      * 변경 전 Schema 상세 JSON 생성
      */
-    private String createDetailedSchemaBeforeJson(ApiSchema schema, Map<String, Map<String, String>> fieldChanges) {
+    private String createDetailedSchemaBeforeJson(SchemaSnapshot schema, Map<String, Map<String, String>> fieldChanges) {
         try {
             Map<String, Object> data = new LinkedHashMap<>();
             data.put("name", schema.getName());
-            data.put("rawSchema", schema.getRawSchema());
+            data.put("rawSchema", rawSchema(schema));
             
             // 변경된 필드 상세 정보
             if (!fieldChanges.isEmpty()) {
@@ -456,18 +481,18 @@ public class ApiDiffRepoAdapter implements ApiDiffPort {
             
             return objectMapper.writeValueAsString(data);
         } catch (Exception e) {
-            return schema.getRawSchema();
+            return rawSchema(schema);
         }
     }
     
     /**
      * 변경 후 Schema 상세 JSON 생성
      */
-    private String createDetailedSchemaAfterJson(ApiSchema schema, Map<String, Map<String, String>> fieldChanges) {
+    private String createDetailedSchemaAfterJson(SchemaSnapshot schema, Map<String, Map<String, String>> fieldChanges) {
         try {
             Map<String, Object> data = new LinkedHashMap<>();
             data.put("name", schema.getName());
-            data.put("rawSchema", schema.getRawSchema());
+            data.put("rawSchema", rawSchema(schema));
             
             // 변경된 필드 상세 정보
             if (!fieldChanges.isEmpty()) {
@@ -481,16 +506,18 @@ public class ApiDiffRepoAdapter implements ApiDiffPort {
             
             return objectMapper.writeValueAsString(data);
         } catch (Exception e) {
-            return schema.getRawSchema();
+            return rawSchema(schema);
         }
     }
 
     /**
      * Diff 요약 정보 생성 (통계 포함)
+     * saveDiff 가 비교하면서 모은 목록으로 만들고, 통계는 그 목록의 크기 (다시 비교하지 않음)
      */
-    private String createDiffSummary(SwaggerVersion oldVersion, SwaggerVersion newVersion, 
-                                     Map<String, ApiEndpoint> oldEndpointMap, Map<String, ApiEndpoint> newEndpointMap,
-                                     Map<String, ApiSchema> oldSchemaMap, Map<String, ApiSchema> newSchemaMap) {
+    private String createDiffSummary(SwaggerVersion oldVersion, SwaggerVersion newVersion,
+                                     SpecSnapshot oldModel, SpecSnapshot newModel,
+                                     List<String> addedPaths, List<String> removedPaths, List<Map<String, Object>> updatedDetails,
+                                     List<String> addedSchemas, List<String> removedSchemas, List<String> updatedSchemas) {
         try {
             Map<String, Object> summary = new LinkedHashMap<>();
             summary.put("oldVersionId", oldVersion.getId());
@@ -498,119 +525,14 @@ public class ApiDiffRepoAdapter implements ApiDiffPort {
             summary.put("oldVersionTag", oldVersion.getVersionTag());
             summary.put("newVersionTag", newVersion.getVersionTag());
             summary.put("serviceName", newVersion.getServiceName());
-            
-            // 통계 정보
-            int addedCount = 0;
-            int removedCount = 0;
-            int updatedCount = 0;
-            
-            // ADDED 계산
-            for (String key : newEndpointMap.keySet()) {
-                if (!oldEndpointMap.containsKey(key)) {
-                    addedCount++;
-                }
-            }
-            
-            // REMOVED 계산
-            for (String key : oldEndpointMap.keySet()) {
-                if (!newEndpointMap.containsKey(key)) {
-                    removedCount++;
-                }
-            }
-            
-            // UPDATED 계산 및 상세 정보 수집
-            List<Map<String, Object>> updatedDetails = new ArrayList<>();
-            for (String key : oldEndpointMap.keySet()) {
-                if (newEndpointMap.containsKey(key)) {
-                    ApiEndpoint oldEndpoint = oldEndpointMap.get(key);
-                    ApiEndpoint newEndpoint = newEndpointMap.get(key);
-                    Map<String, Map<String, String>> fieldChanges = getDetailedFieldChanges(oldEndpoint, newEndpoint);
-                    if (!fieldChanges.isEmpty()) {
-                        updatedCount++;
-                        
-                        // 변경 상세 정보
-                        Map<String, Object> detail = new LinkedHashMap<>();
-                        detail.put("path", newEndpoint.getPath());
-                        detail.put("method", newEndpoint.getHttpMethod());
-                        detail.put("changes", fieldChanges);
-                        updatedDetails.add(detail);
-                    }
-                }
-            }
-            
-            // 추가된 엔드포인트 목록
-            List<String> addedPaths = new ArrayList<>();
-            for (String key : newEndpointMap.keySet()) {
-                if (!oldEndpointMap.containsKey(key)) {
-                    ApiEndpoint endpoint = newEndpointMap.get(key);
-                    addedPaths.add(endpoint.getHttpMethod().toUpperCase() + " " + endpoint.getPath());
-                }
-            }
-            
-            // 삭제된 엔드포인트 목록
-            List<String> removedPaths = new ArrayList<>();
-            for (String key : oldEndpointMap.keySet()) {
-                if (!newEndpointMap.containsKey(key)) {
-                    ApiEndpoint endpoint = oldEndpointMap.get(key);
-                    removedPaths.add(endpoint.getHttpMethod().toUpperCase() + " " + endpoint.getPath());
-                }
-            }
-            
-            // Schema 통계 계산
-            int schemaAddedCount = 0;
-            int schemaRemovedCount = 0;
-            int schemaUpdatedCount = 0;
-            List<String> addedSchemas = new ArrayList<>();
-            List<String> removedSchemas = new ArrayList<>();
-            List<String> updatedSchemas = new ArrayList<>();
-            
-            // ADDED Schema 계산
-            for (String key : newSchemaMap.keySet()) {
-                if (!oldSchemaMap.containsKey(key)) {
-                    schemaAddedCount++;
-                    addedSchemas.add(key);
-                }
-            }
-            
-            // REMOVED Schema 계산
-            for (String key : oldSchemaMap.keySet()) {
-                if (!newSchemaMap.containsKey(key)) {
-                    schemaRemovedCount++;
-                    removedSchemas.add(key);
-                }
-            }
-            
-            // UPDATED Schema 계산
-            for (String key : oldSchemaMap.keySet()) {
-                if (newSchemaMap.containsKey(key)) {
-                    ApiSchema oldSchema = oldSchemaMap.get(key);
-                    ApiSchema newSchema = newSchemaMap.get(key);
-                    if (!Objects.equals(oldSchema.getRawSchema(), newSchema.getRawSchema())) {
-                        schemaUpdatedCount++;
-                        updatedSchemas.add(key);
-                    }
-                }
-            }
-            
-            Map<String, Integer> statistics = new LinkedHashMap<>();
-            statistics.put("added", addedCount);
-            statistics.put("removed", removedCount);
-            statistics.put("updated", updatedCount);
-            statistics.put("total", addedCount + removedCount + updatedCount);
-            
-            Map<String, Integer> schemaStatistics = new LinkedHashMap<>();
-            schemaStatistics.put("added", schemaAddedCount);
-            schemaStatistics.put("removed", schemaRemovedCount);
-            schemaStatistics.put("updated", schemaUpdatedCount);
-            schemaStatistics.put("total", schemaAddedCount + schemaRemovedCount + schemaUpdatedCount);
-            
-            summary.put("statistics", statistics);
-            summary.put("schemaStatistics", schemaStatistics);
-            summary.put("totalOldEndpoints", oldEndpointMap.size());
-            summary.put("totalNewEndpoints", newEndpointMap.size());
-            summary.put("totalOldSchemas", oldSchemaMap.size());
-            summary.put("totalNewSchemas", newSchemaMap.size());
-            
+
+            summary.put("statistics", statistics(addedPaths.size(), removedPaths.size(), updatedDetails.size()));
+            summary.put("schemaStatistics", statistics(addedSchemas.size(), removedSchemas.size(), updatedSchemas.size()));
+            summary.put("totalOldEndpoints", oldModel.getEndpoints().size());
+            summary.put("totalNewEndpoints", newModel.getEndpoints().size());
+            summary.put("totalOldSchemas", oldModel.getSchemas().size());
+            summary.put("totalNewSchemas", newModel.getSchemas().size());
+
             // 상세 변경 정보
             if (!addedPaths.isEmpty()) {
                 summary.put("addedEndpoints", addedPaths);
@@ -621,7 +543,7 @@ public class ApiDiffRepoAdapter implements ApiDiffPort {
             if (!updatedDetails.isEmpty()) {
                 summary.put("updatedEndpointsDetails", updatedDetails);
             }
-            
+
             // Schema 변경 정보
             if (!addedSchemas.isEmpty()) {
                 summary.put("addedSchemas", addedSchemas);
@@ -632,66 +554,39 @@ public class ApiDiffRepoAdapter implements ApiDiffPort {
             if (!updatedSchemas.isEmpty()) {
                 summary.put("updatedSchemas", updatedSchemas);
             }
-            
+
             return objectMapper.writeValueAsString(summary);
         } catch (Exception e) {
             return "{}";
         }
     }
-    
-    /**
-     * Schema JSON을 정규화하여 키 순서를 보장합니다.
-     * 같은 내용이라도 항상 같은 문자열이 되도록 보장합니다.
-     */
-    private String normalizeSchemaJson(String jsonString) {
-        if (jsonString == null || jsonString.isEmpty()) {
-            return jsonString;
-        }
-        
-        try {
-            JsonNode node = objectMapper.readTree(jsonString);
-            JsonNode normalized = normalizeJsonNodeRecursive(node, objectMapper);
-            return objectMapper.writeValueAsString(normalized);
-        } catch (Exception e) {
-            // 파싱 실패 시 원본 반환
-            return jsonString;
-        }
+
+    private Map<String, Integer> statistics(int added, int removed, int updated) {
+        Map<String, Integer> statistics = new LinkedHashMap<>();
+        statistics.put("added", added);
+        statistics.put("removed", removed);
+        statistics.put("updated", updated);
+        statistics.put("total", added + removed + updated);
+        return statistics;
     }
-    
+
+    private String endpointLabel(EndpointSnapshot endpoint) {
+        return endpoint.getHttpMethod().toUpperCase() + " " + endpoint.getPath();
+    }
+
+    private JsonNode schemaTree(SchemaSnapshot schema) {
+        return parsedSchemaCache.get(schema.getContentHash(), () -> rawSchema(schema));
+    }
+
     /**
-     * JSON 노드를 재귀적으로 정규화합니다.
+     * 새 스펙의 스키마는 본문을 들고 있고, 캐시된 이전 모델은 해시로 본문을 조회 (변경된 스키마만 해당)
      */
-    private JsonNode normalizeJsonNodeRecursive(JsonNode node, ObjectMapper mapper) {
-        if (node == null || node.isNull()) {
-            return node;
-        }
-        
-        if (node.isObject()) {
-            ObjectNode objectNode = (ObjectNode) node;
-            TreeMap<String, JsonNode> sortedMap = new TreeMap<>();
-            
-            // 모든 필드를 키 순서대로 정렬
-            objectNode.fields().forEachRemaining(entry -> {
-                // 중첩된 객체도 재귀적으로 정규화
-                JsonNode normalizedValue = normalizeJsonNodeRecursive(entry.getValue(), mapper);
-                sortedMap.put(entry.getKey(), normalizedValue);
-            });
-            
-            // 정렬된 Map을 다시 JsonNode로 변환
-            ObjectNode sortedNode = mapper.createObjectNode();
-            sortedMap.forEach(sortedNode::set);
-            return sortedNode;
-        } else if (node.isArray()) {
-            // 배열의 경우 각 요소를 정규화
-            com.fasterxml.jackson.databind.node.ArrayNode arrayNode = mapper.createArrayNode();
-            node.forEach(element -> {
-                arrayNode.add(normalizeJsonNodeRecursive(element, mapper));
-            });
-            return arrayNode;
-        } else {
-            // 원시 값은 그대로 반환
-            return node;
+    private String rawSchema(SchemaSnapshot schema) {
+        if (schema.getRawSchema() != null || schema.getContentHash() == null) {
+            return schema.getRawSchema();
         }
+        return apiSchemaContentRepository.findById(schema.getContentHash())
+                .map(ApiSchemaContent::getRawSchema)
+                .orElse(null);
     }
 }
-
@@ -1,13 +1,34 @@
 package blackspring.janusspec.infrastructure.persistence;
 
-import blackspring.janusspec.domain.ApiDiffLog;
+import blackspring.janusspec.application.dto.ApiSchemaChangeDto;
 import blackspring.janusspec.domain.ApiDiffSchema;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import jakarta.persistence.QueryHint;
 import java.util.List;
+import java.util.stream.Stream;
 
 public interface ApiDiffSchemaRepository extends JpaRepository<ApiDiffSchema, Long> {
-    List<ApiDiffSchema> findByDiffLog(ApiDiffLog diffLog);
-    List<ApiDiffSchema> findByDiffLogAndChangeType(ApiDiffLog diffLog, String changeType);
-}
 
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    @Query("SELECT new blackspring.janusspec.infrastructure.persistence.ChangeTypeCount(s.changeType, COUNT(s)) "
+            + "FROM ApiDiffSchema s WHERE s.diffLog.id = :diffLogId GROUP BY s.changeType")
+    List<ChangeTypeCount> countByChangeType(@Param("diffLogId") Long diffLogId);
+
+    @Query("SELECT s FROM ApiDiffSchema s WHERE s.diffLog.id = :diffLogId AND s.changeType = :changeType AND s.id > :after ORDER BY s.id")
+    List<ApiDiffSchema> findByDiffLogAndChangeType(@Param("diffLogId") Long diffLogId,
+                                                   @Param("changeType") String changeType,
+                                                   @Param("after") Long after,
+                                                   Pageable pageable);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "200"))
+    @Query("SELECT new blackspring.janusspec.application.dto.ApiSchemaChangeDto(s.schemaName, s.changeType, s.beforeJson, s.afterJson) "
+            + "FROM ApiDiffSchema s WHERE s.diffLog.id = :diffLogId AND s.changeType = :changeType ORDER BY s.id")
+    Stream<ApiSchemaChangeDto> streamByDiffLogAndChangeType(@Param("diffLogId") Long diffLogId,
+                                                            @Param("changeType") String changeType);
+}
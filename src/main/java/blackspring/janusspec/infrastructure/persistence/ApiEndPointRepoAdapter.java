@@ -1,16 +1,25 @@
 package blackspring.janusspec.infrastructure.persistence;
 
+import blackspring.janusspec.application.dto.ApiEndpointDto;
 import blackspring.janusspec.application.port.apiendpoint.ApiEndPointPort;
 import blackspring.janusspec.application.port.apiendpoint.ApiEndPointReq;
 import blackspring.janusspec.application.port.apiendpoint.ApiEndPointRes;
+import blackspring.janusspec.application.dto.ApiEndpointFilter;
+import blackspring.janusspec.application.port.apiendpoint.ApiEndpointPage;
 import blackspring.janusspec.domain.ApiEndpoint;
+import blackspring.janusspec.domain.EndpointSnapshot;
 import blackspring.janusspec.domain.SwaggerVersion;
-import com.fasterxml.jackson.databind.JsonNode;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
 
-import java.util.Iterator;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 @Repository
 @RequiredArgsConstructor
@@ -18,87 +27,135 @@ public class ApiEndPointRepoAdapter implements ApiEndPointPort {
 
     private final ApiEndPointRepository apiEndPointRepository;
     private final SwaggerVersionRepository swaggerVersionRepository;
-
+    private final SwaggerSourceRepository swaggerSourceRepository;
+    private final PgCopyBulkLoader pgCopyBulkLoader;
+    private final ApiEndpointListingQuery apiEndpointListingQuery;
+
+    // 유효 구간을 닫을 때 IN 절 하나에 넣을 최대 id 수
+    private static final int MAX_IN_CLAUSE_SIZE = 1000;
+
+    /**
+     * 직전 버전 모델과 비교해 같은 operation 은 기존 행을 그대로 두고,
+     * 삭제/변경된 행은 유효 구간을 닫고, 새로 생기거나 변경된 operation 만 새 행으로 저장합니다.
+     * 직전 모델이 열린 행 id 를 가지고 있으므로 기존 행을 다시 조회하지 않습니다.
+     */
     @Override
     public ApiEndPointRes save(ApiEndPointReq req) {
-        Iterator<String> paths = req.openApiSpec().getPaths().fieldNames();
         SwaggerVersion swaggerVersion = swaggerVersionRepository.findById(req.swaggerVersionId()).get();
 
-        while (paths.hasNext()) {
-
-            String path = paths.next();
-            JsonNode pathNode = req.openApiSpec().getPaths().get(path);
-
-            // GET/POST/PUT/DELETE 등 HTTP 메소드 루프
-            Iterator<String> methods = pathNode.fieldNames();
+        // 열린 행이 없는 이전 데이터(버전별 행)면 모두 새로 저장
+        Map<String, EndpointSnapshot> openRows = req.previous() != null && req.previous().isOpenRows()
+                ? req.previous().getEndpoints()
+                : Map.of();
+
+        Map<String, Long> keptIds = new HashMap<>();
+        List<ApiEndpoint> endpoints = new ArrayList<>();
+        List<String> endpointKeys = new ArrayList<>();
+        List<Long> closedIds = new ArrayList<>();
+
+        for (EndpointSnapshot endpoint : req.current().getEndpoints().values()) {
+            // operation 해시가 같으면 기존 행의 유효 구간을 이어감
+            EndpointSnapshot open = openRows.get(endpoint.key());
+            if (open != null) {
+                if (Objects.equals(open.getContentHash(), endpoint.getContentHash())) {
+                    keptIds.put(endpoint.key(), open.getId());
+                    continue;
+                }
+                closedIds.add(open.getId());
+            }
 
-            while (methods.hasNext()) {
-                String httpMethod = methods.next();
-                JsonNode methodNode = pathNode.get(httpMethod);
+            ApiEndpoint api = new ApiEndpoint().saveApiEndPoint(
+                    swaggerVersion,
+                    req.sourceId(),
+                    endpoint.getPath(),
+                    endpoint.getHttpMethod(),
+                    endpoint.getSummary(),
+                    endpoint.getOperationId(),
+                    endpoint.isDeprecated(),
+                    endpoint.getRequestSchemaName(),
+                    endpoint.getResponseSchemaName(),
+                    endpoint.getContentHash()
+            );
+
+            endpoints.add(api);
+            endpointKeys.add(endpoint.key());
+
+            System.out.println("[SAVE] " + endpoint.getHttpMethod().toUpperCase() + " " + endpoint.getPath() +
+                    " / summary=" + endpoint.getSummary() +
+                    " / operationId=" + endpoint.getOperationId() +
+                    " / req=" + endpoint.getRequestSchemaName() +
+                    " / resp=" + endpoint.getResponseSchemaName());
+        }
 
-                // summary
-                String summary = methodNode.path("summary").asText("");
+        // 새 버전에 없는 행도 닫음
+        openRows.forEach((key, open) -> {
+            if (!req.current().getEndpoints().containsKey(key)) {
+                closedIds.add(open.getId());
+            }
+        });
+
+        // 대용량이면 COPY, 아니면 한 번에 저장 (JDBC batch insert)
+        long[] insertedIds;
+        if (pgCopyBulkLoader.shouldCopy(endpoints.size())) {
+            insertedIds = pgCopyBulkLoader.copyEndpoints(endpoints);
+        } else {
+            apiEndPointRepository.saveAll(endpoints);
+            insertedIds = endpoints.stream().mapToLong(ApiEndpoint::getId).toArray();
+        }
+        for (int i = 0; i < insertedIds.length; i++) {
+            keptIds.put(endpointKeys.get(i), insertedIds[i]);
+        }
 
-                // operationId
-                String operationId = methodNode.path("operationId").asText("");
+        for (int from = 0; from < closedIds.size(); from += MAX_IN_CLAUSE_SIZE) {
+            apiEndPointRepository.closeValidity(
+                    closedIds.subList(from, Math.min(from + MAX_IN_CLAUSE_SIZE, closedIds.size())),
+                    swaggerVersion.getId());
+        }
 
-                // deprecated
-                boolean deprecated = methodNode.path("deprecated").asBoolean(false);
+        System.out.println("[SAVE] endpoints opened=" + endpoints.size() + " / closed=" + closedIds.size());
 
-                // request schema
-                String requestSchemaName = "";
-                JsonNode requestSchemaNode = methodNode
-                        .path("requestBody")
-                        .path("content")
-                        .path("application/json")
-                        .path("schema")
-                        .path("$ref");
+        // 새 버전에서 유효한 엔드포인트 (행 id 포함) -> 다음 수집의 직전 모델
+        Map<String, EndpointSnapshot> saved = new LinkedHashMap<>();
+        req.current().getEndpoints().forEach((key, endpoint) -> saved.put(key, endpoint.withId(keptIds.get(key))));
+        return new ApiEndPointRes(saved);
+    }
 
-                if (!requestSchemaNode.isMissingNode()) {
-                    requestSchemaName = requestSchemaNode.asText("").replace("#/components/schemas/", "");
-                }
+    @Override
+    public List<ApiEndpoint> findBySwaggerVersion(SwaggerVersion swaggerVersion) {
+        return apiEndPointRepository.findValidAt(sourceIdOf(swaggerVersion), swaggerVersion.getId());
+    }
 
-                // response schema
-                String responseSchemaName = "";
-                JsonNode responseSchemaNode = methodNode
-                        .path("responses")
-                        .path("200")
-                        .path("content")
-                        .path("application/json")
-                        .path("schema")
-                        .path("$ref");
-
-                if (!responseSchemaNode.isMissingNode()) {
-                    responseSchemaName = responseSchemaNode.asText("").replace("#/components/schemas/", "");
-                }
+    @Override
+    public ApiEndpointPage findEndpoints(SwaggerVersion swaggerVersion, ApiEndpointFilter filter, Long after, int limit) {
+        // 한 개 더 읽어서 다음 페이지 여부 판단
+        List<ApiEndpointRow> rows = apiEndpointListingQuery.find(
+                sourceIdOf(swaggerVersion), swaggerVersion.getId(), filter, after, limit > 0 ? limit + 1 : 0);
+        boolean hasNext = limit > 0 && rows.size() > limit;
+        List<ApiEndpointRow> page = hasNext ? rows.subList(0, limit) : rows;
+        return new ApiEndpointPage(
+                page.stream().map(ApiEndpointRow::toDto).toList(),
+                hasNext ? page.get(page.size() - 1).id() : null,
+                hasNext
+        );
+    }
 
-                // DB 저장
-                ApiEndpoint api = new ApiEndpoint().saveApiEndPoint(
-                        swaggerVersion,
-                        path,
-                        httpMethod,
-                        summary,
-                        operationId,
-                        deprecated,
-                        requestSchemaName,
-                        responseSchemaName
-                );
-
-                apiEndPointRepository.save(api);
-
-                System.out.println("[SAVE] " + httpMethod.toUpperCase() + " " + path +
-                        " / summary=" + summary +
-                        " / operationId=" + operationId +
-                        " / req=" + requestSchemaName +
-                        " / resp=" + responseSchemaName);
-            }
+    @Override
+    public void forEachEndpoint(SwaggerVersion swaggerVersion, ApiEndpointFilter filter, Consumer<ApiEndpointDto> action) {
+        try (Stream<ApiEndpointRow> rows = apiEndpointListingQuery.stream(sourceIdOf(swaggerVersion), swaggerVersion.getId(), filter)) {
+            rows.forEach(row -> action.accept(row.toDto()));
         }
-
-        return new ApiEndPointRes();
     }
 
     @Override
-    public List<ApiEndpoint> findBySwaggerVersion(SwaggerVersion swaggerVersion) {
-        return apiEndPointRepository.findBySwaggerVersion(swaggerVersion);
+    public void forEachEndpointSnapshot(SwaggerVersion swaggerVersion, Consumer<EndpointSnapshot> action) {
+        try (Stream<ApiEndpointRow> rows = apiEndpointListingQuery.stream(sourceIdOf(swaggerVersion), swaggerVersion.getId(), ApiEndpointFilter.none())) {
+            rows.forEach(row -> action.accept(row.toSnapshot()));
+        }
+    }
+
+    private Long sourceIdOf(SwaggerVersion swaggerVersion) {
+        return swaggerSourceRepository
+                .findIdByServiceNameAndSwaggerUrl(swaggerVersion.getServiceName(), swaggerVersion.getSwaggerUrl())
+                .orElse(null);
     }
 }
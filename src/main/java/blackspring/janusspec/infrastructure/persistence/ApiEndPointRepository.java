@@ -1,11 +1,29 @@
 package blackspring.janusspec.infrastructure.persistence;
 
 import blackspring.janusspec.domain.ApiEndpoint;
-import blackspring.janusspec.domain.SwaggerVersion;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface ApiEndPointRepository extends JpaRepository<ApiEndpoint, Long> {
-    List<ApiEndpoint> findBySwaggerVersion(SwaggerVersion swaggerVersion);
+
+    // 버전 시점에 유효한 행: 유효 구간 [swaggerVersion, validToVersionId) 에 포함되거나, 구간이 없는 이전 데이터는 해당 버전 행
+    String VALID_AT = "((e.sourceId = :sourceId AND e.swaggerVersion.id <= :versionId"
+            + " AND (e.validToVersionId IS NULL OR e.validToVersionId > :versionId))"
+            + " OR (e.sourceId IS NULL AND e.swaggerVersion.id = :versionId))";
+
+    @Query("SELECT e FROM ApiEndpoint e WHERE " + VALID_AT)
+    List<ApiEndpoint> findValidAt(@Param("sourceId") Long sourceId, @Param("versionId") Long versionId);
+
+    // 아직 닫히지 않은 (최신 버전까지 유효한) 행
+    List<ApiEndpoint> findBySourceIdAndValidToVersionIdIsNull(Long sourceId);
+
+    // 삭제/변경된 행의 유효 구간을 닫음
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE ApiEndpoint e SET e.validToVersionId = :versionId WHERE e.id IN :ids")
+    int closeValidity(@Param("ids") Collection<Long> ids, @Param("versionId") Long versionId);
 }
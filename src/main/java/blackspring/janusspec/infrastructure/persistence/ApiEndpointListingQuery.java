@@ -0,0 +1,100 @@
+package blackspring.janusspec.infrastructure.persistence;
+
+import blackspring.janusspec.application.dto.ApiEndpointFilter;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * 버전 시점 엔드포인트 목록 조회
+ * 주어진 필터만 조건으로 붙여 SQL 에서 거르고, 엔티티 대신 프로젝션으로 읽습니다.
+ */
+@Component
+public class ApiEndpointListingQuery {
+
+    // 스트리밍 시 DB 커서에서 한 번에 가져올 행 수
+    private static final int STREAM_FETCH_SIZE = 500;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * @param after 이 id 보다 큰 행부터 (null 이면 처음부터)
+     * @param limit 최대 행 수 (0 이하면 제한 없음)
+     */
+    public List<ApiEndpointRow> find(Long sourceId, Long versionId, ApiEndpointFilter filter, Long after, int limit) {
+        TypedQuery<ApiEndpointRow> query = createQuery(sourceId, versionId, filter, after);
+        if (limit > 0) {
+            query.setMaxResults(limit);
+        }
+        return query.getResultList();
+    }
+
+    /**
+     * 결과를 DB 커서(스크롤)로 조금씩 읽는 스트림 (트랜잭션 안에서 사용하고 닫아야 함)
+     */
+    public Stream<ApiEndpointRow> stream(Long sourceId, Long versionId, ApiEndpointFilter filter) {
+        return createQuery(sourceId, versionId, filter, null)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, STREAM_FETCH_SIZE)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .getResultStream();
+    }
+
+    private TypedQuery<ApiEndpointRow> createQuery(Long sourceId, Long versionId, ApiEndpointFilter filter, Long after) {
+        StringBuilder jpql = new StringBuilder("SELECT new blackspring.janusspec.infrastructure.persistence.ApiEndpointRow(")
+                .append("e.id, e.path, e.httpMethod, e.summary, e.operationId, e.deprecated, e.requestSchemaName, e.responseSchemaName) ")
+                .append("FROM ApiEndpoint e WHERE ").append(ApiEndPointRepository.VALID_AT);
+
+        String httpMethod = filter.normalizedHttpMethod();
+        if (hasText(filter.pathPrefix())) {
+            jpql.append(" AND e.path LIKE :pathPrefix ESCAPE '\\'");
+        }
+        if (httpMethod != null) {
+            jpql.append(" AND e.httpMethod = :httpMethod");
+        }
+        if (filter.deprecated() != null) {
+            jpql.append(" AND e.deprecated = :deprecated");
+        }
+        if (hasText(filter.schemaName())) {
+            jpql.append(" AND (e.requestSchemaName = :schemaName OR e.responseSchemaName = :schemaName)");
+        }
+        if (after != null) {
+            jpql.append(" AND e.id > :after");
+        }
+        jpql.append(" ORDER BY e.id");
+
+        TypedQuery<ApiEndpointRow> query = entityManager.createQuery(jpql.toString(), ApiEndpointRow.class)
+                .setParameter("sourceId", sourceId)
+                .setParameter("versionId", versionId);
+        if (hasText(filter.pathPrefix())) {
+            query.setParameter("pathPrefix", escapeLike(filter.pathPrefix()) + "%");
+        }
+        if (httpMethod != null) {
+            query.setParameter("httpMethod", httpMethod);
+        }
+        if (filter.deprecated() != null) {
+            query.setParameter("deprecated", filter.deprecated());
+        }
+        if (hasText(filter.schemaName())) {
+            query.setParameter("schemaName", filter.schemaName());
+        }
+        if (after != null) {
+            query.setParameter("after", after);
+        }
+        return query;
+    }
+
+    private static boolean hasText(String value) {
+        return value != null && !value.isBlank();
+    }
+
+    // 경로에 들어갈 수 있는 LIKE 특수문자(_ %)를 문자 그대로 비교
+    private static String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
@@ -0,0 +1,35 @@
+package blackspring.janusspec.infrastructure.persistence;
+
+import blackspring.janusspec.application.dto.ApiEndpointDto;
+import blackspring.janusspec.domain.EndpointSnapshot;
+
+/**
+ * 엔드포인트 목록 조회용 프로젝션 (커서용 id 포함)
+ */
+public record ApiEndpointRow(
+        Long id,
+        String path,
+        String httpMethod,
+        String summary,
+        String operationId,
+        boolean deprecated,
+        String requestSchemaName,
+        String responseSchemaName
+) {
+    public ApiEndpointDto toDto() {
+        return new ApiEndpointDto(path, httpMethod, summary, operationId, deprecated, requestSchemaName, responseSchemaName);
+    }
+
+    public EndpointSnapshot toSnapshot() {
+        return EndpointSnapshot.builder()
+                .id(id)
+                .path(path)
+                .httpMethod(httpMethod)
+                .summary(summary)
+                .operationId(operationId)
+                .deprecated(deprecated)
+                .requestSchemaName(requestSchemaName)
+                .responseSchemaName(responseSchemaName)
+                .build();
+    }
+}
@@ -0,0 +1,7 @@
+package blackspring.janusspec.infrastructure.persistence;
+
+import blackspring.janusspec.domain.ApiSchemaContent;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface ApiSchemaContentRepository extends JpaRepository<ApiSchemaContent, String> {
+}
@@ -0,0 +1,34 @@
+package blackspring.janusspec.infrastructure.persistence;
+
+import blackspring.janusspec.application.port.apiservice.ApiServicePort;
+import blackspring.janusspec.domain.ApiService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Optional;
+
+@Component
+@RequiredArgsConstructor
+public class ApiServiceRepoAdapter implements ApiServicePort {
+
+    private final ApiServiceRepository apiServiceRepository;
+
+    @Override
+    public List<ApiService> findAll() {
+        return apiServiceRepository.findAllByOrderByServiceNameAsc();
+    }
+
+    @Override
+    public Optional<ApiService> findByServiceName(String serviceName) {
+        return apiServiceRepository.findByServiceName(serviceName);
+    }
+
+    @Override
+    public void recordContent(String serviceName, Long versionId, int endpointCount, int schemaCount, Long diffLogId) {
+        apiServiceRepository.recordCounts(serviceName, versionId, endpointCount, schemaCount);
+        if (diffLogId != null) {
+            apiServiceRepository.recordDiff(serviceName, versionId, diffLogId);
+        }
+    }
+}
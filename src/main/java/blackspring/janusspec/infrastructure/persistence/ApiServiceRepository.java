@@ -0,0 +1,59 @@
+package blackspring.janusspec.infrastructure.persistence;
+
+import blackspring.janusspec.domain.ApiService;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+public interface ApiServiceRepository extends JpaRepository<ApiService, Long> {
+
+    Optional<ApiService> findByServiceName(String serviceName);
+
+    List<ApiService> findAllByOrderByServiceNameAsc();
+
+    // 전체 서비스 중 가장 최근 버전 (latest_version_id 인덱스 역순 첫 행)
+    @Query("SELECT s FROM ApiService s WHERE s.latestVersionId IS NOT NULL ORDER BY s.latestVersionId DESC")
+    List<ApiService> findOrderByLatestVersionIdDesc(Pageable pageable);
+
+    // 같은 서비스의 다른 URL 수집과 겹쳐도 한 행만 생기도록
+    @Modifying
+    @Query(value = "INSERT INTO service (service_name, create_at) VALUES (:serviceName, :now) ON CONFLICT (service_name) DO NOTHING",
+            nativeQuery = true)
+    int insertIfAbsent(@Param("serviceName") String serviceName, @Param("now") LocalDateTime now);
+
+    // 더 최신 버전이 이미 가리키고 있으면 건너뜀 (수는 내용 저장 후 채움)
+    // swagger_version.id 는 행마다 DB 가 발급하는 IDENTITY 값이라 (pooled 시퀀스가 아님) id 순서가 곧 버전 생성 순서
+    // 같은 서비스의 다른 URL 수집이 동시에 커밋돼도 나중에 만들어진 버전이 포인터로 남음
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE ApiService s SET s.latestVersionId = :versionId, s.swaggerUrl = :swaggerUrl, s.versionTag = :versionTag, s.hash = :hash, "
+            + "s.endpointCount = null, s.schemaCount = null, s.lastChangedAt = :now "
+            + "WHERE s.serviceName = :serviceName AND (s.latestVersionId IS NULL OR s.latestVersionId < :versionId)")
+    int moveLatest(@Param("serviceName") String serviceName,
+                   @Param("versionId") Long versionId,
+                   @Param("swaggerUrl") String swaggerUrl,
+                   @Param("versionTag") String versionTag,
+                   @Param("hash") String hash,
+                   @Param("now") LocalDateTime now);
+
+    // 그 사이 더 최신 버전으로 옮겨졌으면 건너뜀
+    @Modifying
+    @Query("UPDATE ApiService s SET s.endpointCount = :endpointCount, s.schemaCount = :schemaCount "
+            + "WHERE s.serviceName = :serviceName AND s.latestVersionId = :versionId")
+    int recordCounts(@Param("serviceName") String serviceName,
+                     @Param("versionId") Long versionId,
+                     @Param("endpointCount") int endpointCount,
+                     @Param("schemaCount") int schemaCount);
+
+    @Modifying
+    @Query("UPDATE ApiService s SET s.lastDiffLogId = :diffLogId "
+            + "WHERE s.serviceName = :serviceName AND s.latestVersionId = :versionId")
+    int recordDiff(@Param("serviceName") String serviceName,
+                   @Param("versionId") Long versionId,
+                   @Param("diffLogId") Long diffLogId);
+}
@@ -0,0 +1,10 @@
+package blackspring.janusspec.infrastructure.persistence;
+
+/**
+ * 변경 타입별 행 수 프로젝션
+ */
+public record ChangeTypeCount(
+        String changeType,
+        long count
+) {
+}
@@ -0,0 +1,94 @@
+package blackspring.janusspec.infrastructure.persistence;
+
+import blackspring.janusspec.application.port.ingestjob.IngestJobPort;
+import blackspring.janusspec.application.port.ingestjob.IngestJobSourceKey;
+import blackspring.janusspec.domain.IngestJob;
+import blackspring.janusspec.infrastructure.adapter.json.OpenApiSpec;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+@Component
+@RequiredArgsConstructor
+public class IngestJobRepoAdapter implements IngestJobPort {
+
+    private static final Set<IngestJob.Status> UNFINISHED = EnumSet.of(IngestJob.Status.PENDING, IngestJob.Status.RUNNING);
+    // 실패로 끝난 작업도 엔드포인트/스키마가 채워지지 않았으므로 내용이 완성되지 않은 것으로 봄
+    private static final Set<IngestJob.Status> INCOMPLETE = EnumSet.of(IngestJob.Status.PENDING, IngestJob.Status.RUNNING, IngestJob.Status.FAILED);
+
+    private final IngestJobRepository ingestJobRepository;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Override
+    public IngestJob createPending(Long sourceId, String serviceName, String swaggerUrl,
+                                   Long swaggerVersionId, Long oldVersionId, OpenApiSpec openApiSpec) {
+        return ingestJobRepository.save(IngestJob.pending(
+                sourceId, serviceName, swaggerUrl, swaggerVersionId, oldVersionId, gzip(openApiSpec)));
+    }
+
+    @Override
+    public Optional<IngestJob> findById(Long id) {
+        return ingestJobRepository.findById(id);
+    }
+
+    @Override
+    public List<Long> findUnfinishedIds(String serviceName, String swaggerUrl) {
+        return ingestJobRepository.findIdsByStatusIn(serviceName, swaggerUrl, UNFINISHED);
+    }
+
+    @Override
+    public List<IngestJobSourceKey> findUnfinishedSources() {
+        return ingestJobRepository.findSourcesByStatusIn(UNFINISHED);
+    }
+
+    @Override
+    public boolean existsIncompleteByVersion(Long swaggerVersionId) {
+        return ingestJobRepository.existsBySwaggerVersionIdAndStatusIn(swaggerVersionId, INCOMPLETE);
+    }
+
+    @Override
+    public Optional<IngestJob> findFailedByVersion(Long swaggerVersionId) {
+        return ingestJobRepository.findFirstBySwaggerVersionIdAndStatusOrderByIdDesc(swaggerVersionId, IngestJob.Status.FAILED);
+    }
+
+    @Override
+    public OpenApiSpec readSpec(IngestJob job) {
+        if (job.getSpecData() == null) {
+            throw new IllegalStateException("작업 스펙 없음: " + job.getId());
+        }
+        try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(job.getSpecData()))) {
+            return objectMapper.readValue(in, OpenApiSpec.class);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void save(IngestJob job) {
+        ingestJobRepository.save(job);
+    }
+
+    // 문자열을 거치지 않고 gzip 스트림에 바로 직렬화
+    private byte[] gzip(OpenApiSpec openApiSpec) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (OutputStream out = new GZIPOutputStream(bytes)) {
+            objectMapper.writeValue(out, openApiSpec);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+}
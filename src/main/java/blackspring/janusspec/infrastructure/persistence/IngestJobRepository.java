@@ -0,0 +1,28 @@
+package blackspring.janusspec.infrastructure.persistence;
+
+import blackspring.janusspec.application.port.ingestjob.IngestJobSourceKey;
+import blackspring.janusspec.domain.IngestJob;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface IngestJobRepository extends JpaRepository<IngestJob, Long> {
+
+    @Query("SELECT j.id FROM IngestJob j WHERE j.serviceName = :serviceName AND j.swaggerUrl = :swaggerUrl AND j.status IN :statuses ORDER BY j.id")
+    List<Long> findIdsByStatusIn(@Param("serviceName") String serviceName,
+                                 @Param("swaggerUrl") String swaggerUrl,
+                                 @Param("statuses") Collection<IngestJob.Status> statuses);
+
+    // 스펙 본문(bytea) 은 읽지 않고 소스 키만
+    @Query("SELECT new blackspring.janusspec.application.port.ingestjob.IngestJobSourceKey(j.serviceName, j.swaggerUrl) "
+            + "FROM IngestJob j WHERE j.status IN :statuses GROUP BY j.serviceName, j.swaggerUrl ORDER BY MIN(j.id)")
+    List<IngestJobSourceKey> findSourcesByStatusIn(@Param("statuses") Collection<IngestJob.Status> statuses);
+
+    boolean existsBySwaggerVersionIdAndStatusIn(Long swaggerVersionId, Collection<IngestJob.Status> statuses);
+
+    Optional<IngestJob> findFirstBySwaggerVersionIdAndStatusOrderByIdDesc(Long swaggerVersionId, IngestJob.Status status);
+}
@@ -0,0 +1,207 @@
+package blackspring.janusspec.infrastructure.persistence;
+
+import blackspring.janusspec.domain.ApiEndpoint;
+import blackspring.janusspec.domain.ApiSchema;
+import blackspring.janusspec.domain.ApiSchemaContent;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.Session;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyManager;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 대용량 스펙의 api_endpoint / api_schema 행을 PostgreSQL COPY FROM STDIN 으로 적재합니다.
+ * 스키마 본문(api_schema_content) 은 중복 무시 insert 로 저장합니다.
+ * 현재 트랜잭션의 커넥션을 그대로 쓰므로 수집 트랜잭션과 함께 커밋/롤백됩니다.
+ * id 는 엔티티와 같은 pooled 시퀀스에서 블록 단위로 미리 받아 직접 채웁니다.
+ */
+@Component
+public class PgCopyBulkLoader {
+
+    // 엔티티의 @SequenceGenerator allocationSize 와 같아야 함
+    private static final int SEQUENCE_ALLOCATION_SIZE = 50;
+    // COPY 한 번에 보낼 행 수 (메모리에 CSV 전체를 만들지 않기 위함)
+    private static final int COPY_CHUNK_SIZE = 5000;
+    // hibernate.jdbc.batch_size 와 같은 단위
+    private static final int INSERT_BATCH_SIZE = 50;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final int bulkCopyThreshold;
+
+    public PgCopyBulkLoader(@Value("${janus.persistence.bulk-copy-threshold:5000}") int bulkCopyThreshold) {
+        this.bulkCopyThreshold = bulkCopyThreshold;
+    }
+
+    /**
+     * 행 수가 임계값 이상이면 COPY 사용 (0 이하면 사용 안 함)
+     */
+    public boolean shouldCopy(int rowCount) {
+        return bulkCopyThreshold > 0 && rowCount >= bulkCopyThreshold;
+    }
+
+    /**
+     * @return 각 행에 할당한 id (endpoints 와 같은 순서)
+     */
+    public long[] copyEndpoints(List<ApiEndpoint> endpoints) {
+        return copy("api_endpoint", "api_endpoint_seq",
+                "id, create_at, swagger_version_id, source_id, valid_to_version_id, path, http_method, summary, operation_id, deprecated, "
+                        + "request_schema_name, response_schema_name, content_hash",
+                endpoints.size(),
+                (row, id, out) -> {
+                    ApiEndpoint e = endpoints.get(row);
+                    appendRow(out, id, e.getCreateAt(), e.getSwaggerVersion().getId(), e.getSourceId(), e.getValidToVersionId(), e.getPath(), e.getHttpMethod(),
+                            e.getSummary(), e.getOperationId(), e.isDeprecated(),
+                            e.getRequestSchemaName(), e.getResponseSchemaName(), e.getContentHash());
+                });
+    }
+
+    public void copySchemas(List<ApiSchema> schemas) {
+        copy("api_schema", "api_schema_seq",
+                "id, create_at, swagger_version_id, name, content_hash",
+                schemas.size(),
+                (row, id, out) -> {
+                    ApiSchema s = schemas.get(row);
+                    appendRow(out, id, s.getCreateAt(), s.getSwaggerVersion().getId(), s.getName(), s.getContentHash());
+                });
+    }
+
+    /**
+     * 스키마 본문을 batch insert 로 저장하고, 동시에 같은 본문을 넣은 다른 수집과 겹치면 무시합니다.
+     * (COPY 는 ON CONFLICT 를 쓸 수 없고, 새 본문은 변경분 만큼이라 batch 로 충분)
+     */
+    public void insertSchemaContentsIfAbsent(Collection<ApiSchemaContent> contents) {
+        if (contents.isEmpty()) {
+            return;
+        }
+
+        String sql = "INSERT INTO api_schema_content (content_hash, create_at, raw_schema, properties) "
+                + "VALUES (?, ?, ?::jsonb, ?::jsonb) ON CONFLICT (content_hash) DO NOTHING";
+        Session session = entityManager.unwrap(Session.class);
+        session.doWork(connection -> {
+            try (PreparedStatement ps = connection.prepareStatement(sql)) {
+                int pending = 0;
+                for (ApiSchemaContent content : contents) {
+                    ps.setString(1, content.getContentHash());
+                    ps.setTimestamp(2, Timestamp.valueOf(content.getCreateAt()));
+                    ps.setString(3, content.getRawSchema());
+                    ps.setString(4, content.getProperties());
+                    ps.addBatch();
+                    if (++pending % INSERT_BATCH_SIZE == 0) {
+                        ps.executeBatch();
+                    }
+                }
+                ps.executeBatch();
+            }
+            System.out.println("[SAVE SCHEMA CONTENT] rows=" + contents.size());
+        });
+    }
+
+    @FunctionalInterface
+    private interface RowWriter {
+        void write(int row, long id, StringBuilder out);
+    }
+
+    private long[] copy(String table, String sequence, String columns, int rowCount, RowWriter rowWriter) {
+        if (rowCount == 0) {
+            return new long[0];
+        }
+
+        // 영속성 컨텍스트에 남은 insert(예: swagger_version) 를 먼저 내보내야 FK 가 보임
+        entityManager.flush();
+
+        Session session = entityManager.unwrap(Session.class);
+        return session.doReturningWork(connection -> {
+            long[] ids = allocateIds(connection, sequence, rowCount);
+            CopyManager copyManager = connection.unwrap(PGConnection.class).getCopyAPI();
+            String sql = "COPY " + table + " (" + columns + ") FROM STDIN WITH (FORMAT csv)";
+
+            StringBuilder out = new StringBuilder();
+            try {
+                for (int row = 0; row < rowCount; row++) {
+                    rowWriter.write(row, ids[row], out);
+                    if ((row + 1) % COPY_CHUNK_SIZE == 0) {
+                        copyManager.copyIn(sql, new StringReader(out.toString()));
+                        out.setLength(0);
+                    }
+                }
+                if (!out.isEmpty()) {
+                    copyManager.copyIn(sql, new StringReader(out.toString()));
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            System.out.println("[COPY] " + table + " rows=" + rowCount);
+            return ids;
+        });
+    }
+
+    /**
+     * pooled 옵티마이저와 같은 방식으로 시퀀스 값 v 마다 (v - 49 .. v) 블록을 씁니다.
+     * 시퀀스 초기값 근처(v < 50)에서는 1 미만 id 를 만들지 않도록 블록을 줄입니다.
+     */
+    private long[] allocateIds(Connection connection, String sequence, int rowCount) throws SQLException {
+        long[] ids = new long[rowCount];
+        int filled = 0;
+        String sql = "SELECT nextval('" + sequence + "') FROM generate_series(1, ?)";
+        while (filled < rowCount) {
+            int blocks = (rowCount - filled + SEQUENCE_ALLOCATION_SIZE - 1) / SEQUENCE_ALLOCATION_SIZE;
+            try (PreparedStatement ps = connection.prepareStatement(sql)) {
+                ps.setInt(1, blocks);
+                try (ResultSet rs = ps.executeQuery()) {
+                    while (rs.next() && filled < rowCount) {
+                        long hi = rs.getLong(1);
+                        for (long id = Math.max(1, hi - SEQUENCE_ALLOCATION_SIZE + 1); id <= hi && filled < rowCount; id++) {
+                            ids[filled++] = id;
+                        }
+                    }
+                }
+            }
+        }
+        return ids;
+    }
+
+    /**
+     * CSV 한 행: null 은 빈 값, 문자열은 항상 따옴표로 감싸 빈 문자열과 구분
+     */
+    private static void appendRow(StringBuilder out, Object... values) {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                out.append(',');
+            }
+            Object value = values[i];
+            if (value == null) {
+                continue;
+            }
+            if (value instanceof Number || value instanceof Boolean) {
+                out.append(value);
+            } else {
+                String text = value.toString();
+                out.append('"');
+                for (int c = 0; c < text.length(); c++) {
+                    char ch = text.charAt(c);
+                    if (ch == '"') {
+                        out.append('"');
+                    }
+                    out.append(ch);
+                }
+                out.append('"');
+            }
+        }
+        out.append('\n');
+    }
+}
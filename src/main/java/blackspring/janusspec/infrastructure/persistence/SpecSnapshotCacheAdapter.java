@@ -0,0 +1,99 @@
+package blackspring.janusspec.infrastructure.persistence;
+
+import blackspring.janusspec.application.port.specsnapshot.SpecSnapshotPort;
+import blackspring.janusspec.domain.ApiEndpoint;
+import blackspring.janusspec.domain.EndpointSnapshot;
+import blackspring.janusspec.domain.SchemaSnapshot;
+import blackspring.janusspec.domain.SpecSnapshot;
+import blackspring.janusspec.domain.SwaggerVersion;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+
+/**
+ * 소스별 최신 버전 모델 캐시 (엔드포인트 요약 + 행 id, 스키마 이름/해시)
+ * 수집 시 직전 버전을 DB 에서 다시 읽지 않도록 하고, 캐시에 없을 때(재시작 등)만 한 번 조회해 만듭니다.
+ */
+@Component
+public class SpecSnapshotCacheAdapter implements SpecSnapshotPort {
+
+    private final ApiEndPointRepository apiEndPointRepository;
+    private final ApiSchemaRepository apiSchemaRepository;
+    private final Cache<Long, CachedSnapshot> cache;
+
+    public SpecSnapshotCacheAdapter(
+            ApiEndPointRepository apiEndPointRepository,
+            ApiSchemaRepository apiSchemaRepository,
+            @Value("${janus.spec-snapshot-cache.max-entries:200}") long maxEntries) {
+        this.apiEndPointRepository = apiEndPointRepository;
+        this.apiSchemaRepository = apiSchemaRepository;
+        this.cache = CacheBuilder.newBuilder()
+                .maximumSize(maxEntries)
+                .build();
+    }
+
+    private record CachedSnapshot(Long swaggerVersionId, SpecSnapshot snapshot) {
+    }
+
+    @Override
+    public SpecSnapshot findPrevious(Long sourceId, SwaggerVersion previousVersion) {
+        // 소스 행이 없는 이전 데이터는 캐시 키가 없으므로 그 버전의 행으로만 만듦
+        if (sourceId == null) {
+            return load(null, previousVersion);
+        }
+
+        CachedSnapshot cached = cache.getIfPresent(sourceId);
+        if (cached != null && cached.swaggerVersionId().equals(previousVersion.getId())) {
+            return cached.snapshot();
+        }
+
+        System.out.println("[SNAPSHOT MISS] source=" + sourceId + " / version=" + previousVersion.getId());
+        return load(sourceId, previousVersion);
+    }
+
+    @Override
+    public void put(Long sourceId, Long swaggerVersionId, SpecSnapshot snapshot) {
+        if (sourceId == null) {
+            return;
+        }
+
+        CachedSnapshot cached = new CachedSnapshot(swaggerVersionId, snapshot);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            cache.put(sourceId, cached);
+            return;
+        }
+
+        // 롤백된 버전이 다음 수집의 기준이 되지 않도록 커밋 후에 반영, 그 전까지는 이전 값도 쓰지 않음
+        cache.invalidate(sourceId);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                cache.put(sourceId, cached);
+            }
+        });
+    }
+
+    /**
+     * 열린 행이 있으면 그 행들(= 소스의 최신 버전)로, 없으면 이전 데이터처럼 버전별 행으로 모델을 만듭니다.
+     */
+    private SpecSnapshot load(Long sourceId, SwaggerVersion previousVersion) {
+        // sourceId 가 null 이면 파생 쿼리가 source_id IS NULL 이 되어 모든 서비스의 이전 데이터 행을 읽으므로 조회하지 않음
+        List<ApiEndpoint> openRows = sourceId == null
+                ? List.of()
+                : apiEndPointRepository.findBySourceIdAndValidToVersionIdIsNull(sourceId);
+        boolean hasOpenRows = !openRows.isEmpty();
+        List<ApiEndpoint> endpoints = hasOpenRows
+                ? openRows
+                : apiEndPointRepository.findValidAt(sourceId, previousVersion.getId());
+
+        return SpecSnapshot.of(
+                endpoints.stream().map(EndpointSnapshot::from).toList(),
+                apiSchemaRepository.findBySwaggerVersion(previousVersion).stream().map(SchemaSnapshot::from).toList(),
+                hasOpenRows);
+    }
+}
@@ -0,0 +1,60 @@
+package blackspring.janusspec.infrastructure.persistence;
+
+import blackspring.janusspec.application.port.swaggersource.SwaggerSourcePort;
+import blackspring.janusspec.domain.SwaggerSource;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Component
+@RequiredArgsConstructor
+public class SwaggerSourceRepoAdapter implements SwaggerSourcePort {
+
+    private final SwaggerSourceRepository swaggerSourceRepository;
+
+    @Override
+    public Optional<SwaggerSource> findByServiceNameAndSwaggerUrl(String serviceName, String swaggerUrl) {
+        return swaggerSourceRepository.findByServiceNameAndSwaggerUrl(serviceName, swaggerUrl);
+    }
+
+    @Override
+    public List<SwaggerSource> findDueForPolling(LocalDateTime now, int limit) {
+        return swaggerSourceRepository.findDueForPolling(now, PageRequest.of(0, limit));
+    }
+
+    @Override
+    public void savePollState(SwaggerSource source) {
+        swaggerSourceRepository.updatePollState(source.getId(), source.getLastPolledAt(), source.getPollIntervalSeconds(),
+                source.getConsecutiveFailures(), source.getNextPollAt());
+    }
+
+    @Override
+    public SwaggerSource saveFetchState(String serviceName, String swaggerUrl, String etag, String lastModified, String fingerprint) {
+        Optional<SwaggerSource> existing = swaggerSourceRepository.findByServiceNameAndSwaggerUrl(serviceName, swaggerUrl);
+
+        if (existing.isPresent()) {
+            SwaggerSource source = existing.get();
+            // 검증자와 지문이 그대로면 쓰기 생략
+            return source.updateFetchState(etag, lastModified, fingerprint) ? swaggerSourceRepository.save(source) : source;
+        }
+
+        return swaggerSourceRepository.save(SwaggerSource.builder()
+                .serviceName(serviceName)
+                .swaggerUrl(swaggerUrl)
+                .etag(etag)
+                .lastModified(lastModified)
+                .fingerprint(fingerprint)
+                .tracked(true)
+                .build());
+    }
+
+    @Override
+    public boolean updateTracked(String serviceName, String swaggerUrl, boolean tracked) {
+        return swaggerSourceRepository.updateTracked(serviceName, swaggerUrl, tracked) > 0
+                || swaggerSourceRepository.findIdByServiceNameAndSwaggerUrl(serviceName, swaggerUrl).isPresent();
+    }
+}
@@ -0,0 +1,44 @@
+package blackspring.janusspec.infrastructure.persistence;
+
+import blackspring.janusspec.domain.SwaggerSource;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+public interface SwaggerSourceRepository extends JpaRepository<SwaggerSource, Long> {
+    Optional<SwaggerSource> findByServiceNameAndSwaggerUrl(String serviceName, String swaggerUrl);
+
+    @Query("SELECT s.id FROM SwaggerSource s WHERE s.serviceName = :serviceName AND s.swaggerUrl = :swaggerUrl")
+    Optional<Long> findIdByServiceNameAndSwaggerUrl(@Param("serviceName") String serviceName, @Param("swaggerUrl") String swaggerUrl);
+
+    // 수집 시각이 지난 추적 대상 (오래 기다린 순)
+    @Query("SELECT s FROM SwaggerSource s WHERE s.tracked = true AND (s.nextPollAt IS NULL OR s.nextPollAt <= :now) ORDER BY s.nextPollAt ASC NULLS FIRST")
+    List<SwaggerSource> findDueForPolling(@Param("now") LocalDateTime now, Pageable pageable);
+
+    // 스케줄러는 트랜잭션 없이 호출하므로 메서드에서 트랜잭션을 엶
+    @Transactional
+    @Modifying
+    @Query("UPDATE SwaggerSource s SET s.lastPolledAt = :polledAt, s.pollIntervalSeconds = :pollIntervalSeconds, "
+            + "s.consecutiveFailures = :consecutiveFailures, s.nextPollAt = :nextPollAt WHERE s.id = :id")
+    int updatePollState(@Param("id") Long id,
+                        @Param("polledAt") LocalDateTime polledAt,
+                        @Param("pollIntervalSeconds") Long pollIntervalSeconds,
+                        @Param("consecutiveFailures") int consecutiveFailures,
+                        @Param("nextPollAt") LocalDateTime nextPollAt);
+
+    // 바뀔 때만 갱신, 다시 추적하면 다음 스케줄 주기에 바로 수집
+    @Transactional
+    @Modifying
+    @Query("UPDATE SwaggerSource s SET s.tracked = :tracked, s.nextPollAt = null "
+            + "WHERE s.serviceName = :serviceName AND s.swaggerUrl = :swaggerUrl AND s.tracked <> :tracked")
+    int updateTracked(@Param("serviceName") String serviceName,
+                      @Param("swaggerUrl") String swaggerUrl,
+                      @Param("tracked") boolean tracked);
+}
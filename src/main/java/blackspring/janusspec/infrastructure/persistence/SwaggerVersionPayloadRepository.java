@@ -0,0 +1,7 @@
+package blackspring.janusspec.infrastructure.persistence;
+
+import blackspring.janusspec.domain.SwaggerVersionPayload;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface SwaggerVersionPayloadRepository extends JpaRepository<SwaggerVersionPayload, Long> {
+}
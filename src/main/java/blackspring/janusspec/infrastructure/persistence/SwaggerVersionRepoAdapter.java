@@ -1,53 +1,311 @@
 package blackspring.janusspec.infrastructure.persistence;
 
+import blackspring.janusspec.application.dto.GetLatestSwaggerApiRes;
 import blackspring.janusspec.application.port.swaggerversion.SwaggerVersionPort;
 import blackspring.janusspec.application.port.swaggerversion.SwaggerVersionReq;
 import blackspring.janusspec.application.port.swaggerversion.SwaggerVersionRes;
+import blackspring.janusspec.domain.ApiService;
+import blackspring.janusspec.domain.SwaggerSource;
 import blackspring.janusspec.domain.SwaggerVersion;
-import lombok.RequiredArgsConstructor;
+import blackspring.janusspec.domain.SwaggerVersionPayload;
+import blackspring.janusspec.infrastructure.adapter.json.CanonicalJsonWriter;
+import blackspring.janusspec.infrastructure.adapter.json.TopLevelJsonPatch;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Map;
 import java.util.Optional;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
 
 @Component
-@RequiredArgsConstructor
 public class SwaggerVersionRepoAdapter implements SwaggerVersionPort {
     private final SwaggerVersionRepository swaggerVersionRepository;
+    private final SwaggerVersionPayloadRepository swaggerVersionPayloadRepository;
+    private final SwaggerSourceRepository swaggerSourceRepository;
+    private final ApiServiceRepository apiServiceRepository;
+    private final CanonicalJsonWriter canonicalJsonWriter;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    // 스냅샷 사이 최대 버전 수 (1 이면 매 버전 스냅샷)
+    private final int snapshotInterval;
+    // 최근 복원한 정규화 JSON (버전 id -> 문자열), 문서 크기가 제각각이라 개수가 아닌 문자 수 합으로 제한
+    private final Cache<Long, String> rawJsonCache;
+
+    public SwaggerVersionRepoAdapter(
+            SwaggerVersionRepository swaggerVersionRepository,
+            SwaggerVersionPayloadRepository swaggerVersionPayloadRepository,
+            SwaggerSourceRepository swaggerSourceRepository,
+            ApiServiceRepository apiServiceRepository,
+            CanonicalJsonWriter canonicalJsonWriter,
+            @Value("${janus.version-payload.snapshot-interval:20}") int snapshotInterval,
+            @Value("${janus.version-payload.cache-max-size:256MB}") DataSize cacheMaxSize) {
+        this.swaggerVersionRepository = swaggerVersionRepository;
+        this.swaggerVersionPayloadRepository = swaggerVersionPayloadRepository;
+        this.swaggerSourceRepository = swaggerSourceRepository;
+        this.apiServiceRepository = apiServiceRepository;
+        this.canonicalJsonWriter = canonicalJsonWriter;
+        this.snapshotInterval = Math.max(1, snapshotInterval);
+        // 문자 수를 바이트로 봄 (ASCII 위주 문서는 Latin-1 압축 문자열이라 거의 같음)
+        // 세그먼트마다 한도를 나눠 가지면 큰 문서 하나가 바로 밀려나므로 세그먼트를 하나로 둠
+        this.rawJsonCache = CacheBuilder.newBuilder()
+                .concurrencyLevel(1)
+                .maximumWeight(cacheMaxSize.toBytes())
+                .weigher((Long id, String json) -> json.length())
+                .build();
+    }
 
     @Override
     public SwaggerVersionRes save(SwaggerVersionReq req) {
-        // 서비스명과 URL로 최신 버전 조회
-        SwaggerVersion byServiceAndUrl = swaggerVersionRepository
-                .findTopByServiceNameAndSwaggerUrlOrderByIdDesc(req.serviceName(), req.swaggerUrl())
+        // 서비스명과 URL로 최신 버전 조회 (소스의 최신 버전 포인터)
+        Optional<SwaggerSource> source = swaggerSourceRepository.findByServiceNameAndSwaggerUrl(req.serviceName(), req.swaggerUrl());
+        SwaggerVersion byServiceAndUrl = findLatestOf(source, req.serviceName(), req.swaggerUrl())
                 .orElse(new SwaggerVersion());
-        
+
         SwaggerVersion swaggerVersion = new SwaggerVersion();
         SwaggerVersion checkHash = swaggerVersion.saveSwaggerVersion(
-                req.serviceName(), 
-                req.swaggerUrl(), 
-                req.openApiSpec(), 
-                byServiceAndUrl.getHash()
+                req.serviceName(),
+                req.swaggerUrl(),
+                req.openApiSpec(),
+                byServiceAndUrl.getHash(),
+                canonicalJsonWriter
         );
 
+        // 정규화 JSON 은 swagger_version 컬럼 대신 payload 테이블에 저장
+        String rawJson = checkHash.getHash() == null ? null : checkHash.detachRawJson();
+
         SwaggerVersion save = swaggerVersionRepository.save(checkHash.getHash()==null ? byServiceAndUrl : checkHash);
-        
+
+        if (rawJson != null) {
+            savePayload(save, byServiceAndUrl, rawJson, req.openApiSpec().getPaths());
+            moveLatestPointers(source, save);
+        } else if (save.getId() != null) {
+            // 포인터가 없던 이전 데이터는 변경 없는 수집에서 채움
+            source.filter(s -> s.getLatestVersionId() == null)
+                    .ifPresent(s -> s.pointToLatestVersion(save.getId()));
+        }
+
         Long oldVersionId = (checkHash.getHash() != null && byServiceAndUrl.getId() != null) ? byServiceAndUrl.getId() : null;
-    
+
         return new SwaggerVersionRes(save.getId(), oldVersionId, "성공적으로 저장완료", checkHash.getHash()==null?true:false);
     }
 
     @Override
     public Optional<SwaggerVersion> findLatest() {
-        return swaggerVersionRepository.findTopByOrderByIdDesc();
+        Optional<ApiService> latest = apiServiceRepository.findOrderByLatestVersionIdDesc(PageRequest.of(0, 1)).stream().findFirst();
+        if (latest.isEmpty()) {
+            return swaggerVersionRepository.findTopByOrderByIdDesc();
+        }
+        return swaggerVersionRepository.findById(latest.get().getLatestVersionId());
     }
 
     @Override
     public Optional<SwaggerVersion> findLatestByServiceName(String serviceName) {
-        return swaggerVersionRepository.findTopByServiceNameOrderByIdDesc(serviceName);
+        Optional<Long> latestVersionId = apiServiceRepository.findByServiceName(serviceName).map(ApiService::getLatestVersionId);
+        if (latestVersionId.isEmpty()) {
+            return swaggerVersionRepository.findTopByServiceNameOrderByIdDesc(serviceName);
+        }
+        return swaggerVersionRepository.findById(latestVersionId.get());
+    }
+
+    @Override
+    public Optional<Long> findLatestIdByServiceNameAndSwaggerUrl(String serviceName, String swaggerUrl) {
+        Optional<Long> latestVersionId = swaggerSourceRepository.findByServiceNameAndSwaggerUrl(serviceName, swaggerUrl)
+                .map(SwaggerSource::getLatestVersionId);
+        if (latestVersionId.isEmpty()) {
+            return swaggerVersionRepository.findLatestIdByServiceNameAndSwaggerUrl(serviceName, swaggerUrl);
+        }
+        return latestVersionId;
     }
 
     @Override
     public Optional<SwaggerVersion> findById(Long id) {
         return swaggerVersionRepository.findById(id);
     }
+
+    @Override
+    public Optional<GetLatestSwaggerApiRes> findLatestSummary() {
+        Optional<ApiService> latest = apiServiceRepository.findOrderByLatestVersionIdDesc(PageRequest.of(0, 1)).stream().findFirst();
+        if (latest.isEmpty()) {
+            return swaggerVersionRepository.findSummariesOrderByIdDesc(PageRequest.of(0, 1)).stream().findFirst();
+        }
+        return latest.map(this::toSummary);
+    }
+
+    @Override
+    public Optional<GetLatestSwaggerApiRes> findLatestSummaryByServiceName(String serviceName) {
+        Optional<ApiService> service = apiServiceRepository.findByServiceName(serviceName)
+                .filter(s -> s.getLatestVersionId() != null);
+        if (service.isEmpty()) {
+            return swaggerVersionRepository.findSummariesByServiceNameOrderByIdDesc(serviceName, PageRequest.of(0, 1)).stream().findFirst();
+        }
+        return service.map(this::toSummary);
+    }
+
+    @Override
+    public Optional<String> findRawJson(Long swaggerVersionId) {
+        String cached = rawJsonCache.getIfPresent(swaggerVersionId);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+
+        // 이전 raw_json 컬럼 데이터는 V15 마이그레이션이 payload 로 옮겨 둠
+        Optional<SwaggerVersionPayload> payload = swaggerVersionPayloadRepository.findById(swaggerVersionId);
+        if (payload.isEmpty()) {
+            return Optional.empty();
+        }
+
+        String rawJson = reconstruct(payload.get());
+        rawJsonCache.put(swaggerVersionId, rawJson);
+        return Optional.of(rawJson);
+    }
+
+    /**
+     * 직전 버전이 payload 를 가지고 있고 체인이 snapshotInterval 보다 짧으면 델타, 아니면 스냅샷으로 저장합니다.
+     * (paths 대신 tags 로 해시한 버전처럼 하위 해시가 없으면 항상 스냅샷)
+     */
+    private void savePayload(SwaggerVersion version, SwaggerVersion previous, String rawJson, JsonNode paths) {
+        Optional<SwaggerVersionPayload> base = previous.getId() == null
+                ? Optional.empty()
+                : swaggerVersionPayloadRepository.findById(previous.getId());
+
+        boolean delta = base.isPresent()
+                && base.get().getChainLength() + 1 < snapshotInterval
+                && hasPathHashes(previous)
+                && hasPathHashes(version)
+                && paths != null && paths.isObject();
+
+        SwaggerVersionPayload payload;
+        if (delta) {
+            JsonNode ops = TopLevelJsonPatch.diff(previous.getPathHashes(), version.getPathHashes(), paths);
+            payload = SwaggerVersionPayload.builder()
+                    .swaggerVersionId(version.getId())
+                    .baseVersionId(previous.getId())
+                    .chainLength(base.get().getChainLength() + 1)
+                    .data(gzip(canonicalJsonWriter.writeValueAsString(ops)))
+                    .build();
+        } else {
+            payload = SwaggerVersionPayload.builder()
+                    .swaggerVersionId(version.getId())
+                    .chainLength(0)
+                    .data(gzip(rawJson))
+                    .build();
+        }
+        swaggerVersionPayloadRepository.save(payload);
+
+        // 다음 버전 diff/조회에서 바로 쓰일 가능성이 높으므로 캐시에 넣어 둠
+        rawJsonCache.put(version.getId(), rawJson);
+    }
+
+    /**
+     * 스냅샷(또는 캐시에 있는 중간 버전)까지 거슬러 올라간 뒤 델타를 순서대로 적용합니다.
+     */
+    private String reconstruct(SwaggerVersionPayload payload) {
+        Deque<SwaggerVersionPayload> deltas = new ArrayDeque<>();
+        SwaggerVersionPayload current = payload;
+        String base;
+        while (true) {
+            if (current.isSnapshot()) {
+                base = gunzip(current.getData());
+                break;
+            }
+            deltas.push(current);
+            String cachedBase = rawJsonCache.getIfPresent(current.getBaseVersionId());
+            if (cachedBase != null) {
+                base = cachedBase;
+                break;
+            }
+            Long baseVersionId = current.getBaseVersionId();
+            current = swaggerVersionPayloadRepository.findById(baseVersionId)
+                    .orElseThrow(() -> new IllegalStateException("델타 기준 버전 payload 없음: " + baseVersionId));
+        }
+
+        if (deltas.isEmpty()) {
+            return base;
+        }
+
+        try {
+            ObjectNode tree = (ObjectNode) objectMapper.readTree(base);
+            while (!deltas.isEmpty()) {
+                TopLevelJsonPatch.apply(tree, objectMapper.readTree(gunzip(deltas.pop().getData())));
+            }
+            return canonicalJsonWriter.writeValueAsString(tree);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 포인터가 없으면 (포인터 도입 전 데이터) 정렬 검색으로 대신함
+     */
+    private Optional<SwaggerVersion> findLatestOf(Optional<SwaggerSource> source, String serviceName, String swaggerUrl) {
+        Optional<Long> latestVersionId = source.map(SwaggerSource::getLatestVersionId);
+        if (latestVersionId.isEmpty()) {
+            return swaggerVersionRepository.findTopByServiceNameAndSwaggerUrlOrderByIdDesc(serviceName, swaggerUrl);
+        }
+        return swaggerVersionRepository.findById(latestVersionId.get());
+    }
+
+    /**
+     * 새 버전을 저장한 트랜잭션에서 소스/서비스의 최신 버전 포인터를 함께 옮깁니다.
+     * 소스는 수집 락 안에서만 바뀌므로 엔티티로, 서비스 행은 같은 서비스의 다른 URL 수집과 겹칠 수 있어 조건부 UPDATE 로 갱신합니다.
+     */
+    private void moveLatestPointers(Optional<SwaggerSource> source, SwaggerVersion version) {
+        source.ifPresent(s -> s.pointToLatestVersion(version.getId()));
+
+        LocalDateTime now = LocalDateTime.now();
+        apiServiceRepository.insertIfAbsent(version.getServiceName(), now);
+        apiServiceRepository.moveLatest(version.getServiceName(), version.getId(), version.getSwaggerUrl(),
+                version.getVersionTag(), version.getHash(), now);
+    }
+
+    private GetLatestSwaggerApiRes toSummary(ApiService service) {
+        return new GetLatestSwaggerApiRes(
+                service.getLatestVersionId(),
+                service.getServiceName(),
+                service.getSwaggerUrl(),
+                service.getVersionTag(),
+                service.getHash()
+        );
+    }
+
+    private boolean hasPathHashes(SwaggerVersion version) {
+        Map<String, String> pathHashes = version.getPathHashes();
+        return pathHashes != null && !pathHashes.isEmpty();
+    }
+
+    private static byte[] gzip(String json) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (OutputStream out = new GZIPOutputStream(bytes)) {
+            out.write(json.getBytes(StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    private static String gunzip(byte[] data) {
+        try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(data))) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
 }
@@ -1,8 +1,13 @@
 package blackspring.janusspec.infrastructure.persistence;
 
+import blackspring.janusspec.application.dto.GetLatestSwaggerApiRes;
 import blackspring.janusspec.domain.SwaggerVersion;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface SwaggerVersionRepository extends JpaRepository<SwaggerVersion,Long> {
@@ -10,4 +15,18 @@ public interface SwaggerVersionRepository extends JpaRepository<SwaggerVersion,L
     Optional<SwaggerVersion> findTopByServiceNameAndSwaggerUrlOrderByIdDesc(String serviceName, String url);
     Optional<SwaggerVersion> findTopByOrderByIdDesc();
     Optional<SwaggerVersion> findTopByServiceNameOrderByIdDesc(String serviceName);
+
+    // 최신 버전 id 만 (소스 포인터가 없는 이전 데이터용)
+    @Query("SELECT MAX(v.id) FROM SwaggerVersion v WHERE v.serviceName = :serviceName AND v.swaggerUrl = :swaggerUrl")
+    Optional<Long> findLatestIdByServiceNameAndSwaggerUrl(@Param("serviceName") String serviceName, @Param("swaggerUrl") String swaggerUrl);
+
+    // 버전 메타데이터만 (path/schema 해시 jsonb 는 읽지 않음)
+    String SUMMARY_SELECT = "SELECT new blackspring.janusspec.application.dto.GetLatestSwaggerApiRes("
+            + "v.id, v.serviceName, v.swaggerUrl, v.versionTag, v.hash) FROM SwaggerVersion v ";
+
+    @Query(SUMMARY_SELECT + "ORDER BY v.id DESC")
+    List<GetLatestSwaggerApiRes> findSummariesOrderByIdDesc(Pageable pageable);
+
+    @Query(SUMMARY_SELECT + "WHERE v.serviceName = :serviceName ORDER BY v.id DESC")
+    List<GetLatestSwaggerApiRes> findSummariesByServiceNameOrderByIdDesc(@Param("serviceName") String serviceName, Pageable pageable);
 }
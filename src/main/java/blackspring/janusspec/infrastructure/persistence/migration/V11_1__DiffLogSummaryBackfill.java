@@ -0,0 +1,49 @@
+package blackspring.janusspec.infrastructure.persistence.migration;
+
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+
+/**
+ * 요약 컬럼이 비어 있는 기존 api_diff_log 행을 diff_json 에서 DB 안에서 바로 채움 (user-017)
+ * 행이 많을 수 있어 트랜잭션 하나로 묶지 않고 배치마다 커밋합니다. (중간에 멈춰도 채운 행은 건너뛰고 이어서 실행)
+ */
+public class V11_1__DiffLogSummaryBackfill extends BaseJavaMigration {
+
+    // 한 번에 갱신할 행 수 (긴 잠금/큰 트랜잭션 방지)
+    private static final int BATCH_SIZE = 1000;
+
+    private static final String BACKFILL = """
+            UPDATE api_diff_log SET
+                service_name = COALESCE(service_name, diff_json ->> 'serviceName', 'unknown'),
+                old_version_tag = COALESCE(old_version_tag, diff_json ->> 'oldVersionTag', ''),
+                new_version_tag = COALESCE(new_version_tag, diff_json ->> 'newVersionTag', ''),
+                added_count = COALESCE((diff_json -> 'statistics' ->> 'added')::integer, 0),
+                removed_count = COALESCE((diff_json -> 'statistics' ->> 'removed')::integer, 0),
+                updated_count = COALESCE((diff_json -> 'statistics' ->> 'updated')::integer, 0),
+                total_changes = COALESCE((diff_json -> 'statistics' ->> 'total')::integer, 0)
+            WHERE id IN (SELECT id FROM api_diff_log WHERE total_changes IS NULL ORDER BY id LIMIT ?)
+            """;
+
+    @Override
+    public boolean canExecuteInTransaction() {
+        return false;
+    }
+
+    @Override
+    public void migrate(Context context) {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(new SingleConnectionDataSource(context.getConnection(), true));
+
+        int total = 0;
+        int updated;
+        do {
+            updated = jdbcTemplate.update(BACKFILL, BATCH_SIZE);
+            total += updated;
+        } while (updated == BATCH_SIZE);
+
+        if (total > 0) {
+            System.out.println("[BACKFILL] api_diff_log 요약 컬럼 " + total + "건");
+        }
+    }
+}
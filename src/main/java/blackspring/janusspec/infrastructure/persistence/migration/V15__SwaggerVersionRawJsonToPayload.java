@@ -0,0 +1,83 @@
+package blackspring.janusspec.infrastructure.persistence.migration;
+
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * swagger_version.raw_json (이전 데이터) 을 swagger_version_payload 스냅샷으로 옮김 (user-025)
+ * 엔티티가 더 이상 컬럼을 매핑하지 않으므로 본문은 payload 에서만 읽습니다.
+ * 문서가 클 수 있어 몇 건씩 나눠 배치마다 커밋하고, 옮긴 행의 컬럼은 비웁니다. (중간에 멈춰도 남은 행부터 이어서 실행)
+ */
+public class V15__SwaggerVersionRawJsonToPayload extends BaseJavaMigration {
+
+    private static final int BATCH_SIZE = 20;
+
+    private static final String SELECT_BATCH =
+            "SELECT id, raw_json FROM swagger_version WHERE raw_json IS NOT NULL ORDER BY id LIMIT ?";
+
+    // 이미 payload 가 있는 버전은 그대로 두고 컬럼만 비움
+    private static final String INSERT_SNAPSHOT = """
+            INSERT INTO swagger_version_payload (swagger_version_id, create_at, base_version_id, chain_length, data)
+            VALUES (?, now(), NULL, 0, ?)
+            ON CONFLICT (swagger_version_id) DO NOTHING
+            """;
+
+    private static final String CLEAR_RAW_JSON = "UPDATE swagger_version SET raw_json = NULL WHERE id = ?";
+
+    @Override
+    public boolean canExecuteInTransaction() {
+        return false;
+    }
+
+    @Override
+    public void migrate(Context context) throws Exception {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(new SingleConnectionDataSource(context.getConnection(), true));
+
+        int moved = 0;
+        List<Map<String, Object>> rows;
+        do {
+            rows = jdbcTemplate.queryForList(SELECT_BATCH, BATCH_SIZE);
+            context.getConnection().setAutoCommit(false);
+            try {
+                for (Map<String, Object> row : rows) {
+                    Long id = ((Number) row.get("id")).longValue();
+                    jdbcTemplate.update(INSERT_SNAPSHOT, id, gzip((String) row.get("raw_json")));
+                    jdbcTemplate.update(CLEAR_RAW_JSON, id);
+                }
+                context.getConnection().commit();
+            } catch (RuntimeException e) {
+                context.getConnection().rollback();
+                throw e;
+            } finally {
+                context.getConnection().setAutoCommit(true);
+            }
+            moved += rows.size();
+        } while (rows.size() == BATCH_SIZE);
+
+        if (moved > 0) {
+            System.out.println("[MIGRATE] swagger_version.raw_json -> swagger_version_payload " + moved + "건");
+        }
+    }
+
+    // 저장 형식(SwaggerVersionRepoAdapter 의 스냅샷)과 같은 gzip UTF-8, 이후 코드 변경과 무관하게 이 마이그레이션 안에 둠
+    private static byte[] gzip(String json) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (OutputStream out = new GZIPOutputStream(bytes)) {
+            out.write(json.getBytes(StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+}
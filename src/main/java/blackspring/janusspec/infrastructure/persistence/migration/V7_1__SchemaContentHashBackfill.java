@@ -0,0 +1,60 @@
+package blackspring.janusspec.infrastructure.persistence.migration;
+
+import blackspring.janusspec.infrastructure.adapter.json.CanonicalJsonWriter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.hash.Hashing;
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * content_hash 가 없는 기존 api_schema 행의 해시 계산 (user-010)
+ * 새로 저장되는 스키마와 같은 해시여야 비교/공유가 되므로 SQL 이 아닌 CanonicalJsonWriter 로 계산합니다.
+ * (jsonb 는 키 순서를 바꾸지만 정규화 JSON 은 키를 정렬하므로 같은 값이 나옴)
+ */
+public class V7_1__SchemaContentHashBackfill extends BaseJavaMigration {
+
+    private static final int BATCH_SIZE = 1000;
+
+    private static final String SELECT_BATCH = """
+            SELECT id, raw_schema::text AS raw_schema FROM api_schema
+            WHERE content_hash IS NULL AND raw_schema IS NOT NULL AND id > ?
+            ORDER BY id LIMIT ?
+            """;
+
+    private static final String UPDATE_HASH = "UPDATE api_schema SET content_hash = ? WHERE id = ?";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final CanonicalJsonWriter canonicalJsonWriter = new CanonicalJsonWriter();
+
+    @Override
+    public void migrate(Context context) throws Exception {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(new SingleConnectionDataSource(context.getConnection(), true));
+
+        long after = 0;
+        int updated = 0;
+        List<Map<String, Object>> rows;
+        do {
+            rows = jdbcTemplate.queryForList(SELECT_BATCH, after, BATCH_SIZE);
+            List<Object[]> hashes = new ArrayList<>(rows.size());
+            for (Map<String, Object> row : rows) {
+                String rawSchema = canonicalJsonWriter.writeValueAsString(objectMapper.readTree((String) row.get("raw_schema")));
+                String contentHash = Hashing.sha256().hashString(rawSchema, StandardCharsets.UTF_8).toString();
+                after = ((Number) row.get("id")).longValue();
+                hashes.add(new Object[]{contentHash, after});
+            }
+            jdbcTemplate.batchUpdate(UPDATE_HASH, hashes);
+            updated += rows.size();
+        } while (rows.size() == BATCH_SIZE);
+
+        if (updated > 0) {
+            System.out.println("[MIGRATE] api_schema.content_hash " + updated + "건");
+        }
+    }
+}
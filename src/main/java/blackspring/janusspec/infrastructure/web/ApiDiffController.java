@@ -1,8 +1,12 @@
 package blackspring.janusspec.infrastructure.web;
 
 import blackspring.janusspec.application.GetApiDiff;
+import blackspring.janusspec.application.dto.ApiDiffChangePageRes;
 import blackspring.janusspec.application.dto.ApiDiffDetailRes;
+import blackspring.janusspec.application.dto.ApiDiffLogCursorRes;
 import blackspring.janusspec.application.dto.ApiDiffLogSummaryRes;
+import blackspring.janusspec.application.dto.ApiEndpointChangeDto;
+import blackspring.janusspec.application.dto.ApiSchemaChangeDto;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -14,8 +18,11 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @Tag(name = "API 변경 이력 조회", description = "API 버전 간 변경 이력을 조회하는 API")
 @RestController
@@ -48,6 +55,28 @@ public class ApiDiffController {
         return ResponseEntity.ok(getApiDiff.getAllDiffLogs(pageable));
     }
 
+    @Operation(
+            summary = "전체 변경 이력 커서 조회",
+            description = "limit 을 주면 커서 방식으로 조회합니다. 응답의 nextCursor 를 다음 요청의 before 로 넘기며, 전체 개수를 세지 않아 이력이 길어져도 응답 시간이 일정합니다."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "조회 성공",
+                    content = @Content(schema = @Schema(implementation = ApiDiffLogCursorRes.class))
+            )
+    })
+    @GetMapping(params = "limit")
+    public ResponseEntity<ApiDiffLogCursorRes> getDiffLogsBefore(
+            @Parameter(description = "이 ID 보다 이전 이력부터 조회 (없으면 최신부터)", example = "120")
+            @RequestParam(required = false) Long before,
+
+            @Parameter(description = "조회 개수 (최대 100)", example = "20")
+            @RequestParam int limit) {
+
+        return ResponseEntity.ok(getApiDiff.getDiffLogsBefore(before, limit));
+    }
+
     @Operation(
             summary = "특정 서비스의 변경 이력 조회",
             description = "특정 서비스의 API 변경 이력만 조회합니다."
@@ -74,9 +103,34 @@ public class ApiDiffController {
         return ResponseEntity.ok(getApiDiff.getDiffLogsByService(serviceName, pageable));
     }
 
+    @Operation(
+            summary = "특정 서비스의 변경 이력 커서 조회",
+            description = "limit 을 주면 특정 서비스의 변경 이력을 커서 방식으로 조회합니다. (service_name, id) 인덱스를 사용하고 전체 개수를 세지 않습니다."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "조회 성공",
+                    content = @Content(schema = @Schema(implementation = ApiDiffLogCursorRes.class))
+            )
+    })
+    @GetMapping(value = "/service/{serviceName}", params = "limit")
+    public ResponseEntity<ApiDiffLogCursorRes> getDiffLogsByServiceBefore(
+            @Parameter(description = "서비스 이름", example = "users", required = true)
+            @PathVariable String serviceName,
+
+            @Parameter(description = "이 ID 보다 이전 이력부터 조회 (없으면 최신부터)", example = "120")
+            @RequestParam(required = false) Long before,
+
+            @Parameter(description = "조회 개수 (최대 100)", example = "20")
+            @RequestParam int limit) {
+
+        return ResponseEntity.ok(getApiDiff.getDiffLogsByServiceBefore(serviceName, before, limit));
+    }
+
     @Operation(
             summary = "변경 상세 정보 조회",
-            description = "특정 Diff Log의 상세 변경 내역을 조회합니다. 추가/삭제/수정된 모든 엔드포인트의 상세 정보를 포함합니다."
+            description = "특정 Diff Log의 변경 타입별 개수와 타입별 첫 페이지를 조회합니다. 나머지는 엔드포인트/스키마 변경 내역 페이지 조회나 스트리밍 조회를 사용합니다."
     )
     @ApiResponses(value = {
             @ApiResponse(
@@ -84,16 +138,148 @@ public class ApiDiffController {
                     description = "조회 성공",
                     content = @Content(schema = @Schema(implementation = ApiDiffDetailRes.class))
             ),
+            @ApiResponse(responseCode = "304", description = "변경 없음 (If-None-Match 일치)"),
             @ApiResponse(responseCode = "404", description = "Diff Log를 찾을 수 없음")
     })
     @GetMapping("/{diffLogId}")
     public ResponseEntity<ApiDiffDetailRes> getDiffDetail(
             @Parameter(description = "Diff Log ID", example = "1", required = true)
-            @PathVariable Long diffLogId) {
-        
-        return getApiDiff.getDiffDetail(diffLogId)
-                .map(ResponseEntity::ok)
+            @PathVariable Long diffLogId,
+
+            @Parameter(description = "변경 타입별 첫 페이지 크기 (최대 100)", example = "20")
+            @RequestParam(defaultValue = "20") int limit,
+
+            @Parameter(description = "전체 Diff JSON 포함 여부", example = "false")
+            @RequestParam(defaultValue = "false") boolean includeDiffJson,
+            @Parameter(hidden = true)
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+
+        // diff 로그는 바뀌지 않으므로 id 만으로 검증 (쿼리 파라미터는 URL 로 구분됨)
+        // 304 는 로그가 있을 때만 (없는 id 에 추측한 태그나 * 를 보내도 404)
+        String etag = diffEtag(diffLogId);
+        if (ConditionalRequests.matches(ifNoneMatch, etag)) {
+            return notModifiedIfExists(diffLogId, etag);
+        }
+        return getApiDiff.getDiffDetail(diffLogId, limit, includeDiffJson)
+                .map(detail -> immutable(etag, detail))
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    @Operation(
+            summary = "엔드포인트 변경 내역 페이지 조회",
+            description = "특정 Diff Log의 엔드포인트 변경 내역을 변경 타입별로 조회합니다. 응답의 nextCursor 를 다음 요청의 after 로 넘깁니다."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "조회 성공"),
+            @ApiResponse(responseCode = "304", description = "변경 없음 (If-None-Match 일치)"),
+            @ApiResponse(responseCode = "404", description = "Diff Log를 찾을 수 없음")
+    })
+    @GetMapping("/{diffLogId}/endpoints")
+    public ResponseEntity<ApiDiffChangePageRes<ApiEndpointChangeDto>> getEndpointChanges(
+            @Parameter(description = "Diff Log ID", example = "1", required = true)
+            @PathVariable Long diffLogId,
+
+            @Parameter(description = "변경 타입 (ADDED, REMOVED, UPDATED)", example = "ADDED", required = true)
+            @RequestParam String changeType,
+
+            @Parameter(description = "이 ID 이후부터 조회 (없으면 처음부터)")
+            @RequestParam(required = false) Long after,
+
+            @Parameter(description = "조회 개수 (최대 100)", example = "20")
+            @RequestParam(defaultValue = "20") int limit,
+            @Parameter(hidden = true)
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+
+        String etag = diffEtag(diffLogId);
+        if (ConditionalRequests.matches(ifNoneMatch, etag)) {
+            return notModifiedIfExists(diffLogId, etag);
+        }
+        return getApiDiff.getEndpointChanges(diffLogId, changeType, after, limit)
+                .map(page -> immutable(etag, page))
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    @Operation(
+            summary = "스키마 변경 내역 페이지 조회",
+            description = "특정 Diff Log의 스키마 변경 내역을 변경 타입별로 조회합니다. 응답의 nextCursor 를 다음 요청의 after 로 넘깁니다."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "조회 성공"),
+            @ApiResponse(responseCode = "304", description = "변경 없음 (If-None-Match 일치)"),
+            @ApiResponse(responseCode = "404", description = "Diff Log를 찾을 수 없음")
+    })
+    @GetMapping("/{diffLogId}/schemas")
+    public ResponseEntity<ApiDiffChangePageRes<ApiSchemaChangeDto>> getSchemaChanges(
+            @Parameter(description = "Diff Log ID", example = "1", required = true)
+            @PathVariable Long diffLogId,
+
+            @Parameter(description = "변경 타입 (ADDED, REMOVED, UPDATED)", example = "UPDATED", required = true)
+            @RequestParam String changeType,
+
+            @Parameter(description = "이 ID 이후부터 조회 (없으면 처음부터)")
+            @RequestParam(required = false) Long after,
+
+            @Parameter(description = "조회 개수 (최대 100)", example = "20")
+            @RequestParam(defaultValue = "20") int limit,
+            @Parameter(hidden = true)
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+
+        String etag = diffEtag(diffLogId);
+        if (ConditionalRequests.matches(ifNoneMatch, etag)) {
+            return notModifiedIfExists(diffLogId, etag);
+        }
+        return getApiDiff.getSchemaChanges(diffLogId, changeType, after, limit)
+                .map(page -> immutable(etag, page))
                 .orElse(ResponseEntity.notFound().build());
     }
+
+    @Operation(
+            summary = "변경 상세 정보 전체 스트리밍 조회",
+            description = "특정 Diff Log의 모든 변경 내역을 DB 커서에서 읽는 대로 스트리밍합니다. 큰 diff 도 응답 전체를 서버 메모리에 만들지 않습니다."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "조회 성공"),
+            @ApiResponse(responseCode = "304", description = "변경 없음 (If-None-Match 일치)"),
+            @ApiResponse(responseCode = "404", description = "Diff Log를 찾을 수 없음")
+    })
+    @GetMapping(value = "/{diffLogId}/stream", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamDiffDetail(
+            @Parameter(description = "Diff Log ID", example = "1", required = true)
+            @PathVariable Long diffLogId,
+            @Parameter(hidden = true)
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+
+        String etag = diffEtag(diffLogId);
+        if (ConditionalRequests.matches(ifNoneMatch, etag)) {
+            return notModifiedIfExists(diffLogId, etag);
+        }
+        if (!getApiDiff.existsDiffLog(diffLogId)) {
+            return ResponseEntity.notFound().build();
+        }
+        StreamingResponseBody body = out -> getApiDiff.writeDiffDetail(diffLogId, out);
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(ConditionalRequests.IMMUTABLE)
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(body);
+    }
+
+    private static String diffEtag(Long diffLogId) {
+        return ConditionalRequests.etag("diff", diffLogId);
+    }
+
+    private <T> ResponseEntity<T> notModifiedIfExists(Long diffLogId, String etag) {
+        if (!getApiDiff.existsDiffLog(diffLogId)) {
+            return ResponseEntity.notFound().build();
+        }
+        return ConditionalRequests.notModified(etag, ConditionalRequests.IMMUTABLE);
+    }
+
+    private static <T> ResponseEntity<T> immutable(String etag, T body) {
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(ConditionalRequests.IMMUTABLE)
+                .body(body);
+    }
 }
 
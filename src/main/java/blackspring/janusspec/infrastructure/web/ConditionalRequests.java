@@ -0,0 +1,67 @@
+package blackspring.janusspec.infrastructure.web;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.time.Duration;
+
+/**
+ * 조회 API 의 ETag / If-None-Match 처리
+ * 응답 본문을 만들기 전에 비교해서, 같으면 엔티티 조회 없이 304 로 끝냅니다.
+ * 태그가 id 로만 만들어지는 경우 304 전에 리소스가 있는지 확인해야 합니다. (* 는 리소스가 있을 때만 일치)
+ */
+final class ConditionalRequests {
+
+    // 최신 버전 조회처럼 바뀔 수 있는 응답: 저장은 하되 매번 재검증
+    static final CacheControl REVALIDATE = CacheControl.noCache();
+
+    // diff 로그는 한 번 쓰이면 바뀌지 않음
+    static final CacheControl IMMUTABLE = CacheControl.maxAge(Duration.ofDays(365)).cachePublic().immutable();
+
+    private ConditionalRequests() {
+    }
+
+    /**
+     * 강한 ETag (따옴표 포함)
+     */
+    static String etag(Object... parts) {
+        StringBuilder value = new StringBuilder("\"");
+        for (int i = 0; i < parts.length; i++) {
+            if (i > 0) {
+                value.append('-');
+            }
+            value.append(parts[i]);
+        }
+        return value.append('"').toString();
+    }
+
+    /**
+     * If-None-Match 는 약한 비교 (W/ 접두사 무시), 여러 값과 * 허용
+     */
+    static boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.equals("*")) {
+                return true;
+            }
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if (tag.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    static <T> ResponseEntity<T> notModified(String etag, CacheControl cacheControl) {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                .eTag(etag)
+                .cacheControl(cacheControl)
+                .build();
+    }
+}
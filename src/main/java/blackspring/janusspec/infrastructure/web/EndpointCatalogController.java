@@ -0,0 +1,54 @@
+package blackspring.janusspec.infrastructure.web;
+
+import blackspring.janusspec.application.GetEndpointCatalog;
+import blackspring.janusspec.application.dto.ApiEndpointFilter;
+import blackspring.janusspec.application.dto.CatalogEndpointsRes;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springdoc.core.annotations.ParameterObject;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@Tag(name = "엔드포인트 카탈로그 조회", description = "모든 서비스의 최신 버전 엔드포인트를 메모리 카탈로그에서 조회하는 API")
+@RestController
+@RequestMapping("/api/v1/endpoints")
+@RequiredArgsConstructor
+public class EndpointCatalogController {
+
+    private static final int MAX_LIMIT = 1000;
+
+    private final GetEndpointCatalog getEndpointCatalog;
+
+    @Operation(
+            summary = "전체 서비스 엔드포인트 조회",
+            description = "모든 서비스의 최신 버전 엔드포인트를 경로 접두사, HTTP 메서드, deprecated 여부, 스키마 이름으로 거릅니다. 서비스명, ID 순으로 반환하며 nextService/nextCursor 를 다음 요청의 afterService/after 로 넘겨 이어서 조회합니다. DB 를 조회하지 않습니다."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "조회 성공",
+                    content = @Content(schema = @Schema(implementation = CatalogEndpointsRes.class))
+            )
+    })
+    @GetMapping
+    public ResponseEntity<CatalogEndpointsRes> searchEndpoints(
+            @ParameterObject ApiEndpointFilter filter,
+
+            @Parameter(description = "이 서비스부터 조회 (없으면 처음부터)", example = "users")
+            @RequestParam(required = false) String afterService,
+
+            @Parameter(description = "afterService 의 이 커서 이후부터 조회")
+            @RequestParam(required = false) Long after,
+
+            @Parameter(description = "조회 개수 (최대 1000)", example = "100")
+            @RequestParam(defaultValue = "100") int limit) {
+        int size = Math.max(1, Math.min(limit, MAX_LIMIT));
+        return ResponseEntity.ok(getEndpointCatalog.searchEndpoints(filter, afterService, after, size));
+    }
+}
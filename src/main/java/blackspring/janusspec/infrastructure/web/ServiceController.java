@@ -0,0 +1,63 @@
+package blackspring.janusspec.infrastructure.web;
+
+import blackspring.janusspec.application.GetServices;
+import blackspring.janusspec.application.dto.ServiceSummaryRes;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@Tag(name = "서비스 목록 조회", description = "수집 중인 서비스와 최신 버전 통계를 조회하는 API")
+@RestController
+@RequestMapping("/api/v1/services")
+@RequiredArgsConstructor
+public class ServiceController {
+
+    private final GetServices getServices;
+
+    @Operation(
+            summary = "서비스 목록 조회",
+            description = "수집 중인 서비스의 최신 버전, 엔드포인트/스키마 개수, 마지막 변경 시간과 Diff Log ID를 조회합니다. 버전 이력은 읽지 않습니다."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "조회 성공",
+                    content = @Content(array = @ArraySchema(schema = @Schema(implementation = ServiceSummaryRes.class)))
+            )
+    })
+    @GetMapping
+    public ResponseEntity<List<ServiceSummaryRes>> getServices() {
+        return ResponseEntity.ok(getServices.getServices());
+    }
+
+    @Operation(
+            summary = "서비스 조회",
+            description = "서비스 하나의 최신 버전과 통계를 조회합니다."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "조회 성공",
+                    content = @Content(schema = @Schema(implementation = ServiceSummaryRes.class))
+            ),
+            @ApiResponse(responseCode = "404", description = "서비스를 찾을 수 없음")
+    })
+    @GetMapping("/{serviceName}")
+    public ResponseEntity<ServiceSummaryRes> getService(
+            @Parameter(description = "서비스 이름", example = "users", required = true)
+            @PathVariable String serviceName) {
+        return getServices.getService(serviceName)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+}
@@ -1,10 +1,19 @@
 package blackspring.janusspec.infrastructure.web;
 
+import blackspring.janusspec.application.GetEndpointCatalog;
+import blackspring.janusspec.application.GetIngestJob;
 import blackspring.janusspec.application.SaveApiSpec;
+import blackspring.janusspec.application.SaveApiSpecBatch;
+import blackspring.janusspec.application.TrackSwaggerSource;
+import blackspring.janusspec.application.dto.ApiEndpointFilter;
 import blackspring.janusspec.application.dto.GetLatestSwaggerApiRes;
 import blackspring.janusspec.application.dto.GetServiceApiPathsRes;
+import blackspring.janusspec.application.dto.IngestJobRes;
 import blackspring.janusspec.application.dto.SaveSwaggerApiReq;
 import blackspring.janusspec.application.dto.SaveSwaggerApiRes;
+import blackspring.janusspec.application.dto.SaveSwaggerBatchRes;
+import blackspring.janusspec.application.dto.SaveSwaggerJobRes;
+import blackspring.janusspec.application.dto.SwaggerTrackingReq;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -13,15 +22,31 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.springdoc.core.annotations.ParameterObject;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.net.URI;
+import java.util.List;
+import java.util.Optional;
 
 @Tag(name = "Swagger API 관리", description = "외부 Swagger API 수집 및 버전 관리 API")
 @RestController
 @RequiredArgsConstructor
 public class SwaggerController {
 
+    private static final String NDJSON = "application/x-ndjson";
+    private static final int MAX_PATHS_LIMIT = 1000;
+    private static final int MAX_BATCH_ITEMS = 100;
+
     private final SaveApiSpec saveApiSpec;
+    private final SaveApiSpecBatch saveApiSpecBatch;
+    private final GetIngestJob getIngestJob;
+    private final GetEndpointCatalog getEndpointCatalog;
+    private final TrackSwaggerSource trackSwaggerSource;
 
     @Operation(
             summary = "외부 Swagger API 수집 및 저장",
@@ -47,6 +72,112 @@ public class SwaggerController {
         return ResponseEntity.ok(saveApiSpec.saveServiceApiSpec(req));
     }
 
+    @Operation(
+            summary = "외부 Swagger API 비동기 수집",
+            description = "Swagger JSON을 수집해 새 버전만 커밋하고 바로 작업 ID를 반환합니다. 엔드포인트/스키마 저장과 이전 버전 비교는 백그라운드에서 처리되며, 진행 상태는 작업 조회 API로 확인합니다."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "202",
+                    description = "새 버전 커밋, 작업 예약됨",
+                    content = @Content(schema = @Schema(implementation = SaveSwaggerJobRes.class))
+            ),
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "변경 없음 (작업 없음)",
+                    content = @Content(schema = @Schema(implementation = SaveSwaggerJobRes.class))
+            ),
+            @ApiResponse(responseCode = "400", description = "잘못된 요청")
+    })
+    @PostMapping(value = "/api/v1/swagger", params = "async=true")
+    public ResponseEntity<SaveSwaggerJobRes> saveSwaggerApiAsync(
+            @io.swagger.v3.oas.annotations.parameters.RequestBody(
+                    description = "Swagger API URL 및 서비스명",
+                    required = true,
+                    content = @Content(schema = @Schema(implementation = SaveSwaggerApiReq.class))
+            )
+            @RequestBody SaveSwaggerApiReq req) {
+        SaveSwaggerJobRes res = saveApiSpec.saveServiceApiSpecAsync(req);
+        if (res.jobId() == null) {
+            return ResponseEntity.ok(res);
+        }
+        return ResponseEntity.accepted()
+                .location(URI.create("/api/v1/swagger/jobs/" + res.jobId()))
+                .body(res);
+    }
+
+    @Operation(
+            summary = "비동기 수집 작업 상태 조회",
+            description = "작업 상태(PENDING, RUNNING, COMPLETED, FAILED)와 실행 단계를 조회합니다. 완료되면 생성된 diff 로그 ID를 함께 반환합니다."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "조회 성공",
+                    content = @Content(schema = @Schema(implementation = IngestJobRes.class))
+            ),
+            @ApiResponse(responseCode = "404", description = "작업을 찾을 수 없음")
+    })
+    @GetMapping("/api/v1/swagger/jobs/{jobId}")
+    public ResponseEntity<IngestJobRes> getIngestJob(
+            @Parameter(description = "작업 ID", example = "1", required = true)
+            @PathVariable Long jobId) {
+        return getIngestJob.getIngestJob(jobId)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    @Operation(
+            summary = "외부 Swagger API 일괄 수집 및 저장",
+            description = "여러 서비스의 Swagger JSON을 동시에 수집합니다. 호스트별 동시 요청 수, 항목별 타임아웃과 요청 전체 기한이 적용되며 (기한 안에 시작하지 못한 항목은 TIMEOUT), 항목별 결과(NEW_VERSION, UNCHANGED, ERROR, TIMEOUT)를 요청 순서대로 반환합니다. 한 번에 최대 " + MAX_BATCH_ITEMS + "개까지 요청할 수 있습니다."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "처리 완료 (항목별 성공/실패는 응답 본문 참고)",
+                    content = @Content(schema = @Schema(implementation = SaveSwaggerBatchRes.class))
+            ),
+            @ApiResponse(responseCode = "400", description = "잘못된 요청 (항목 수 초과 포함)")
+    })
+    @PostMapping("/api/v1/swagger/batch")
+    public ResponseEntity<SaveSwaggerBatchRes> saveSwaggerApis(
+            @io.swagger.v3.oas.annotations.parameters.RequestBody(
+                    description = "Swagger API URL 및 서비스명 목록",
+                    required = true
+            )
+            @RequestBody List<SaveSwaggerApiReq> reqs) {
+        // 항목마다 가상 스레드와 upstream 요청이 생기므로 한 요청의 크기를 제한
+        if (reqs.size() > MAX_BATCH_ITEMS) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(saveApiSpecBatch.saveServiceApiSpecs(reqs));
+    }
+
+    @Operation(
+            summary = "주기 수집 대상 변경",
+            description = "수집된 적 있는 (서비스명, Swagger URL) 을 주기 수집 대상에 넣거나 뺍니다. 처음 수집될 때 대상으로 등록되며, 다시 넣으면 다음 스케줄 주기에 바로 수집합니다."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "204", description = "변경됨"),
+            @ApiResponse(responseCode = "400", description = "잘못된 요청"),
+            @ApiResponse(responseCode = "404", description = "수집된 적 없는 대상")
+    })
+    @PutMapping("/api/v1/swagger/tracking")
+    public ResponseEntity<Void> updateTracking(
+            @io.swagger.v3.oas.annotations.parameters.RequestBody(
+                    description = "Swagger API URL, 서비스명, 주기 수집 여부",
+                    required = true,
+                    content = @Content(schema = @Schema(implementation = SwaggerTrackingReq.class))
+            )
+            @RequestBody SwaggerTrackingReq req) {
+        if (req.url() == null || req.url().isBlank() || req.serviceName() == null || req.serviceName().isBlank()) {
+            return ResponseEntity.badRequest().build();
+        }
+        return trackSwaggerSource.setTracked(req.serviceName(), req.url(), req.tracked())
+                ? ResponseEntity.noContent().build()
+                : ResponseEntity.notFound().build();
+    }
+
     @Operation(
             summary = "최신 Swagger API 정보 조회",
             description = "가장 최근에 저장된 Swagger API 버전 정보를 조회합니다."
@@ -57,18 +188,30 @@ public class SwaggerController {
                     description = "조회 성공",
                     content = @Content(schema = @Schema(implementation = GetLatestSwaggerApiRes.class))
             ),
+            @ApiResponse(responseCode = "304", description = "최신 버전 변경 없음 (If-None-Match 일치)"),
             @ApiResponse(responseCode = "404", description = "데이터 없음")
     })
     @GetMapping("/api/v1/swagger/latest")
-    public ResponseEntity<GetLatestSwaggerApiRes> getLatestSwaggerApi() {
+    public ResponseEntity<GetLatestSwaggerApiRes> getLatestSwaggerApi(
+            @Parameter(hidden = true)
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
         return saveApiSpec.getLatestSwaggerApi()
-                .map(ResponseEntity::ok)
+                .map(latest -> {
+                    String etag = versionEtag(latest);
+                    if (ConditionalRequests.matches(ifNoneMatch, etag)) {
+                        return ConditionalRequests.<GetLatestSwaggerApiRes>notModified(etag, ConditionalRequests.REVALIDATE);
+                    }
+                    return ResponseEntity.ok()
+                            .eTag(etag)
+                            .cacheControl(ConditionalRequests.REVALIDATE)
+                            .body(latest);
+                })
                 .orElse(ResponseEntity.notFound().build());
     }
 
     @Operation(
-            summary = "특정 서비스의 모든 API 경로 조회",
-            description = "서비스명으로 해당 서비스의 최신 버전 모든 API 엔드포인트를 조회합니다."
+            summary = "특정 서비스의 API 경로 조회",
+            description = "서비스명으로 해당 서비스의 최신 버전 API 엔드포인트를 조회합니다. 경로 접두사, HTTP 메서드, deprecated 여부, 스키마 이름으로 거를 수 있고, limit 을 주면 nextCursor 를 다음 요청의 after 로 넘겨 이어서 조회합니다."
     )
     @ApiResponses(value = {
             @ApiResponse(
@@ -76,14 +219,96 @@ public class SwaggerController {
                     description = "조회 성공",
                     content = @Content(schema = @Schema(implementation = GetServiceApiPathsRes.class))
             ),
+            @ApiResponse(responseCode = "304", description = "최신 버전 변경 없음 (If-None-Match 일치)"),
             @ApiResponse(responseCode = "404", description = "서비스를 찾을 수 없음")
     })
     @GetMapping("/api/v1/swagger/{serviceName}/paths")
     public ResponseEntity<GetServiceApiPathsRes> getServiceApiPaths(
             @Parameter(description = "서비스 이름", example = "users", required = true)
-            @PathVariable String serviceName) {
-        return saveApiSpec.getServiceApiPaths(serviceName)
-                .map(ResponseEntity::ok)
+            @PathVariable String serviceName,
+
+            @ParameterObject ApiEndpointFilter filter,
+
+            @Parameter(description = "이 커서 이후부터 조회 (없으면 처음부터)")
+            @RequestParam(required = false) Long after,
+
+            @Parameter(description = "조회 개수 (최대 1000, 없으면 전체)", example = "100")
+            @RequestParam(required = false) Integer limit,
+
+            @Parameter(hidden = true)
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        int size = limit == null ? 0 : Math.max(1, Math.min(limit, MAX_PATHS_LIMIT));
+
+        // 메모리 카탈로그에 있으면 DB 조회 없이 응답, 아직 없으면 (시작 직후 등) DB 로 조회
+        Optional<GetLatestSwaggerApiRes> cataloged = getEndpointCatalog.getLatestVersion(serviceName);
+        Optional<GetLatestSwaggerApiRes> latest = cataloged.isPresent() ? cataloged : saveApiSpec.getLatestSwaggerApi(serviceName);
+        if (latest.isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+
+        // 카탈로그에는 내용까지 커밋된 버전만 올라감
+        // DB 의 최신 버전은 비동기 수집 작업이 남아 있거나 실패로 끝났으면 엔드포인트가 비어 있을 수 있어 검증자를 주지 않음
+        // (빈 목록에 ETag 를 주면 재시도로 채워진 뒤에도 클라이언트가 304 로 빈 목록을 계속 씀)
+        Long versionId = latest.get().id();
+        String etag = cataloged.isPresent() || saveApiSpec.isContentReady(versionId) ? versionEtag(latest.get()) : null;
+        if (etag != null && ConditionalRequests.matches(ifNoneMatch, etag)) {
+            return ConditionalRequests.notModified(etag, ConditionalRequests.REVALIDATE);
+        }
+
+        // ETag 를 만든 버전 그대로 조회 (그 사이 카탈로그가 교체되면 같은 버전을 DB 에서 읽음)
+        return getEndpointCatalog.getServiceApiPaths(serviceName, versionId, filter, after, size)
+                .or(() -> saveApiSpec.getApiPaths(versionId, filter, after, size))
+                .map(paths -> etag == null
+                        ? ResponseEntity.ok(paths)
+                        : ResponseEntity.ok()
+                                .eTag(etag)
+                                .cacheControl(ConditionalRequests.REVALIDATE)
+                                .body(paths))
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    @Operation(
+            summary = "특정 서비스의 API 경로 스트리밍 조회 (NDJSON)",
+            description = "최신 버전 API 엔드포인트를 DB 커서에서 읽는 대로 한 줄에 하나씩 JSON 으로 내려줍니다. 필터는 일반 조회와 같고, 버전 정보는 응답 헤더로 전달합니다."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "조회 성공"),
+            @ApiResponse(responseCode = "304", description = "최신 버전 변경 없음 (If-None-Match 일치)"),
+            @ApiResponse(responseCode = "404", description = "서비스를 찾을 수 없음")
+    })
+    @GetMapping(value = "/api/v1/swagger/{serviceName}/paths", params = "format=ndjson", produces = NDJSON)
+    public ResponseEntity<StreamingResponseBody> streamServiceApiPaths(
+            @Parameter(description = "서비스 이름", example = "users", required = true)
+            @PathVariable String serviceName,
+
+            @ParameterObject ApiEndpointFilter filter,
+
+            @Parameter(hidden = true)
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        return saveApiSpec.getLatestSwaggerApi(serviceName)
+                .map(latest -> {
+                    String etag = saveApiSpec.isContentReady(latest.id()) ? versionEtag(latest) : null;
+                    if (etag != null && ConditionalRequests.matches(ifNoneMatch, etag)) {
+                        return ConditionalRequests.<StreamingResponseBody>notModified(etag, ConditionalRequests.REVALIDATE);
+                    }
+
+                    StreamingResponseBody body = out -> saveApiSpec.writeApiPaths(latest.id(), filter, out);
+                    ResponseEntity.BodyBuilder ok = ResponseEntity.ok()
+                            .header("X-Swagger-Version-Id", String.valueOf(latest.id()))
+                            .header("X-Swagger-Version-Tag", latest.versionTag())
+                            .contentType(MediaType.parseMediaType(NDJSON));
+                    if (etag != null) {
+                        ok.eTag(etag).cacheControl(ConditionalRequests.REVALIDATE);
+                    }
+                    return ok.body(body);
+                })
                 .orElse(ResponseEntity.notFound().build());
     }
+
+    /**
+     * 버전 id + 정규화 해시 (버전 행은 한 번 저장되면 바뀌지 않음)
+     */
+    private static String versionEtag(GetLatestSwaggerApiRes version) {
+        return ConditionalRequests.etag("v" + version.id(), version.hash());
+    }
 }
@@ -0,0 +1,18 @@
+-- 비동기 수집 작업 (user-016)
+CREATE TABLE ingest_job (
+    id bigint GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    create_at timestamp(6) NOT NULL,
+    source_id bigint NOT NULL,
+    service_name varchar(100) NOT NULL,
+    swagger_url varchar(500) NOT NULL,
+    swagger_version_id bigint NOT NULL,
+    old_version_id bigint,
+    status varchar(20) NOT NULL CHECK (status IN ('PENDING', 'RUNNING', 'COMPLETED', 'FAILED')),
+    api_diff_log_id bigint,
+    error varchar(1000),
+    attempts integer NOT NULL,
+    started_at timestamp(6),
+    finished_at timestamp(6),
+    spec_data bytea
+);
+CREATE INDEX idx_ingest_job_status ON ingest_job (status, id);
@@ -0,0 +1,11 @@
+-- 목록 조회용 diff 요약 컬럼 (user-017)
+-- 기존 행은 이어지는 V11_1 이 diff_json 에서 나눠 채움
+ALTER TABLE api_diff_log
+    ADD COLUMN service_name varchar(100),
+    ADD COLUMN old_version_tag varchar(50),
+    ADD COLUMN new_version_tag varchar(50),
+    ADD COLUMN added_count integer,
+    ADD COLUMN removed_count integer,
+    ADD COLUMN updated_count integer,
+    ADD COLUMN total_changes integer;
+CREATE INDEX idx_api_diff_log_service_name ON api_diff_log (service_name, id);
@@ -0,0 +1,3 @@
+-- diff 상세(엔드포인트/스키마)를 변경 유형별 커서로 조회하기 위한 인덱스 (user-019)
+CREATE INDEX idx_api_diff_endpoint_log_type ON api_diff_endpoint (diff_log_id, change_type, id);
+CREATE INDEX idx_api_diff_schema_log_type ON api_diff_schema (diff_log_id, change_type, id);
@@ -0,0 +1,7 @@
+-- 경로 목록 필터용 api_endpoint 인덱스 (user-020)
+-- 경로 접두사 LIKE 'prefix%' (DB 기본 collation 과 무관하게 인덱스 범위 검색)
+CREATE INDEX idx_api_endpoint_source_path_prefix ON api_endpoint (source_id, path varchar_pattern_ops);
+-- deprecated 는 소수이므로 해당 행만 담는 부분 인덱스
+CREATE INDEX idx_api_endpoint_source_deprecated ON api_endpoint (source_id) WHERE deprecated;
+CREATE INDEX idx_api_endpoint_source_request_schema ON api_endpoint (source_id, request_schema_name);
+CREATE INDEX idx_api_endpoint_source_response_schema ON api_endpoint (source_id, response_schema_name);
@@ -0,0 +1,42 @@
+-- 서비스 목록(service)과 소스별 최신 버전 포인터 (user-022)
+CREATE TABLE service (
+    id bigint GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    create_at timestamp(6) NOT NULL,
+    service_name varchar(100) NOT NULL,
+    latest_version_id bigint,
+    swagger_url varchar(500),
+    version_tag varchar(50),
+    hash varchar(128),
+    endpoint_count integer,
+    schema_count integer,
+    last_changed_at timestamp(6),
+    last_diff_log_id bigint,
+    CONSTRAINT uk_service_service_name UNIQUE (service_name)
+);
+CREATE INDEX idx_service_latest_version ON service (latest_version_id);
+
+ALTER TABLE swagger_source ADD COLUMN latest_version_id bigint;
+
+-- 기존 데이터의 포인터 채우기
+-- swagger_version.id 는 행마다 DB 가 발급하는 IDENTITY 값이라 큰 값이 나중에 만들어진 버전
+UPDATE swagger_source s SET latest_version_id = v.max_id
+FROM (SELECT service_name, swagger_url, MAX(id) AS max_id FROM swagger_version GROUP BY service_name, swagger_url) v
+WHERE v.service_name = s.service_name AND v.swagger_url = s.swagger_url;
+
+INSERT INTO service (service_name, create_at, latest_version_id, swagger_url, version_tag, hash)
+SELECT DISTINCT ON (v.service_name) v.service_name, now(), v.id, v.swagger_url, v.version_tag, v.hash
+FROM swagger_version v
+ORDER BY v.service_name, v.id DESC;
+
+-- 엔드포인트/스키마 수는 내용 저장이 끝난 버전만 채움 (끝나지 않았거나 실패한 작업의 버전은 작업이 완료될 때 채움)
+UPDATE service sv SET
+    -- 유효 구간 행(열린 구간) + 구간 도입 전 행(그 버전에만 속함)
+    endpoint_count = (SELECT COUNT(*) FROM api_endpoint e JOIN swagger_source src ON e.source_id = src.id
+                      WHERE src.latest_version_id = sv.latest_version_id AND e.valid_to_version_id IS NULL)
+                   + (SELECT COUNT(*) FROM api_endpoint e
+                      WHERE e.source_id IS NULL AND e.swagger_version_id = sv.latest_version_id),
+    schema_count = (SELECT COUNT(*) FROM api_schema a WHERE a.swagger_version_id = sv.latest_version_id),
+    last_diff_log_id = (SELECT MAX(d.id) FROM api_diff_log d WHERE d.new_version_id = sv.latest_version_id)
+WHERE sv.latest_version_id IS NOT NULL
+  AND NOT EXISTS (SELECT 1 FROM ingest_job j
+                  WHERE j.swagger_version_id = sv.latest_version_id AND j.status <> 'COMPLETED');
@@ -0,0 +1,2 @@
+-- 실패한 작업은 next_attempt_at 까지 PENDING 으로 대기하다 재시도 (user-016)
+ALTER TABLE ingest_job ADD COLUMN next_attempt_at timestamp(6);
@@ -0,0 +1,62 @@
+-- 기준 스키마 (ddl-auto 로 만들어진 기존 DB 는 baseline-on-migrate 로 이 버전을 적용된 것으로 보고 V2 부터 실행)
+-- 제약 조건 이름은 Hibernate 가 만든 기존 DB 와 같게 둠
+
+CREATE TABLE swagger_version (
+    id bigint GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    service_name varchar(100) NOT NULL,
+    swagger_url varchar(500) NOT NULL,
+    version_tag varchar(50) NOT NULL,
+    raw_json text,
+    hash varchar(128)
+);
+
+CREATE INDEX idx_service_url ON swagger_version (service_name, swagger_url);
+
+CREATE TABLE api_endpoint (
+    id bigint GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    create_at timestamp(6) NOT NULL,
+    swagger_version_id bigint CONSTRAINT fks7kh2op4e8su802fx9juvesiy REFERENCES swagger_version,
+    path varchar(500) NOT NULL,
+    http_method varchar(10) NOT NULL,
+    summary text,
+    operation_id varchar(200),
+    deprecated boolean NOT NULL,
+    request_schema_name varchar(200),
+    response_schema_name varchar(200)
+);
+
+CREATE TABLE api_schema (
+    id bigint GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    create_at timestamp(6) NOT NULL,
+    swagger_version_id bigint CONSTRAINT fkqs1767poftq14hj6fqaxoeqw9 REFERENCES swagger_version,
+    name varchar(200) NOT NULL,
+    raw_schema jsonb,
+    properties jsonb
+);
+
+CREATE TABLE api_diff_log (
+    id bigint GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    create_at timestamp(6) NOT NULL,
+    old_version_id bigint CONSTRAINT fkrqifm4hilf7a4lctaf87cgtts REFERENCES swagger_version,
+    new_version_id bigint CONSTRAINT fk58kjb40c60goaaxlyuapt42jj REFERENCES swagger_version,
+    diff_json jsonb
+);
+
+CREATE TABLE api_diff_endpoint (
+    id bigint GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    diff_log_id bigint CONSTRAINT fk850885un23eoxat9631kuk5r4 REFERENCES api_diff_log,
+    path varchar(500),
+    http_method varchar(10),
+    change_type varchar(50),
+    before_json jsonb,
+    after_json jsonb
+);
+
+CREATE TABLE api_diff_schema (
+    id bigint GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    diff_log_id bigint CONSTRAINT fk1beh2qeag4ruamj1u3ymoa0y REFERENCES api_diff_log,
+    schema_name varchar(200),
+    change_type varchar(50),
+    before_json jsonb,
+    after_json jsonb
+);
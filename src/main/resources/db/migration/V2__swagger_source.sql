@@ -0,0 +1,10 @@
+-- 조건부 요청 검증자 (user-002)
+CREATE TABLE swagger_source (
+    id bigint GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    create_at timestamp(6) NOT NULL,
+    service_name varchar(100) NOT NULL,
+    swagger_url varchar(500) NOT NULL,
+    etag varchar(500),
+    last_modified varchar(100),
+    CONSTRAINT uk_swagger_source_service_url UNIQUE (service_name, swagger_url)
+);
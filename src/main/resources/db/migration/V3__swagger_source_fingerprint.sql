@@ -0,0 +1,2 @@
+-- 응답 원본 바이트 지문 (user-003)
+ALTER TABLE swagger_source ADD COLUMN fingerprint varchar(64);
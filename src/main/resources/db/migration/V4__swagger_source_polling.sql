@@ -0,0 +1,10 @@
+-- 주기 수집 스케줄 (user-005)
+-- 이미 등록된 소스는 수집이 성공했던 대상이므로 추적 대상으로 시작, 실패 횟수는 int 로 읽으므로 NULL 을 두지 않음
+ALTER TABLE swagger_source
+    ADD COLUMN tracked boolean NOT NULL DEFAULT true,
+    ADD COLUMN poll_interval_seconds bigint,
+    ADD COLUMN next_poll_at timestamp(6),
+    ADD COLUMN last_polled_at timestamp(6),
+    ADD COLUMN consecutive_failures integer NOT NULL DEFAULT 0;
+
+CREATE INDEX idx_swagger_source_next_poll ON swagger_source (tracked, next_poll_at);
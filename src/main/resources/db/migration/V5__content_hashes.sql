@@ -0,0 +1,9 @@
+-- 경로/스키마 단위 내용 해시 (user-007)
+-- 기존 버전은 해시가 없으므로(NULL) 비교 시 원본 내용으로 판단
+ALTER TABLE swagger_version
+    ADD COLUMN path_hashes jsonb,
+    ADD COLUMN schema_hashes jsonb;
+ALTER TABLE api_endpoint ADD COLUMN content_hash varchar(64);
+ALTER TABLE api_schema ADD COLUMN content_hash varchar(64);
+CREATE INDEX idx_api_endpoint_version_path ON api_endpoint (swagger_version_id, path);
+CREATE INDEX idx_api_schema_version_name ON api_schema (swagger_version_id, name);
@@ -0,0 +1,18 @@
+-- insert 배치를 위해 상세 행 id 를 IDENTITY 에서 pooled 시퀀스로 전환 (user-008)
+-- 엔티티의 @SequenceGenerator allocationSize(50) 와 INCREMENT 가 같아야 함
+-- pooled 최적화기는 nextval 값을 블록의 끝으로 보고 (값 - 49) 부터 쓰므로 기존 최대 id + 50 에서 시작해 겹치지 않게 함
+ALTER TABLE api_endpoint ALTER COLUMN id DROP IDENTITY IF EXISTS;
+CREATE SEQUENCE api_endpoint_seq INCREMENT BY 50;
+SELECT setval('api_endpoint_seq', COALESCE((SELECT MAX(id) FROM api_endpoint), 0) + 50, false);
+
+ALTER TABLE api_schema ALTER COLUMN id DROP IDENTITY IF EXISTS;
+CREATE SEQUENCE api_schema_seq INCREMENT BY 50;
+SELECT setval('api_schema_seq', COALESCE((SELECT MAX(id) FROM api_schema), 0) + 50, false);
+
+ALTER TABLE api_diff_endpoint ALTER COLUMN id DROP IDENTITY IF EXISTS;
+CREATE SEQUENCE api_diff_endpoint_seq INCREMENT BY 50;
+SELECT setval('api_diff_endpoint_seq', COALESCE((SELECT MAX(id) FROM api_diff_endpoint), 0) + 50, false);
+
+ALTER TABLE api_diff_schema ALTER COLUMN id DROP IDENTITY IF EXISTS;
+CREATE SEQUENCE api_diff_schema_seq INCREMENT BY 50;
+SELECT setval('api_diff_schema_seq', COALESCE((SELECT MAX(id) FROM api_diff_schema), 0) + 50, false);
@@ -0,0 +1,14 @@
+-- api_schema 의 본문을 해시별로 한 번만 옮기고 (같은 해시는 가장 먼저 저장된 행 기준), 버전별 행에서는 본문 컬럼 제거 (user-010)
+-- 본문이 없던 행은 해시도 NULL 로 남음 (조회 시 본문 없음으로 처리)
+INSERT INTO api_schema_content (content_hash, create_at, raw_schema, properties)
+SELECT DISTINCT ON (content_hash) content_hash, create_at, raw_schema, properties
+FROM api_schema
+WHERE content_hash IS NOT NULL
+ORDER BY content_hash, id
+ON CONFLICT (content_hash) DO NOTHING;
+
+ALTER TABLE api_schema
+    ADD CONSTRAINT fknxru3y0w18axn9qo1kbxe64xc FOREIGN KEY (content_hash) REFERENCES api_schema_content;
+ALTER TABLE api_schema
+    DROP COLUMN raw_schema,
+    DROP COLUMN properties;
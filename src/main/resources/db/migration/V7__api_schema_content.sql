@@ -0,0 +1,8 @@
+-- 스키마 본문을 해시로 공유 저장 (user-010)
+-- 기존 행의 해시 계산(V7_1)과 본문 이동, 컬럼 정리(V7_2)는 이어지는 마이그레이션에서 수행
+CREATE TABLE api_schema_content (
+    content_hash varchar(64) PRIMARY KEY,
+    create_at timestamp(6) NOT NULL,
+    raw_schema jsonb,
+    properties jsonb
+);
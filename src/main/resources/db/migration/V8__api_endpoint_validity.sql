@@ -0,0 +1,6 @@
+-- 엔드포인트 행을 유효 구간(swagger_version_id ~ valid_to_version_id)으로 버전 간 공유 (user-011)
+-- 기존 행은 source_id 가 NULL 로 남아 swagger_version_id 한 버전에만 속한 것으로 조회됨
+ALTER TABLE api_endpoint
+    ADD COLUMN source_id bigint,
+    ADD COLUMN valid_to_version_id bigint;
+CREATE INDEX idx_api_endpoint_source_valid_to ON api_endpoint (source_id, valid_to_version_id);
@@ -0,0 +1,9 @@
+-- 버전 본문을 스냅샷 + 델타(gzip)로 저장 (user-012)
+-- 이 테이블이 생기기 전의 본문은 swagger_version.raw_json 에 그대로 둠
+CREATE TABLE swagger_version_payload (
+    swagger_version_id bigint PRIMARY KEY,
+    create_at timestamp(6) NOT NULL,
+    base_version_id bigint,
+    chain_length integer NOT NULL,
+    data bytea NOT NULL
+);
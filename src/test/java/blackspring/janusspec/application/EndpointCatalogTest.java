@@ -0,0 +1,238 @@
+package blackspring.janusspec.application;
+
+import blackspring.janusspec.application.dto.ApiEndpointDto;
+import blackspring.janusspec.application.dto.ApiEndpointFilter;
+import blackspring.janusspec.application.dto.CatalogEndpointRes;
+import blackspring.janusspec.application.dto.CatalogEndpointsRes;
+import blackspring.janusspec.application.dto.GetServiceApiPathsRes;
+import blackspring.janusspec.application.port.apiendpoint.ApiEndPointPort;
+import blackspring.janusspec.application.port.apiservice.ApiServicePort;
+import blackspring.janusspec.application.port.swaggerversion.SwaggerVersionPort;
+import blackspring.janusspec.domain.ApiService;
+import blackspring.janusspec.domain.EndpointSnapshot;
+import blackspring.janusspec.domain.SwaggerVersion;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+/**
+ * 메모리 카탈로그의 id 커서 페이지 (after 이후 첫 위치, limit 다음 항목으로 다음 페이지 판단)와 최신 버전 포인터, 커밋 후 반영, 주기적 맞춤
+ */
+class EndpointCatalogTest {
+
+    private ApiServicePort apiServicePort;
+    private SwaggerVersionPort swaggerVersionPort;
+    private ApiEndPointPort endPointPort;
+    private EndpointCatalog catalog;
+
+    @BeforeEach
+    void setUp() {
+        apiServicePort = mock(ApiServicePort.class);
+        swaggerVersionPort = mock(SwaggerVersionPort.class);
+        endPointPort = mock(ApiEndPointPort.class);
+        catalog = new EndpointCatalog(apiServicePort, swaggerVersionPort, endPointPort,
+                new TransactionTemplate(mock(PlatformTransactionManager.class)), true);
+
+        // 행 id 는 순서 없이 들어와도 id 순으로 정렬됨
+        publish("users", 10L, endpoint(30L, "/users/{id}", "delete"), endpoint(10L, "/users", "get"),
+                endpoint(20L, "/users", "post"), endpoint(40L, "/users/{id}", "get"));
+    }
+
+    @Test
+    void pagesByRowIdWithLookAhead() {
+        GetServiceApiPathsRes first = paths("users", null, 2);
+        assertThat(first.endpoints()).extracting(ApiEndpointDto::httpMethod).containsExactly("get", "post");
+        assertThat(first.hasNext()).isTrue();
+        assertThat(first.nextCursor()).isEqualTo(20L);
+
+        GetServiceApiPathsRes second = paths("users", first.nextCursor(), 2);
+        assertThat(second.endpoints()).extracting(ApiEndpointDto::path).containsExactly("/users/{id}", "/users/{id}");
+        assertThat(second.endpoints()).extracting(ApiEndpointDto::httpMethod).containsExactly("delete", "get");
+        // 정확히 limit 개가 남았으면 다음 페이지 없음
+        assertThat(second.hasNext()).isFalse();
+        assertThat(second.nextCursor()).isNull();
+    }
+
+    @Test
+    void cursorBetweenIdsStartsAtNextRow() {
+        assertThat(paths("users", 25L, 0).endpoints()).extracting(ApiEndpointDto::httpMethod).containsExactly("delete", "get");
+        assertThat(paths("users", 5L, 0).endpoints()).hasSize(4);
+        assertThat(paths("users", 40L, 0).endpoints()).isEmpty();
+        assertThat(paths("users", 99L, 0).endpoints()).isEmpty();
+    }
+
+    @Test
+    void filterIsAppliedBeforeCountingLimit() {
+        ApiEndpointFilter getOnly = new ApiEndpointFilter(null, "GET", null, null);
+
+        GetServiceApiPathsRes page = catalog.getServiceApiPaths("users", 10L, getOnly, null, 1).orElseThrow();
+
+        assertThat(page.endpoints()).extracting(ApiEndpointDto::path).containsExactly("/users");
+        assertThat(page.hasNext()).isTrue();
+        assertThat(page.nextCursor()).isEqualTo(10L);
+
+        GetServiceApiPathsRes next = catalog.getServiceApiPaths("users", 10L, getOnly, page.nextCursor(), 1).orElseThrow();
+        assertThat(next.endpoints()).extracting(ApiEndpointDto::path).containsExactly("/users/{id}");
+        assertThat(next.hasNext()).isFalse();
+    }
+
+    @Test
+    void otherVersionIsNotServedFromCatalog() {
+        assertThat(catalog.getServiceApiPaths("users", 9L, ApiEndpointFilter.none(), null, 0)).isEmpty();
+        assertThat(catalog.getServiceApiPaths("orders", 10L, ApiEndpointFilter.none(), null, 0)).isEmpty();
+    }
+
+    @Test
+    void searchContinuesFromServiceAndIdCursor() {
+        publish("orders", 11L, endpoint(15L, "/orders", "get"));
+
+        CatalogEndpointsRes first = catalog.searchEndpoints(ApiEndpointFilter.none(), null, null, 2);
+        assertThat(first.items()).extracting(CatalogEndpointRes::serviceName).containsExactly("orders", "users");
+        assertThat(first.hasNext()).isTrue();
+
+        CatalogEndpointsRes rest = catalog.searchEndpoints(ApiEndpointFilter.none(), first.nextService(), first.nextCursor(), 10);
+        assertThat(rest.items()).extracting(CatalogEndpointRes::httpMethod).containsExactly("post", "delete", "get");
+        assertThat(rest.hasNext()).isFalse();
+    }
+
+    @Test
+    void latestVersionIsThePublishedOne() {
+        assertThat(catalog.getLatestVersion("users")).map(version -> version.id()).contains(10L);
+        assertThat(catalog.getLatestVersion("orders")).isEmpty();
+        verifyNoInteractions(apiServicePort, swaggerVersionPort, endPointPort);
+    }
+
+    @Test
+    void movedPointerHidesOlderContentUntilNewContentIsPublished() {
+        // 비동기 수집: 버전 저장이 커밋돼 포인터만 옮겨지고 내용은 작업이 저장 중 -> DB 로 조회하게 함
+        catalog.publishLatest("users", 12L);
+        assertThat(catalog.getLatestVersion("users")).isEmpty();
+        // 이전 버전 내용은 그 버전으로 조회할 때만
+        assertThat(catalog.getServiceApiPaths("users", 10L, ApiEndpointFilter.none(), null, 0)).isPresent();
+
+        publish("users", 12L, endpoint(60L, "/users", "get"));
+        assertThat(catalog.getLatestVersion("users")).map(version -> version.id()).contains(12L);
+    }
+
+    @Test
+    void pointerOnlyServiceIsNotServed() {
+        catalog.publishLatest("orders", 11L);
+
+        assertThat(catalog.getLatestVersion("orders")).isEmpty();
+        assertThat(catalog.getServiceApiPaths("orders", 11L, ApiEndpointFilter.none(), null, 0)).isEmpty();
+        assertThat(catalog.searchEndpoints(ApiEndpointFilter.none(), null, null, 10).items())
+                .extracting(CatalogEndpointRes::serviceName).containsOnly("users");
+    }
+
+    @Test
+    void publishOfOlderVersionDoesNotReplaceNewerOne() {
+        // 같은 서비스의 다른 URL 수집이 겹쳐 이전 버전 반영이 늦게 도착
+        catalog.publishLatest("users", 9L);
+        catalog.publish(version("users", 9L), List.of(endpoint(50L, "/late", "get")));
+
+        assertThat(catalog.getLatestVersion("users")).map(version -> version.id()).contains(10L);
+        assertThat(paths("users", null, 0).endpoints()).extracting(ApiEndpointDto::path).doesNotContain("/late");
+    }
+
+    @Test
+    void publishInsideTransactionIsAppliedOnlyAfterCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            catalog.publishLatest("users", 12L);
+            catalog.publish(version("users", 12L), List.of(endpoint(60L, "/users", "get")));
+            assertThat(catalog.getLatestVersion("users")).map(version -> version.id()).contains(10L);
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+            assertThat(catalog.getLatestVersion("users")).map(version -> version.id()).contains(12L);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void reconcileRepairsMissedPublish() {
+        // 다른 인스턴스가 12 를 수집: 커밋 후 반영이 이 카탈로그에는 오지 않음
+        when(apiServicePort.findAll()).thenReturn(List.of(service("users", 12L, 1)));
+        when(swaggerVersionPort.findById(12L)).thenReturn(Optional.of(version("users", 12L)));
+        doAnswer(invocation -> {
+            invocation.<Consumer<EndpointSnapshot>>getArgument(1).accept(endpoint(60L, "/users/v2", "get"));
+            return null;
+        }).when(endPointPort).forEachEndpointSnapshot(any(), any());
+
+        catalog.reconcile();
+
+        assertThat(catalog.getLatestVersion("users")).map(version -> version.id()).contains(12L);
+        assertThat(paths("users", null, 0).endpoints()).extracting(ApiEndpointDto::path).containsExactly("/users/v2");
+
+        // 이미 맞으면 다시 읽지 않음
+        catalog.reconcile();
+        verify(swaggerVersionPort, times(1)).findById(12L);
+    }
+
+    @Test
+    void reconcileMovesPointerOfVersionWhoseContentIsNotStoredYet() {
+        when(apiServicePort.findAll()).thenReturn(List.of(service("users", 12L, null)));
+
+        catalog.reconcile();
+
+        assertThat(catalog.getLatestVersion("users")).isEmpty();
+        verify(swaggerVersionPort, never()).findById(any());
+    }
+
+    private void publish(String serviceName, long versionId, EndpointSnapshot... endpoints) {
+        catalog.publishLatest(serviceName, versionId);
+        catalog.publish(version(serviceName, versionId), List.of(endpoints));
+    }
+
+    private GetServiceApiPathsRes paths(String serviceName, Long after, int limit) {
+        long versionId = catalog.getLatestVersion(serviceName).orElseThrow().id();
+        return catalog.getServiceApiPaths(serviceName, versionId, ApiEndpointFilter.none(), after, limit).orElseThrow();
+    }
+
+    private static ApiService service(String serviceName, long latestVersionId, Integer endpointCount) {
+        return ApiService.builder()
+                .serviceName(serviceName)
+                .latestVersionId(latestVersionId)
+                .endpointCount(endpointCount)
+                .build();
+    }
+
+    private static SwaggerVersion version(String serviceName, long id) {
+        return SwaggerVersion.builder()
+                .id(id)
+                .serviceName(serviceName)
+                .swaggerUrl("http://" + serviceName + "/v3/api-docs")
+                .versionTag("v1")
+                .hash("h" + id)
+                .build();
+    }
+
+    private static EndpointSnapshot endpoint(long id, String path, String httpMethod) {
+        return EndpointSnapshot.builder()
+                .id(id)
+                .path(path)
+                .httpMethod(httpMethod)
+                .summary("")
+                .operationId("")
+                .requestSchemaName("")
+                .responseSchemaName("")
+                .build();
+    }
+}
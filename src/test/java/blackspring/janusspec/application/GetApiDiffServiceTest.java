@@ -0,0 +1,182 @@
+package blackspring.janusspec.application;
+
+import blackspring.janusspec.application.dto.ApiDiffChangePageRes;
+import blackspring.janusspec.application.dto.ApiDiffLogCursorRes;
+import blackspring.janusspec.application.dto.ApiDiffLogSummaryRes;
+import blackspring.janusspec.application.dto.ApiEndpointChangeDto;
+import blackspring.janusspec.application.dto.ApiSchemaChangeDto;
+import blackspring.janusspec.domain.ApiDiffEndpoint;
+import blackspring.janusspec.domain.ApiDiffLog;
+import blackspring.janusspec.infrastructure.persistence.ApiDiffEndpointRepository;
+import blackspring.janusspec.infrastructure.persistence.ApiDiffLogRepository;
+import blackspring.janusspec.infrastructure.persistence.ApiDiffLogSummaryRow;
+import blackspring.janusspec.infrastructure.persistence.ApiDiffSchemaRepository;
+import blackspring.janusspec.infrastructure.persistence.ChangeTypeCount;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayOutputStream;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * diff 이력/변경 행 커서 페이지 (limit + 1 개를 읽어 다음 페이지 판단)와 상세 스트리밍 출력
+ */
+class GetApiDiffServiceTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private ApiDiffLogRepository apiDiffLogRepository;
+    private ApiDiffEndpointRepository apiDiffEndpointRepository;
+    private ApiDiffSchemaRepository apiDiffSchemaRepository;
+    private GetApiDiffService service;
+
+    @BeforeEach
+    void setUp() {
+        apiDiffLogRepository = mock(ApiDiffLogRepository.class);
+        apiDiffEndpointRepository = mock(ApiDiffEndpointRepository.class);
+        apiDiffSchemaRepository = mock(ApiDiffSchemaRepository.class);
+        service = new GetApiDiffService(apiDiffLogRepository, apiDiffEndpointRepository, apiDiffSchemaRepository,
+                new TransactionTemplate(mock(PlatformTransactionManager.class)));
+    }
+
+    @Test
+    void readsOneExtraRowAndPointsCursorAtLastReturnedId() {
+        when(apiDiffLogRepository.findSummariesBefore(Long.MAX_VALUE, PageRequest.of(0, 3)))
+                .thenReturn(List.of(summary(30L), summary(20L), summary(10L)));
+
+        ApiDiffLogCursorRes page = service.getDiffLogsBefore(null, 2);
+
+        assertThat(page.items()).extracting(ApiDiffLogSummaryRes::diffLogId).containsExactly(30L, 20L);
+        assertThat(page.hasNext()).isTrue();
+        assertThat(page.nextCursor()).isEqualTo(20L);
+    }
+
+    @Test
+    void lastPageHasNoCursor() {
+        when(apiDiffLogRepository.findSummariesByServiceNameBefore("users", 20L, PageRequest.of(0, 3)))
+                .thenReturn(List.of(summary(10L)));
+
+        ApiDiffLogCursorRes page = service.getDiffLogsByServiceBefore("users", 20L, 2);
+
+        assertThat(page.items()).extracting(ApiDiffLogSummaryRes::diffLogId).containsExactly(10L);
+        assertThat(page.hasNext()).isFalse();
+        assertThat(page.nextCursor()).isNull();
+    }
+
+    @Test
+    void limitIsClampedBeforeReadingExtraRow() {
+        when(apiDiffLogRepository.findSummariesBefore(anyLong(), any())).thenReturn(List.of());
+
+        service.getDiffLogsBefore(5L, 0);
+        service.getDiffLogsBefore(5L, 10_000);
+
+        verify(apiDiffLogRepository).findSummariesBefore(eq(5L), eq(PageRequest.of(0, 2)));
+        verify(apiDiffLogRepository).findSummariesBefore(eq(5L), eq(PageRequest.of(0, 101)));
+    }
+
+    @Test
+    void missingSummaryColumnsReadAsDefaults() {
+        ApiDiffLogSummaryRow legacy = new ApiDiffLogSummaryRow(7L, null, 1L, null, 2L, null, null, null, null, null,
+                LocalDateTime.of(2026, 1, 1, 0, 0));
+        when(apiDiffLogRepository.findSummariesBefore(anyLong(), any())).thenReturn(List.of(legacy));
+
+        ApiDiffLogSummaryRes item = service.getDiffLogsBefore(null, 10).items().get(0);
+
+        assertThat(item.serviceName()).isEqualTo("unknown");
+        assertThat(item.oldVersionTag()).isEmpty();
+        assertThat(item.totalChanges()).isZero();
+    }
+
+    @Test
+    void changeRowsArePagedByIdWithinOneType() {
+        when(apiDiffLogRepository.existsById(9L)).thenReturn(true);
+        when(apiDiffEndpointRepository.findByDiffLogAndChangeType(9L, "UPDATED", 40L, PageRequest.of(0, 3)))
+                .thenReturn(List.of(diffEndpoint(41L), diffEndpoint(45L), diffEndpoint(50L)));
+
+        ApiDiffChangePageRes<ApiEndpointChangeDto> page = service.getEndpointChanges(9L, "UPDATED", 40L, 2).orElseThrow();
+
+        assertThat(page.items()).extracting(ApiEndpointChangeDto::path).containsExactly("/items/41", "/items/45");
+        assertThat(page.hasNext()).isTrue();
+        assertThat(page.nextCursor()).isEqualTo(45L);
+    }
+
+    @Test
+    void changesOfUnknownDiffAreEmpty() {
+        when(apiDiffLogRepository.existsById(9L)).thenReturn(false);
+
+        assertThat(service.getEndpointChanges(9L, "ADDED", null, 10)).isEmpty();
+        assertThat(service.getSchemaChanges(9L, "ADDED", null, 10)).isEmpty();
+    }
+
+    @Test
+    void streamedDetailMatchesDtoSerialization() throws Exception {
+        ApiDiffLog diffLog = ApiDiffLog.builder()
+                .id(9L)
+                .serviceName("users")
+                .oldVersionTag("v1")
+                .newVersionTag("v2")
+                .build();
+        diffLog.recordSummary("{\"statistics\":{\"total\":2}}", 1, 0, 1);
+        when(apiDiffLogRepository.findById(9L)).thenReturn(Optional.of(diffLog));
+        when(apiDiffEndpointRepository.countByChangeType(9L))
+                .thenReturn(List.of(new ChangeTypeCount("ADDED", 1), new ChangeTypeCount("UPDATED", 1)));
+        when(apiDiffSchemaRepository.countByChangeType(9L)).thenReturn(List.of(new ChangeTypeCount("REMOVED", 1)));
+
+        ApiEndpointChangeDto added = new ApiEndpointChangeDto("/users", "post", "ADDED", null, "{\"summary\":\"생성\"}");
+        ApiEndpointChangeDto updated = new ApiEndpointChangeDto("/users/{id}", "get", "UPDATED", "{\"a\":1}", "{\"a\":[1,2]}");
+        ApiSchemaChangeDto removed = new ApiSchemaChangeDto("UserRes", "REMOVED", "{\"type\":\"object\"}", "");
+        when(apiDiffEndpointRepository.streamByDiffLogAndChangeType(eq(9L), anyString())).thenAnswer(invocation -> switch (invocation.<String>getArgument(1)) {
+            case "ADDED" -> Stream.of(added);
+            case "UPDATED" -> Stream.of(updated);
+            default -> Stream.empty();
+        });
+        when(apiDiffSchemaRepository.streamByDiffLogAndChangeType(eq(9L), anyString())).thenAnswer(invocation ->
+                "REMOVED".equals(invocation.getArgument(1)) ? Stream.of(removed) : Stream.empty());
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        service.writeDiffDetail(9L, out);
+        JsonNode detail = objectMapper.readTree(out.toByteArray());
+
+        assertThat(detail.path("summary").path("serviceName").asText()).isEqualTo("users");
+        assertThat(detail.path("summary").path("totalChanges").asInt()).isEqualTo(2);
+        assertThat(detail.path("counts").path("addedEndpoints").asInt()).isEqualTo(1);
+        assertThat(detail.path("counts").path("removedSchemas").asInt()).isEqualTo(1);
+        // 행마다 DTO 를 Jackson 으로 직렬화한 것과 같은 필드 (beforeData/afterData 는 저장된 JSON 그대로, 빈 값은 {})
+        assertThat(detail.path("addedEndpoints").get(0)).isEqualTo(objectMapper.valueToTree(added));
+        assertThat(detail.path("updatedEndpoints").get(0)).isEqualTo(objectMapper.valueToTree(updated));
+        assertThat(detail.path("removedSchemas").get(0)).isEqualTo(objectMapper.valueToTree(removed));
+        assertThat(detail.path("removedEndpoints")).isEmpty();
+        assertThat(detail.path("diffJsonSummary").asText()).isEqualTo("{\"statistics\":{\"total\":2}}");
+    }
+
+    private static ApiDiffLogSummaryRow summary(long id) {
+        return new ApiDiffLogSummaryRow(id, "users", id - 1, "v" + (id - 1), id, "v" + id, 1, 0, 0, 1,
+                LocalDateTime.of(2026, 1, 1, 0, 0));
+    }
+
+    private static ApiDiffEndpoint diffEndpoint(long id) {
+        return ApiDiffEndpoint.builder()
+                .id(id)
+                .path("/items/" + id)
+                .httpMethod("get")
+                .changeType("UPDATED")
+                .build();
+    }
+}
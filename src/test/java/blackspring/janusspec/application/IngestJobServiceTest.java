@@ -0,0 +1,189 @@
+package blackspring.janusspec.application;
+
+import blackspring.janusspec.application.port.ingestjob.IngestJobPort;
+import blackspring.janusspec.application.port.ingestjob.IngestJobSourceKey;
+import blackspring.janusspec.application.port.swaggersource.SwaggerSourcePort;
+import blackspring.janusspec.domain.IngestJob;
+import blackspring.janusspec.infrastructure.adapter.json.CanonicalJsonWriter;
+import blackspring.janusspec.infrastructure.adapter.json.OpenApiSpec;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 수집 작업 재시도 (간격 증가, 대기 중 뒤 작업 보류, 최대 횟수 후 실패와 검증자 삭제), 실패 작업 되살리기, 재개
+ */
+class IngestJobServiceTest {
+
+    private static final String SERVICE = "users";
+    private static final String URL = "http://users/v3/api-docs";
+
+    // 저장소 대신 id 순 맵 (findById 가 같은 객체를 돌려줌)
+    private final Map<Long, IngestJob> jobs = new TreeMap<>();
+    private IngestJobPort ingestJobPort;
+    private SwaggerSourcePort swaggerSourcePort;
+    private VersionContentWriter versionContentWriter;
+    private IngestJobService service;
+
+    @BeforeEach
+    void setUp() {
+        ingestJobPort = mock(IngestJobPort.class);
+        swaggerSourcePort = mock(SwaggerSourcePort.class);
+        versionContentWriter = mock(VersionContentWriter.class);
+
+        when(ingestJobPort.findById(anyLong())).thenAnswer(invocation -> Optional.ofNullable(jobs.get(invocation.<Long>getArgument(0))));
+        when(ingestJobPort.findUnfinishedIds(SERVICE, URL)).thenAnswer(invocation -> jobs.values().stream()
+                .filter(job -> !job.isFinished())
+                .map(IngestJob::getId)
+                .toList());
+        when(ingestJobPort.findFailedByVersion(anyLong())).thenAnswer(invocation -> jobs.values().stream()
+                .filter(job -> job.getStatus() == IngestJob.Status.FAILED)
+                .filter(job -> job.getSwaggerVersionId().equals(invocation.getArgument(0)))
+                .findFirst());
+        when(ingestJobPort.readSpec(any())).thenReturn(new OpenApiSpec());
+        when(versionContentWriter.write(any(), any(), any(), any(), any(), any())).thenReturn(Optional.empty());
+
+        service = new IngestJobService(ingestJobPort, swaggerSourcePort, versionContentWriter, new CanonicalJsonWriter(),
+                new TransactionTemplate(mock(PlatformTransactionManager.class)), 1, 10, 3,
+                Duration.ofSeconds(30), Duration.ofSeconds(45));
+    }
+
+    @AfterEach
+    void tearDown() {
+        service.shutdown();
+    }
+
+    @Test
+    void failedAttemptWaitsWithGrowingBackoff() {
+        IngestJob job = job(1L, 10L);
+        failWrites();
+
+        LocalDateTime before = LocalDateTime.now();
+        assertThat(service.runPending(SERVICE, URL, false)).isFalse();
+
+        assertThat(job.getStatus()).isEqualTo(IngestJob.Status.PENDING);
+        assertThat(job.getAttempts()).isEqualTo(1);
+        assertThat(job.getError()).isEqualTo("boom");
+        assertThat(job.getNextAttemptAt()).isBetween(before.plusSeconds(30), LocalDateTime.now().plusSeconds(30));
+
+        // 대기 시각 전에는 실행하지 않음
+        assertThat(service.runPending(SERVICE, URL, false)).isFalse();
+        verify(versionContentWriter, times(1)).write(any(), any(), any(), any(), any(), any());
+
+        // force 면 바로 실행, 두 번째 간격은 60s 지만 최대 45s 로 제한
+        before = LocalDateTime.now();
+        assertThat(service.runPending(SERVICE, URL, true)).isFalse();
+        assertThat(job.getAttempts()).isEqualTo(2);
+        assertThat(job.getNextAttemptAt()).isBetween(before.plusSeconds(45), LocalDateTime.now().plusSeconds(45));
+    }
+
+    @Test
+    void lastAttemptFailsJobAndClearsSourceValidators() {
+        IngestJob job = job(1L, 10L);
+        failWrites();
+
+        service.runPending(SERVICE, URL, true);
+        service.runPending(SERVICE, URL, true);
+        assertThat(service.runPending(SERVICE, URL, true)).isTrue();
+
+        assertThat(job.getStatus()).isEqualTo(IngestJob.Status.FAILED);
+        assertThat(job.getAttempts()).isEqualTo(3);
+        assertThat(job.getFinishedAt()).isNotNull();
+        verify(swaggerSourcePort).saveFetchState(eq(SERVICE), eq(URL), isNull(), isNull(), isNull());
+    }
+
+    @Test
+    void laterJobsOfSourceWaitForRetryingJob() {
+        job(1L, 10L);
+        IngestJob next = job(2L, 11L);
+        failWrites();
+
+        service.runPending(SERVICE, URL, false);
+
+        // 직전 버전 행이 diff 기준이므로 뒤 작업은 앞 작업이 끝날 때까지 시작하지 않음
+        assertThat(next.getStatus()).isEqualTo(IngestJob.Status.PENDING);
+        assertThat(next.getAttempts()).isZero();
+        verify(versionContentWriter, never()).write(any(), any(), eq(11L), any(), any(), any());
+    }
+
+    @Test
+    void completesJobsInOrder() {
+        IngestJob first = job(1L, 10L);
+        IngestJob second = job(2L, 11L);
+
+        assertThat(service.runPending(SERVICE, URL, false)).isTrue();
+
+        assertThat(first.getStatus()).isEqualTo(IngestJob.Status.COMPLETED);
+        assertThat(second.getStatus()).isEqualTo(IngestJob.Status.COMPLETED);
+        assertThat(first.getSpecData()).isNull();
+    }
+
+    @Test
+    void rearmsFailedJobOfVersion() {
+        IngestJob job = job(1L, 10L);
+        failWrites();
+        for (int i = 0; i < 3; i++) {
+            service.runPending(SERVICE, URL, true);
+        }
+
+        assertThat(service.rearmFailed(10L)).contains(1L);
+        assertThat(job.getStatus()).isEqualTo(IngestJob.Status.PENDING);
+        assertThat(job.getAttempts()).isZero();
+        assertThat(job.getNextAttemptAt()).isNull();
+        assertThat(job.getFinishedAt()).isNull();
+
+        // 다른 버전이거나 실패한 작업이 없으면 없음
+        assertThat(service.rearmFailed(11L)).isEmpty();
+    }
+
+    @Test
+    void resumeRunsUnfinishedJobsInBackground() {
+        IngestJob job = job(1L, 10L);
+        when(ingestJobPort.findUnfinishedSources()).thenReturn(List.of(new IngestJobSourceKey(SERVICE, URL)));
+
+        service.resumeUnfinished();
+
+        verify(versionContentWriter, timeout(5000)).write(any(), eq(SERVICE), eq(10L), any(), any(), any());
+        verify(ingestJobPort, timeout(5000).atLeast(2)).save(job);
+    }
+
+    private void failWrites() {
+        when(versionContentWriter.write(any(), any(), any(), any(), any(), any())).thenThrow(new IllegalStateException("boom"));
+    }
+
+    private IngestJob job(long id, long versionId) {
+        IngestJob job = IngestJob.builder()
+                .id(id)
+                .sourceId(3L)
+                .serviceName(SERVICE)
+                .swaggerUrl(URL)
+                .swaggerVersionId(versionId)
+                .oldVersionId(versionId - 1)
+                .status(IngestJob.Status.PENDING)
+                .specData(new byte[]{1})
+                .build();
+        jobs.put(id, job);
+        return job;
+    }
+}
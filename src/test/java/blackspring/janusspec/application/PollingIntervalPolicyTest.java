@@ -0,0 +1,79 @@
+package blackspring.janusspec.application;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 변경 간격 기반 수집 주기, 실패 백오프, 지터 범위와 설정 검증
+ */
+class PollingIntervalPolicyTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 1, 1, 12, 0);
+
+    private final PollingIntervalPolicy policy = new PollingIntervalPolicy(
+            Duration.ofMinutes(1), Duration.ofHours(6), Duration.ofMinutes(5), Duration.ofHours(1), 10, 0.1);
+
+    @Test
+    void noChangeHistoryUsesDefaultInterval() {
+        assertThat(policy.nextInterval(List.of(), NOW)).isEqualTo(Duration.ofMinutes(5));
+    }
+
+    @Test
+    void intervalIsMeanGapIncludingTimeSinceLastChangeDividedByDivisor() {
+        // 간격: 지금까지 2시간, 그 전 4시간 -> 평균 3시간 / 10
+        List<LocalDateTime> changes = List.of(NOW.minusHours(2), NOW.minusHours(6));
+
+        assertThat(policy.nextInterval(changes, NOW)).isEqualTo(Duration.ofMinutes(18));
+    }
+
+    @Test
+    void intervalIsClampedToMinAndMax() {
+        List<LocalDateTime> busy = List.of(NOW.minusSeconds(30), NOW.minusSeconds(60));
+        List<LocalDateTime> quiet = List.of(NOW.minusDays(30), NOW.minusDays(90));
+
+        assertThat(policy.nextInterval(busy, NOW)).isEqualTo(Duration.ofMinutes(1));
+        assertThat(policy.nextInterval(quiet, NOW)).isEqualTo(Duration.ofHours(6));
+    }
+
+    @Test
+    void backoffDoublesFromMinIntervalUpToMaxBackoff() {
+        assertThat(policy.backoff(1)).isEqualTo(Duration.ofMinutes(2));
+        assertThat(policy.backoff(3)).isEqualTo(Duration.ofMinutes(8));
+        assertThat(policy.backoff(6)).isEqualTo(Duration.ofHours(1));
+        // 지수 상한이 있어 실패가 아주 많아도 넘치지 않음
+        assertThat(policy.backoff(1000)).isEqualTo(Duration.ofHours(1));
+    }
+
+    @Test
+    void jitterStaysWithinRatio() {
+        Duration interval = Duration.ofMinutes(10);
+
+        for (int i = 0; i < 1000; i++) {
+            assertThat(policy.withJitter(interval)).isBetween(Duration.ofMinutes(9), Duration.ofMinutes(11));
+        }
+    }
+
+    @Test
+    void zeroJitterKeepsInterval() {
+        PollingIntervalPolicy noJitter = new PollingIntervalPolicy(
+                Duration.ofMinutes(1), Duration.ofHours(6), Duration.ofMinutes(5), Duration.ofHours(1), 10, 0);
+
+        assertThat(noJitter.withJitter(Duration.ofMinutes(10))).isEqualTo(Duration.ofMinutes(10));
+    }
+
+    @Test
+    void jitterRatioOutOfRangeIsRejected() {
+        assertThatThrownBy(() -> new PollingIntervalPolicy(
+                Duration.ofMinutes(1), Duration.ofHours(6), Duration.ofMinutes(5), Duration.ofHours(1), 10, -0.1))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new PollingIntervalPolicy(
+                Duration.ofMinutes(1), Duration.ofHours(6), Duration.ofMinutes(5), Duration.ofHours(1), 10, 1.0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
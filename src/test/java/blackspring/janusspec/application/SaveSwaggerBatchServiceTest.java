@@ -0,0 +1,120 @@
+package blackspring.janusspec.application;
+
+import blackspring.janusspec.application.dto.SaveSwaggerApiReq;
+import blackspring.janusspec.application.dto.SaveSwaggerApiRes;
+import blackspring.janusspec.application.dto.SaveSwaggerBatchItemRes;
+import blackspring.janusspec.application.dto.SaveSwaggerBatchRes;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 일괄 수집의 호스트별 동시 요청 제한, 항목 타임아웃, 요청 전체 기한
+ */
+class SaveSwaggerBatchServiceTest {
+
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final ConcurrentMap<String, AtomicInteger> running = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, AtomicInteger> maxRunning = new ConcurrentHashMap<>();
+    private final AtomicInteger started = new AtomicInteger();
+
+    private SaveApiSpec saveApiSpec;
+    private SaveSwaggerBatchService service;
+
+    @BeforeEach
+    void setUp() {
+        saveApiSpec = mock(SaveApiSpec.class);
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        release.countDown();
+        if (service != null) {
+            service.shutdown();
+        }
+    }
+
+    @Test
+    void limitsConcurrentRequestsPerHost() {
+        // 호스트마다 잠깐 머물러 동시 실행 수를 잼
+        when(saveApiSpec.saveServiceApiSpec(any())).thenAnswer(invocation -> {
+            SaveSwaggerApiReq req = invocation.getArgument(0);
+            String host = req.url().split("/")[2];
+            int now = running.computeIfAbsent(host, key -> new AtomicInteger()).incrementAndGet();
+            maxRunning.computeIfAbsent(host, key -> new AtomicInteger()).accumulateAndGet(now, Math::max);
+            Thread.sleep(50);
+            running.get(host).decrementAndGet();
+            return new SaveSwaggerApiRes("1", req.url(), false);
+        });
+        service = new SaveSwaggerBatchService(saveApiSpec, 2, Duration.ofSeconds(10), Duration.ofSeconds(30));
+
+        SaveSwaggerBatchRes res = service.saveServiceApiSpecs(List.of(
+                req("a", 1), req("a", 2), req("a", 3), req("a", 4), req("a", 5), req("b", 1)));
+
+        assertThat(res.items()).extracting(SaveSwaggerBatchItemRes::status).containsOnly("NEW_VERSION");
+        // 요청 순서대로
+        assertThat(res.items()).extracting(SaveSwaggerBatchItemRes::url).containsExactly(
+                "http://a/1", "http://a/2", "http://a/3", "http://a/4", "http://a/5", "http://b/1");
+        assertThat(maxRunning.get("a").get()).isLessThanOrEqualTo(2);
+    }
+
+    @Test
+    void slowItemTimesOutWithoutBlockingOthers() {
+        when(saveApiSpec.saveServiceApiSpec(any())).thenAnswer(invocation -> {
+            SaveSwaggerApiReq req = invocation.getArgument(0);
+            if (req.url().endsWith("/slow")) {
+                release.await();
+            }
+            return new SaveSwaggerApiRes("1", req.url(), true);
+        });
+        service = new SaveSwaggerBatchService(saveApiSpec, 4, Duration.ofMillis(200), Duration.ofSeconds(30));
+
+        long start = System.nanoTime();
+        SaveSwaggerBatchRes res = service.saveServiceApiSpecs(List.of(
+                new SaveSwaggerApiReq("http://a/slow", "slow"), req("b", 1)));
+
+        assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofSeconds(5));
+        assertThat(res.items()).extracting(SaveSwaggerBatchItemRes::status).containsExactly("TIMEOUT", "UNCHANGED");
+        assertThat(res.timedOut()).isEqualTo(1);
+    }
+
+    @Test
+    void itemsThatCannotStartBeforeDeadlineAreNotStarted() throws InterruptedException {
+        when(saveApiSpec.saveServiceApiSpec(any())).thenAnswer(invocation -> {
+            started.incrementAndGet();
+            release.await();
+            return new SaveSwaggerApiRes("1", invocation.<SaveSwaggerApiReq>getArgument(0).url(), false);
+        });
+        // 호스트당 1개, 항목 타임아웃은 길지만 요청 전체 기한은 짧음
+        service = new SaveSwaggerBatchService(saveApiSpec, 1, Duration.ofSeconds(60), Duration.ofMillis(300));
+
+        long start = System.nanoTime();
+        SaveSwaggerBatchRes res = service.saveServiceApiSpecs(List.of(req("a", 1), req("a", 2), req("a", 3)));
+
+        assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofSeconds(5));
+        assertThat(res.items()).extracting(SaveSwaggerBatchItemRes::status).containsOnly("TIMEOUT");
+        assertThat(res.timedOut()).isEqualTo(3);
+
+        // 앞선 수집이 끝나 permit 이 풀려도 기한이 지난 항목은 시작하지 않음
+        release.countDown();
+        TimeUnit.MILLISECONDS.sleep(200);
+        assertThat(started.get()).isEqualTo(1);
+    }
+
+    private static SaveSwaggerApiReq req(String host, int n) {
+        return new SaveSwaggerApiReq("http://" + host + "/" + n, host + n);
+    }
+}
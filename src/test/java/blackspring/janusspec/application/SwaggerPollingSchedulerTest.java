@@ -0,0 +1,89 @@
+package blackspring.janusspec.application;
+
+import blackspring.janusspec.application.dto.SaveSwaggerBatchItemRes;
+import blackspring.janusspec.application.dto.SaveSwaggerBatchRes;
+import blackspring.janusspec.application.port.apidiff.ApiDiffPort;
+import blackspring.janusspec.application.port.swaggersource.SwaggerSourcePort;
+import blackspring.janusspec.domain.SwaggerSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+/**
+ * 수집 결과에 따른 다음 수집 시각 (스케줄 컬럼만 갱신)
+ */
+class SwaggerPollingSchedulerTest {
+
+    private SwaggerSourcePort swaggerSourcePort;
+    private SaveApiSpecBatch saveApiSpecBatch;
+    private ApiDiffPort apiDiffPort;
+
+    @BeforeEach
+    void setUp() {
+        swaggerSourcePort = mock(SwaggerSourcePort.class);
+        saveApiSpecBatch = mock(SaveApiSpecBatch.class);
+        apiDiffPort = mock(ApiDiffPort.class);
+        when(apiDiffPort.findRecentChangeTimes(anyString(), anyInt())).thenReturn(List.of());
+    }
+
+    @Test
+    void successResetsFailuresAndFailureBacksOff() {
+        SwaggerSource ok = source(1L, 2);
+        SwaggerSource failing = source(2L, 1);
+        when(swaggerSourcePort.findDueForPolling(any(), anyInt())).thenReturn(List.of(ok, failing));
+        when(saveApiSpecBatch.saveServiceApiSpecs(anyList())).thenReturn(new SaveSwaggerBatchRes(2, 1, 0, List.of(
+                new SaveSwaggerBatchItemRes("users", "http://users/v3/api-docs", "UNCHANGED", "10", null),
+                new SaveSwaggerBatchItemRes("users", "http://users/v3/api-docs", "ERROR", null, "connection refused"))));
+
+        LocalDateTime before = LocalDateTime.now();
+        scheduler(true).pollDueSources();
+
+        verify(swaggerSourcePort).savePollState(ok);
+        verify(swaggerSourcePort).savePollState(failing);
+
+        // 이력이 없으면 기본 주기 (지터 0)
+        assertThat(ok.getConsecutiveFailures()).isZero();
+        assertThat(ok.getPollIntervalSeconds()).isEqualTo(300L);
+        assertThat(ok.getNextPollAt()).isBetween(before.plusMinutes(5), LocalDateTime.now().plusMinutes(5));
+
+        // 연속 1회 실패 후 다시 실패 -> 최소 주기의 2배 뒤
+        assertThat(failing.getConsecutiveFailures()).isEqualTo(2);
+        assertThat(failing.getNextPollAt()).isBetween(before.plusMinutes(2), LocalDateTime.now().plusMinutes(2));
+    }
+
+    @Test
+    void disabledSchedulerDoesNothing() {
+        scheduler(false).pollDueSources();
+
+        verifyNoInteractions(swaggerSourcePort, saveApiSpecBatch);
+    }
+
+    private SwaggerPollingScheduler scheduler(boolean enabled) {
+        PollingIntervalPolicy policy = new PollingIntervalPolicy(
+                Duration.ofMinutes(1), Duration.ofHours(6), Duration.ofMinutes(5), Duration.ofHours(1), 10, 0);
+        return new SwaggerPollingScheduler(swaggerSourcePort, saveApiSpecBatch, apiDiffPort, policy, enabled, 50);
+    }
+
+    private static SwaggerSource source(long id, int consecutiveFailures) {
+        return SwaggerSource.builder()
+                .id(id)
+                .serviceName("users")
+                .swaggerUrl("http://users/v3/api-docs")
+                .tracked(true)
+                .consecutiveFailures(consecutiveFailures)
+                .build();
+    }
+}
@@ -0,0 +1,133 @@
+package blackspring.janusspec.domain;
+
+import blackspring.janusspec.infrastructure.adapter.json.CanonicalJsonWriter;
+import blackspring.janusspec.infrastructure.adapter.json.OpenApiSpec;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.hash.Hashing;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 파싱된 스펙에서 엔드포인트/스키마 모델 추출과 캐시용 요약
+ */
+class SpecSnapshotTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final CanonicalJsonWriter canonicalJsonWriter = new CanonicalJsonWriter();
+
+    private static final String SPEC = """
+            {
+              "openapi": "3.0.1",
+              "info": {"title": "users", "version": "v1"},
+              "paths": {
+                "/users": {
+                  "get": {
+                    "summary": "목록",
+                    "operationId": "listUsers",
+                    "responses": {"200": {"content": {"application/json": {"schema": {"$ref": "#/components/schemas/UserPage"}}}}}
+                  },
+                  "post": {
+                    "operationId": "createUser",
+                    "deprecated": true,
+                    "requestBody": {"content": {"application/json": {"schema": {"$ref": "#/components/schemas/UserReq"}}}}
+                  }
+                }
+              },
+              "components": {
+                "schemas": {
+                  "UserReq": {"type": "object", "properties": {"name": {"type": "string"}}},
+                  "UserPage": {"type": "object"}
+                }
+              }
+            }
+            """;
+
+    @Test
+    void extractsEndpointsKeyedByPathAndMethod() throws Exception {
+        SpecSnapshot snapshot = SpecSnapshot.extract(spec(SPEC), canonicalJsonWriter);
+
+        assertThat(snapshot.getEndpoints()).containsOnlyKeys("/users:get", "/users:post");
+        assertThat(snapshot.isOpenRows()).isFalse();
+
+        EndpointSnapshot list = snapshot.getEndpoints().get("/users:get");
+        assertThat(list.getId()).isNull();
+        assertThat(list.getSummary()).isEqualTo("목록");
+        assertThat(list.getOperationId()).isEqualTo("listUsers");
+        assertThat(list.isDeprecated()).isFalse();
+        assertThat(list.getRequestSchemaName()).isEmpty();
+        assertThat(list.getResponseSchemaName()).isEqualTo("UserPage");
+
+        // 없는 필드는 빈 문자열/false 로
+        EndpointSnapshot create = snapshot.getEndpoints().get("/users:post");
+        assertThat(create.getSummary()).isEmpty();
+        assertThat(create.isDeprecated()).isTrue();
+        assertThat(create.getRequestSchemaName()).isEqualTo("UserReq");
+        assertThat(create.getResponseSchemaName()).isEmpty();
+    }
+
+    @Test
+    void endpointHashChangesOnlyWhenOperationChanges() throws Exception {
+        SpecSnapshot before = SpecSnapshot.extract(spec(SPEC), canonicalJsonWriter);
+        SpecSnapshot after = SpecSnapshot.extract(spec(SPEC.replace("\"summary\": \"목록\"", "\"summary\": \"사용자 목록\"")), canonicalJsonWriter);
+
+        assertThat(after.getEndpoints().get("/users:get").getContentHash())
+                .isNotEqualTo(before.getEndpoints().get("/users:get").getContentHash());
+        assertThat(after.getEndpoints().get("/users:post").getContentHash())
+                .isEqualTo(before.getEndpoints().get("/users:post").getContentHash());
+    }
+
+    @Test
+    void schemaHashIsHashOfCanonicalBody() throws Exception {
+        SpecSnapshot snapshot = SpecSnapshot.extract(spec(SPEC), canonicalJsonWriter);
+
+        SchemaSnapshot userReq = snapshot.getSchemas().get("UserReq");
+        assertThat(userReq.getRawSchema()).isEqualTo("{\"properties\":{\"name\":{\"type\":\"string\"}},\"type\":\"object\"}");
+        assertThat(userReq.getProperties()).isEqualTo("{\"name\":{\"type\":\"string\"}}");
+        assertThat(userReq.getContentHash())
+                .isEqualTo(Hashing.sha256().hashString(userReq.getRawSchema(), StandardCharsets.UTF_8).toString());
+
+        assertThat(snapshot.getSchemas().get("UserPage").getProperties()).isNull();
+    }
+
+    @Test
+    void specWithoutPathsOrComponentsIsEmpty() throws Exception {
+        SpecSnapshot snapshot = SpecSnapshot.extract(spec("{\"openapi\": \"3.0.1\"}"), canonicalJsonWriter);
+
+        assertThat(snapshot.getEndpoints()).isEmpty();
+        assertThat(snapshot.getSchemas()).isEmpty();
+    }
+
+    @Test
+    void compactKeepsSavedIdsAndDropsHashedBodies() throws Exception {
+        SpecSnapshot snapshot = SpecSnapshot.extract(spec(SPEC), canonicalJsonWriter);
+        Map<String, EndpointSnapshot> saved = Map.of(
+                "/users:get", snapshot.getEndpoints().get("/users:get").withId(11L),
+                "/users:post", snapshot.getEndpoints().get("/users:post").withId(12L));
+
+        SpecSnapshot compact = snapshot.compact(saved);
+
+        assertThat(compact.isOpenRows()).isTrue();
+        assertThat(compact.getEndpoints().get("/users:get").getId()).isEqualTo(11L);
+        assertThat(compact.getSchemas().get("UserReq").getRawSchema()).isNull();
+        assertThat(compact.getSchemas().get("UserReq").getContentHash())
+                .isEqualTo(snapshot.getSchemas().get("UserReq").getContentHash());
+    }
+
+    @Test
+    void compactKeepsBodyOfLegacySchemaWithoutHash() {
+        SchemaSnapshot legacy = new SchemaSnapshot("Legacy", null, "{\"type\":\"object\"}", null);
+
+        SpecSnapshot compact = SpecSnapshot.of(List.of(), List.of(legacy), false).compact(Map.of());
+
+        assertThat(compact.getSchemas().get("Legacy")).isSameAs(legacy);
+    }
+
+    private OpenApiSpec spec(String json) throws Exception {
+        return objectMapper.readValue(json, OpenApiSpec.class);
+    }
+}
@@ -0,0 +1,96 @@
+package blackspring.janusspec.infrastructure.adapter.json;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.hash.Hashing;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 정규화 JSON 출력과 해시 (기존 TreeMap 재구성 + writeValueAsString 결과와 같아야 저장된 해시와 비교 가능)
+ */
+class CanonicalJsonWriterTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final CanonicalJsonWriter canonicalJsonWriter = new CanonicalJsonWriter();
+
+    private static final String DOCUMENT = """
+            {
+              "z": 1,
+              "a": {"y": [3, {"k2": true, "k1": null}], "b": "문자열 \\"따옴표\\" \\n 줄바꿈"},
+              "m": 1.50,
+              "B": "대문자는 소문자보다 앞",
+              "emoji": "🙂 보조 문자",
+              "big": 12345678901234567890
+            }
+            """;
+
+    @Test
+    void sortsKeysAtEveryLevelAndKeepsArrayOrder() throws Exception {
+        String json = canonicalJsonWriter.writeValueAsString(objectMapper.readTree("{\"b\":{\"d\":1,\"c\":2},\"a\":[2,1]}"));
+
+        assertThat(json).isEqualTo("{\"a\":[2,1],\"b\":{\"c\":2,\"d\":1}}");
+    }
+
+    @Test
+    void matchesLegacySortedTreeOutput() throws Exception {
+        JsonNode node = objectMapper.readTree(DOCUMENT);
+
+        assertThat(canonicalJsonWriter.writeValueAsString(node))
+                .isEqualTo(objectMapper.writeValueAsString(sorted(node)));
+    }
+
+    @Test
+    void hashEqualsHashOfConcatenatedStrings() throws Exception {
+        JsonNode first = objectMapper.readTree(DOCUMENT);
+        JsonNode second = objectMapper.readTree("{\"summary\":\"🙂\",\"operationId\":\"op\"}");
+
+        String expected = Hashing.sha256().hashString(
+                canonicalJsonWriter.writeValueAsString(first) + canonicalJsonWriter.writeValueAsString(second),
+                StandardCharsets.UTF_8).toString();
+
+        assertThat(canonicalJsonWriter.sha256(first, second)).isEqualTo(expected);
+    }
+
+    @Test
+    void writesMissingNodeAsJsonNull() {
+        assertThat(canonicalJsonWriter.sha256((JsonNode) null))
+                .isEqualTo(Hashing.sha256().hashString("null", StandardCharsets.UTF_8).toString());
+        assertThat(canonicalJsonWriter.writeValueAsString(null)).isEqualTo("null");
+    }
+
+    @Test
+    void sameContentInDifferentKeyOrderHasSameHash() throws Exception {
+        assertThat(canonicalJsonWriter.sha256(objectMapper.readTree("{\"a\":1,\"b\":[1,2]}")))
+                .isEqualTo(canonicalJsonWriter.sha256(objectMapper.readTree("{\"b\":[1,2],\"a\":1}")));
+        assertThat(canonicalJsonWriter.sha256(objectMapper.readTree("{\"b\":[1,2]}")))
+                .isNotEqualTo(canonicalJsonWriter.sha256(objectMapper.readTree("{\"b\":[2,1]}")));
+    }
+
+    // 기존 방식: 객체마다 TreeMap 으로 다시 만든 트리
+    private Object sorted(JsonNode node) {
+        if (node.isObject()) {
+            Map<String, Object> map = new TreeMap<>();
+            Iterator<Map.Entry<String, JsonNode>> fields = node.fields();
+            while (fields.hasNext()) {
+                Map.Entry<String, JsonNode> field = fields.next();
+                map.put(field.getKey(), sorted(field.getValue()));
+            }
+            return map;
+        }
+        if (node.isArray()) {
+            List<Object> list = new ArrayList<>();
+            node.forEach(element -> list.add(sorted(element)));
+            return list;
+        }
+        return node;
+    }
+}
@@ -0,0 +1,123 @@
+package blackspring.janusspec.infrastructure.persistence;
+
+import blackspring.janusspec.domain.ApiDiffEndpoint;
+import blackspring.janusspec.domain.ApiDiffLog;
+import blackspring.janusspec.domain.EndpointSnapshot;
+import blackspring.janusspec.domain.SchemaSnapshot;
+import blackspring.janusspec.domain.SpecSnapshot;
+import blackspring.janusspec.domain.SwaggerVersion;
+import blackspring.janusspec.infrastructure.adapter.json.ParsedSchemaCache;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * diff 저장 시 요약 JSON 과 요약 컬럼이 같은 비교 결과에서 나오는지 (DB 없이 저장소를 mock 으로 대신함)
+ */
+class ApiDiffRepoAdapterTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private ApiDiffLogRepository apiDiffLogRepository;
+    private ApiDiffEndpointRepository apiDiffEndpointRepository;
+    private ApiDiffRepoAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        apiDiffLogRepository = mock(ApiDiffLogRepository.class);
+        apiDiffEndpointRepository = mock(ApiDiffEndpointRepository.class);
+        ApiSchemaContentRepository apiSchemaContentRepository = mock(ApiSchemaContentRepository.class);
+        when(apiDiffLogRepository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+        when(apiSchemaContentRepository.findById(anyString())).thenReturn(Optional.empty());
+
+        adapter = new ApiDiffRepoAdapter(apiDiffLogRepository, apiDiffEndpointRepository, mock(ApiDiffSchemaRepository.class),
+                apiSchemaContentRepository, new ParsedSchemaCache(new SimpleMeterRegistry(), 100));
+    }
+
+    @Test
+    void summaryJsonAndColumnsComeFromSameComparison() throws Exception {
+        SpecSnapshot oldModel = SpecSnapshot.of(List.of(
+                endpoint("/users", "get", "목록", "h-list"),
+                endpoint("/users", "post", "생성", "h-create"),
+                endpoint("/users/{id}", "delete", "삭제", "h-delete")),
+                List.of(new SchemaSnapshot("UserReq", "s-req", null, null)), true);
+        SpecSnapshot newModel = SpecSnapshot.of(List.of(
+                endpoint("/users", "get", "목록", "h-list"),
+                endpoint("/users", "post", "사용자 생성", "h-create-v2"),
+                endpoint("/users/{id}", "get", "조회", "h-get")),
+                List.of(new SchemaSnapshot("UserRes", "s-res", "{\"type\":\"object\"}", "{}")), false);
+
+        ApiDiffLog diffLog = adapter.saveDiff(version(1L, "v1"), version(2L, "v2"), oldModel, newModel);
+
+        assertThat(diffLog.getAddedCount()).isEqualTo(1);
+        assertThat(diffLog.getRemovedCount()).isEqualTo(1);
+        assertThat(diffLog.getUpdatedCount()).isEqualTo(1);
+        assertThat(diffLog.getTotalChanges()).isEqualTo(3);
+
+        JsonNode summary = objectMapper.readTree(diffLog.getDiffJson());
+        assertThat(summary.path("statistics").path("added").asInt()).isEqualTo(diffLog.getAddedCount());
+        assertThat(summary.path("statistics").path("removed").asInt()).isEqualTo(diffLog.getRemovedCount());
+        assertThat(summary.path("statistics").path("updated").asInt()).isEqualTo(diffLog.getUpdatedCount());
+        assertThat(summary.path("statistics").path("total").asInt()).isEqualTo(diffLog.getTotalChanges());
+        assertThat(summary.path("addedEndpoints").get(0).asText()).isEqualTo("GET /users/{id}");
+        assertThat(summary.path("removedEndpoints").get(0).asText()).isEqualTo("DELETE /users/{id}");
+        assertThat(summary.path("updatedEndpointsDetails").get(0).path("changes").path("summary").path("after").asText())
+                .isEqualTo("사용자 생성");
+        assertThat(summary.path("schemaStatistics").path("total").asInt()).isEqualTo(2);
+        assertThat(summary.path("addedSchemas").get(0).asText()).isEqualTo("UserRes");
+        assertThat(summary.path("removedSchemas").get(0).asText()).isEqualTo("UserReq");
+        assertThat(summary.path("totalOldEndpoints").asInt()).isEqualTo(3);
+        assertThat(summary.path("totalNewSchemas").asInt()).isEqualTo(1);
+
+        ArgumentCaptor<List<ApiDiffEndpoint>> rows = listCaptor();
+        verify(apiDiffEndpointRepository).saveAll(rows.capture());
+        assertThat(rows.getValue()).extracting(ApiDiffEndpoint::getChangeType).containsExactly("ADDED", "REMOVED", "UPDATED");
+    }
+
+    @Test
+    void unchangedSpecHasEmptySummaryLists() throws Exception {
+        SpecSnapshot model = SpecSnapshot.of(List.of(endpoint("/users", "get", "목록", "h-list")), List.of(), true);
+
+        ApiDiffLog diffLog = adapter.saveDiff(version(1L, "v1"), version(2L, "v2"), model, model);
+
+        JsonNode summary = objectMapper.readTree(diffLog.getDiffJson());
+        assertThat(diffLog.getTotalChanges()).isZero();
+        assertThat(summary.path("statistics").path("total").asInt()).isZero();
+        assertThat(summary.has("addedEndpoints")).isFalse();
+        assertThat(summary.has("updatedEndpointsDetails")).isFalse();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static ArgumentCaptor<List<ApiDiffEndpoint>> listCaptor() {
+        return ArgumentCaptor.forClass(List.class);
+    }
+
+    private static SwaggerVersion version(long id, String versionTag) {
+        return SwaggerVersion.builder().id(id).serviceName("users").swaggerUrl("http://users/v3/api-docs").versionTag(versionTag).build();
+    }
+
+    private static EndpointSnapshot endpoint(String path, String httpMethod, String summary, String contentHash) {
+        return EndpointSnapshot.builder()
+                .path(path)
+                .httpMethod(httpMethod)
+                .summary(summary)
+                .operationId("")
+                .requestSchemaName("")
+                .responseSchemaName("")
+                .contentHash(contentHash)
+                .build();
+    }
+}
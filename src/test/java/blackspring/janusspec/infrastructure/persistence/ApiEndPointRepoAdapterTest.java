@@ -0,0 +1,229 @@
+package blackspring.janusspec.infrastructure.persistence;
+
+import blackspring.janusspec.application.dto.ApiEndpointFilter;
+import blackspring.janusspec.application.port.apiendpoint.ApiEndPointReq;
+import blackspring.janusspec.application.port.apiendpoint.ApiEndPointRes;
+import blackspring.janusspec.application.port.apiendpoint.ApiEndpointPage;
+import blackspring.janusspec.domain.ApiEndpoint;
+import blackspring.janusspec.domain.EndpointSnapshot;
+import blackspring.janusspec.domain.SpecSnapshot;
+import blackspring.janusspec.domain.SwaggerVersion;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 직전 버전 모델과 비교한 엔드포인트 행 유지/닫기/추가 결정과 목록 페이지 (DB 없이 저장소를 mock 으로 대신함)
+ */
+class ApiEndPointRepoAdapterTest {
+
+    private static final long SOURCE_ID = 7L;
+    private static final long VERSION_ID = 20L;
+
+    private ApiEndPointRepository apiEndPointRepository;
+    private SwaggerSourceRepository swaggerSourceRepository;
+    private ApiEndpointListingQuery apiEndpointListingQuery;
+    private ApiEndPointRepoAdapter adapter;
+
+    private final List<ApiEndpoint> inserted = new ArrayList<>();
+    private final AtomicLong nextId = new AtomicLong(100);
+
+    @BeforeEach
+    void setUp() {
+        apiEndPointRepository = mock(ApiEndPointRepository.class);
+        swaggerSourceRepository = mock(SwaggerSourceRepository.class);
+        apiEndpointListingQuery = mock(ApiEndpointListingQuery.class);
+        SwaggerVersionRepository swaggerVersionRepository = mock(SwaggerVersionRepository.class);
+        PgCopyBulkLoader pgCopyBulkLoader = mock(PgCopyBulkLoader.class);
+
+        SwaggerVersion version = SwaggerVersion.builder().id(VERSION_ID).serviceName("users").swaggerUrl("http://users/v3/api-docs").build();
+        when(swaggerVersionRepository.findById(VERSION_ID)).thenReturn(Optional.of(version));
+        when(pgCopyBulkLoader.shouldCopy(anyInt())).thenReturn(false);
+        when(apiEndPointRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            List<ApiEndpoint> endpoints = invocation.getArgument(0);
+            endpoints.forEach(endpoint -> ReflectionTestUtils.setField(endpoint, "id", nextId.getAndIncrement()));
+            inserted.addAll(endpoints);
+            return endpoints;
+        });
+
+        adapter = new ApiEndPointRepoAdapter(apiEndPointRepository, swaggerVersionRepository, swaggerSourceRepository,
+                pgCopyBulkLoader, apiEndpointListingQuery);
+    }
+
+    @Test
+    void keepsUnchangedClosesChangedOrRemovedAndInsertsNew() {
+        SpecSnapshot previous = SpecSnapshot.of(List.of(
+                endpoint(1L, "/users", "get", "h-list"),
+                endpoint(2L, "/users", "post", "h-create"),
+                endpoint(3L, "/users/{id}", "delete", "h-delete")), List.of(), true);
+        SpecSnapshot current = SpecSnapshot.of(List.of(
+                endpoint(null, "/users", "get", "h-list"),          // 같음 -> 유지
+                endpoint(null, "/users", "post", "h-create-v2"),    // 변경 -> 닫고 새 행
+                endpoint(null, "/users/{id}", "get", "h-get")), List.of(), false);   // 추가 -> 새 행
+
+        ApiEndPointRes res = adapter.save(new ApiEndPointReq("users", VERSION_ID, SOURCE_ID, previous, current));
+
+        assertThat(inserted).extracting(ApiEndpoint::getPath, ApiEndpoint::getHttpMethod, ApiEndpoint::getSourceId)
+                .containsExactly(
+                        tuple("/users", "post", SOURCE_ID),
+                        tuple("/users/{id}", "get", SOURCE_ID));
+        assertThat(closedIds()).containsExactlyInAnyOrder(2L, 3L);
+
+        // 새 버전 모델은 유지한 행과 새 행의 id 를 가짐
+        assertThat(res.endpoints()).containsOnlyKeys("/users:get", "/users:post", "/users/{id}:get");
+        assertThat(res.endpoints().get("/users:get").getId()).isEqualTo(1L);
+        assertThat(res.endpoints().get("/users:post").getId()).isEqualTo(100L);
+        assertThat(res.endpoints().get("/users/{id}:get").getId()).isEqualTo(101L);
+    }
+
+    @Test
+    void insertsEverythingForFirstVersion() {
+        SpecSnapshot current = SpecSnapshot.of(List.of(
+                endpoint(null, "/users", "get", "h-list"),
+                endpoint(null, "/users", "post", "h-create")), List.of(), false);
+
+        adapter.save(new ApiEndPointReq("users", VERSION_ID, SOURCE_ID, null, current));
+
+        assertThat(inserted).hasSize(2);
+        verify(apiEndPointRepository, never()).closeValidity(anyList(), anyLong());
+    }
+
+    @Test
+    void insertsEverythingWhenPreviousHasNoOpenRows() {
+        // 버전별 행으로 저장된 이전 데이터: 닫을 열린 행이 없으므로 같은 operation 도 새 행으로
+        SpecSnapshot legacy = SpecSnapshot.of(List.of(endpoint(1L, "/users", "get", "h-list")), List.of(), false);
+        SpecSnapshot current = SpecSnapshot.of(List.of(endpoint(null, "/users", "get", "h-list")), List.of(), false);
+
+        ApiEndPointRes res = adapter.save(new ApiEndPointReq("users", VERSION_ID, SOURCE_ID, legacy, current));
+
+        assertThat(inserted).hasSize(1);
+        assertThat(res.endpoints().get("/users:get").getId()).isEqualTo(100L);
+        verify(apiEndPointRepository, never()).closeValidity(anyList(), anyLong());
+    }
+
+    @Test
+    void closesInChunksOfInClauseSize() {
+        List<EndpointSnapshot> open = new ArrayList<>();
+        for (long i = 1; i <= 1500; i++) {
+            open.add(endpoint(i, "/removed/" + i, "get", "h" + i));
+        }
+        SpecSnapshot previous = SpecSnapshot.of(open, List.of(), true);
+
+        adapter.save(new ApiEndPointReq("users", VERSION_ID, SOURCE_ID, previous, SpecSnapshot.of(List.of(), List.of(), false)));
+
+        ArgumentCaptor<List<Long>> ids = listCaptor();
+        verify(apiEndPointRepository, times(2)).closeValidity(ids.capture(), eq(VERSION_ID));
+        assertThat(ids.getAllValues()).extracting(List::size).containsExactly(1000, 500);
+    }
+
+    @Test
+    void versionWithoutSourceRowIsReadWithNullSourceId() {
+        // 소스 행이 없는 이전 데이터: sourceId 가 null 이면 VALID_AT 은 그 버전에 속한 행만 찾음
+        SwaggerVersion version = SwaggerVersion.builder().id(VERSION_ID).serviceName("legacy").swaggerUrl("http://legacy/v3/api-docs").build();
+        when(swaggerSourceRepository.findIdByServiceNameAndSwaggerUrl(anyString(), anyString())).thenReturn(Optional.empty());
+
+        adapter.findBySwaggerVersion(version);
+
+        verify(apiEndPointRepository).findValidAt(isNull(), eq(VERSION_ID));
+    }
+
+    @Test
+    void readsOneExtraRowToDecideNextPage() {
+        SwaggerVersion version = SwaggerVersion.builder().id(VERSION_ID).serviceName("users").swaggerUrl("http://users/v3/api-docs").build();
+        when(swaggerSourceRepository.findIdByServiceNameAndSwaggerUrl("users", "http://users/v3/api-docs")).thenReturn(Optional.of(SOURCE_ID));
+        when(apiEndpointListingQuery.find(eq(SOURCE_ID), eq(VERSION_ID), any(), isNull(), eq(3)))
+                .thenReturn(List.of(row(5L), row(8L), row(13L)));
+
+        ApiEndpointPage page = adapter.findEndpoints(version, ApiEndpointFilter.none(), null, 2);
+
+        assertThat(page.endpoints()).hasSize(2);
+        assertThat(page.hasNext()).isTrue();
+        assertThat(page.nextCursor()).isEqualTo(8L);
+    }
+
+    @Test
+    void lastPageHasNoCursor() {
+        SwaggerVersion version = SwaggerVersion.builder().id(VERSION_ID).serviceName("users").swaggerUrl("http://users/v3/api-docs").build();
+        when(swaggerSourceRepository.findIdByServiceNameAndSwaggerUrl("users", "http://users/v3/api-docs")).thenReturn(Optional.of(SOURCE_ID));
+        when(apiEndpointListingQuery.find(eq(SOURCE_ID), eq(VERSION_ID), any(), eq(8L), eq(3)))
+                .thenReturn(List.of(row(13L), row(21L)));
+
+        ApiEndpointPage page = adapter.findEndpoints(version, ApiEndpointFilter.none(), 8L, 2);
+
+        assertThat(page.endpoints()).hasSize(2);
+        assertThat(page.hasNext()).isFalse();
+        assertThat(page.nextCursor()).isNull();
+    }
+
+    @Test
+    void unlimitedListingDoesNotReadExtraRow() {
+        SwaggerVersion version = SwaggerVersion.builder().id(VERSION_ID).serviceName("users").swaggerUrl("http://users/v3/api-docs").build();
+        when(apiEndpointListingQuery.find(any(), anyLong(), any(), any(), anyInt())).thenReturn(List.of(row(5L)));
+
+        ApiEndpointPage page = adapter.findEndpoints(version, ApiEndpointFilter.none(), null, 0);
+
+        verify(apiEndpointListingQuery).find(any(), eq(VERSION_ID), any(), isNull(), eq(0));
+        assertThat(page.hasNext()).isFalse();
+    }
+
+    @Test
+    void versionWithoutSourceRowIsListedWithNullSourceId() {
+        // 소스 행이 없는 이전 데이터: sourceId 가 null 이면 VALID_AT 은 그 버전에 속한 행만 찾음
+        SwaggerVersion version = SwaggerVersion.builder().id(VERSION_ID).serviceName("legacy").swaggerUrl("http://legacy/v3/api-docs").build();
+        when(swaggerSourceRepository.findIdByServiceNameAndSwaggerUrl(anyString(), anyString())).thenReturn(Optional.empty());
+        when(apiEndpointListingQuery.find(any(), anyLong(), any(), any(), anyInt())).thenReturn(List.of());
+
+        adapter.findEndpoints(version, ApiEndpointFilter.none(), null, 10);
+
+        verify(apiEndpointListingQuery).find(isNull(), eq(VERSION_ID), any(), isNull(), eq(11));
+    }
+
+    private List<Long> closedIds() {
+        ArgumentCaptor<List<Long>> ids = listCaptor();
+        verify(apiEndPointRepository).closeValidity(ids.capture(), eq(VERSION_ID));
+        return ids.getValue();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static ArgumentCaptor<List<Long>> listCaptor() {
+        return ArgumentCaptor.forClass(List.class);
+    }
+
+    private static EndpointSnapshot endpoint(Long id, String path, String httpMethod, String contentHash) {
+        return EndpointSnapshot.builder()
+                .id(id)
+                .path(path)
+                .httpMethod(httpMethod)
+                .summary("")
+                .operationId("")
+                .requestSchemaName("")
+                .responseSchemaName("")
+                .contentHash(contentHash)
+                .build();
+    }
+
+    private static ApiEndpointRow row(long id) {
+        return new ApiEndpointRow(id, "/items/" + id, "get", "", "", false, "", "");
+    }
+}
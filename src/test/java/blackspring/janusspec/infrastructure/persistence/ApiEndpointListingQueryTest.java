@@ -0,0 +1,93 @@
+package blackspring.janusspec.infrastructure.persistence;
+
+import blackspring.janusspec.application.dto.ApiEndpointFilter;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 필터별 JPQL 조건과 파라미터 (경로 접두사의 LIKE 특수문자는 문자 그대로 비교)
+ */
+class ApiEndpointListingQueryTest {
+
+    private EntityManager entityManager;
+    private TypedQuery<ApiEndpointRow> query;
+    private ApiEndpointListingQuery listingQuery;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        entityManager = mock(EntityManager.class);
+        query = mock(TypedQuery.class);
+        when(entityManager.createQuery(anyString(), eq(ApiEndpointRow.class))).thenReturn(query);
+        when(query.setParameter(anyString(), any())).thenReturn(query);
+        when(query.setMaxResults(anyInt())).thenReturn(query);
+        when(query.getResultList()).thenReturn(List.of());
+
+        listingQuery = new ApiEndpointListingQuery();
+        ReflectionTestUtils.setField(listingQuery, "entityManager", entityManager);
+    }
+
+    @Test
+    void escapesLikeWildcardsInPathPrefix() {
+        listingQuery.find(1L, 2L, new ApiEndpointFilter("/api/v1_users/%25\\x", null, null, null), null, 0);
+
+        assertThat(jpql()).contains("e.path LIKE :pathPrefix ESCAPE '\\'");
+        verify(query).setParameter("pathPrefix", "/api/v1\\_users/\\%25\\\\x%");
+    }
+
+    @Test
+    void plainPrefixOnlyGetsTrailingWildcard() {
+        listingQuery.find(1L, 2L, new ApiEndpointFilter("/api/v1/users", null, null, null), null, 0);
+
+        verify(query).setParameter("pathPrefix", "/api/v1/users%");
+    }
+
+    @Test
+    void addsOnlyGivenFilters() {
+        listingQuery.find(1L, 2L, new ApiEndpointFilter(" ", "GET", true, "UserRes"), 30L, 51);
+
+        String jpql = jpql();
+        assertThat(jpql).doesNotContain(":pathPrefix");
+        assertThat(jpql).contains("e.httpMethod = :httpMethod", "e.deprecated = :deprecated",
+                "(e.requestSchemaName = :schemaName OR e.responseSchemaName = :schemaName)", "e.id > :after");
+        assertThat(jpql).endsWith("ORDER BY e.id");
+
+        verify(query).setParameter("httpMethod", "get");
+        verify(query).setParameter("deprecated", true);
+        verify(query).setParameter("schemaName", "UserRes");
+        verify(query).setParameter("after", 30L);
+        verify(query).setMaxResults(51);
+    }
+
+    @Test
+    void noFilterAndNoLimit() {
+        listingQuery.find(1L, 2L, ApiEndpointFilter.none(), null, 0);
+
+        assertThat(jpql()).doesNotContain(":pathPrefix", ":httpMethod", ":deprecated", ":schemaName", ":after");
+        verify(query).setParameter("sourceId", 1L);
+        verify(query).setParameter("versionId", 2L);
+        verify(query, never()).setMaxResults(anyInt());
+    }
+
+    private String jpql() {
+        ArgumentCaptor<String> jpql = ArgumentCaptor.forClass(String.class);
+        verify(entityManager).createQuery(jpql.capture(), eq(ApiEndpointRow.class));
+        return jpql.getValue();
+    }
+}
@@ -0,0 +1,128 @@
+package blackspring.janusspec.infrastructure.persistence;
+
+import blackspring.janusspec.domain.ApiEndpoint;
+import blackspring.janusspec.domain.EndpointSnapshot;
+import blackspring.janusspec.domain.SpecSnapshot;
+import blackspring.janusspec.domain.SwaggerVersion;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+/**
+ * 소스별 직전 버전 모델 캐시: 적중, 누락 시 DB 에서 다시 만들기, 커밋 후 반영, 소스 없는 이전 데이터
+ */
+class SpecSnapshotCacheAdapterTest {
+
+    private static final long SOURCE_ID = 3L;
+
+    private ApiEndPointRepository apiEndPointRepository;
+    private ApiSchemaRepository apiSchemaRepository;
+    private SpecSnapshotCacheAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        apiEndPointRepository = mock(ApiEndPointRepository.class);
+        apiSchemaRepository = mock(ApiSchemaRepository.class);
+        when(apiSchemaRepository.findBySwaggerVersion(any())).thenReturn(List.of());
+        adapter = new SpecSnapshotCacheAdapter(apiEndPointRepository, apiSchemaRepository, 10);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void returnsCachedModelWithoutReadingRows() {
+        SpecSnapshot snapshot = SpecSnapshot.of(List.of(), List.of(), true);
+        adapter.put(SOURCE_ID, 10L, snapshot);
+
+        assertThat(adapter.findPrevious(SOURCE_ID, version(10L))).isSameAs(snapshot);
+        verifyNoInteractions(apiEndPointRepository, apiSchemaRepository);
+    }
+
+    @Test
+    void rebuildsFromOpenRowsWhenCachedVersionDiffers() {
+        adapter.put(SOURCE_ID, 9L, SpecSnapshot.of(List.of(), List.of(), true));
+        when(apiEndPointRepository.findBySourceIdAndValidToVersionIdIsNull(SOURCE_ID))
+                .thenReturn(List.of(row(41L, "/users", "get")));
+
+        SpecSnapshot previous = adapter.findPrevious(SOURCE_ID, version(10L));
+
+        assertThat(previous.isOpenRows()).isTrue();
+        assertThat(previous.getEndpoints().get("/users:get").getId()).isEqualTo(41L);
+        verify(apiEndPointRepository, never()).findValidAt(any(), anyLong());
+    }
+
+    @Test
+    void rebuildsFromVersionRowsWhenSourceHasNoOpenRows() {
+        when(apiEndPointRepository.findBySourceIdAndValidToVersionIdIsNull(SOURCE_ID)).thenReturn(List.of());
+        when(apiEndPointRepository.findValidAt(SOURCE_ID, 10L)).thenReturn(List.of(row(5L, "/users", "get")));
+
+        SpecSnapshot previous = adapter.findPrevious(SOURCE_ID, version(10L));
+
+        // 버전별 행은 다음 버전에서 닫지 않고 모두 새로 저장
+        assertThat(previous.isOpenRows()).isFalse();
+        assertThat(previous.getEndpoints()).containsOnlyKeys("/users:get");
+    }
+
+    @Test
+    void publishesNewModelOnlyAfterCommit() {
+        SpecSnapshot old = SpecSnapshot.of(List.of(), List.of(), true);
+        SpecSnapshot next = SpecSnapshot.of(List.of(EndpointSnapshot.builder().id(1L).path("/a").httpMethod("get").build()), List.of(), true);
+        adapter.put(SOURCE_ID, 10L, old);
+        when(apiEndPointRepository.findBySourceIdAndValidToVersionIdIsNull(SOURCE_ID)).thenReturn(List.of());
+        when(apiEndPointRepository.findValidAt(SOURCE_ID, 10L)).thenReturn(List.of());
+
+        TransactionSynchronizationManager.initSynchronization();
+        adapter.put(SOURCE_ID, 11L, next);
+
+        // 커밋 전에는 이전 값도 쓰지 않음 (롤백되면 DB 에서 다시 만듦)
+        adapter.findPrevious(SOURCE_ID, version(10L));
+        verify(apiEndPointRepository).findBySourceIdAndValidToVersionIdIsNull(SOURCE_ID);
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        assertThat(adapter.findPrevious(SOURCE_ID, version(11L))).isSameAs(next);
+    }
+
+    @Test
+    void nullSourceReadsOnlyThatVersionsRowsAndIsNotCached() {
+        when(apiEndPointRepository.findValidAt(null, 10L)).thenReturn(List.of(row(5L, "/legacy", "get")));
+
+        adapter.put(null, 10L, SpecSnapshot.of(List.of(), List.of(), true));
+        SpecSnapshot previous = adapter.findPrevious(null, version(10L));
+
+        assertThat(previous.isOpenRows()).isFalse();
+        assertThat(previous.getEndpoints()).containsOnlyKeys("/legacy:get");
+        // source_id IS NULL 로 모든 서비스의 이전 데이터를 읽지 않음
+        verify(apiEndPointRepository, never()).findBySourceIdAndValidToVersionIdIsNull(any());
+    }
+
+    private static SwaggerVersion version(long id) {
+        return SwaggerVersion.builder().id(id).serviceName("users").swaggerUrl("http://users/v3/api-docs").build();
+    }
+
+    private static ApiEndpoint row(long id, String path, String httpMethod) {
+        ApiEndpoint endpoint = new ApiEndpoint();
+        ReflectionTestUtils.setField(endpoint, "id", id);
+        ReflectionTestUtils.setField(endpoint, "path", path);
+        ReflectionTestUtils.setField(endpoint, "httpMethod", httpMethod);
+        return endpoint;
+    }
+}
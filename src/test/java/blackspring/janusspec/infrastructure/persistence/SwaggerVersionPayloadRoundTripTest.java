@@ -0,0 +1,141 @@
+package blackspring.janusspec.infrastructure.persistence;
+
+import blackspring.janusspec.application.port.swaggerversion.SwaggerVersionReq;
+import blackspring.janusspec.application.port.swaggerversion.SwaggerVersionRes;
+import blackspring.janusspec.domain.SwaggerVersion;
+import blackspring.janusspec.domain.SwaggerVersionPayload;
+import blackspring.janusspec.infrastructure.adapter.json.CanonicalJsonWriter;
+import blackspring.janusspec.infrastructure.adapter.json.OpenApiSpec;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.util.unit.DataSize;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 스냅샷 + 델타로 저장한 버전 본문을 캐시 없이 복원하면 저장 당시 정규화 JSON 과 같아야 함
+ * (DB 없이 저장소를 메모리 맵으로 대신함)
+ */
+class SwaggerVersionPayloadRoundTripTest {
+
+    private static final int SNAPSHOT_INTERVAL = 4;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final CanonicalJsonWriter canonicalJsonWriter = new CanonicalJsonWriter();
+
+    private final Map<Long, SwaggerVersion> versions = new HashMap<>();
+    private final Map<Long, SwaggerVersionPayload> payloads = new HashMap<>();
+    private SwaggerVersion latest;
+
+    private SwaggerVersionRepository swaggerVersionRepository;
+    private SwaggerVersionPayloadRepository swaggerVersionPayloadRepository;
+    private SwaggerSourceRepository swaggerSourceRepository;
+    private ApiServiceRepository apiServiceRepository;
+
+    @BeforeEach
+    void setUp() {
+        swaggerVersionRepository = mock(SwaggerVersionRepository.class);
+        swaggerVersionPayloadRepository = mock(SwaggerVersionPayloadRepository.class);
+        swaggerSourceRepository = mock(SwaggerSourceRepository.class);
+        apiServiceRepository = mock(ApiServiceRepository.class);
+
+        when(swaggerSourceRepository.findByServiceNameAndSwaggerUrl(anyString(), anyString())).thenReturn(Optional.empty());
+        when(swaggerVersionRepository.findTopByServiceNameAndSwaggerUrlOrderByIdDesc(anyString(), anyString()))
+                .thenAnswer(invocation -> Optional.ofNullable(latest));
+        when(swaggerVersionRepository.save(any(SwaggerVersion.class))).thenAnswer(invocation -> {
+            SwaggerVersion version = invocation.getArgument(0);
+            if (version.getId() == null) {
+                ReflectionTestUtils.setField(version, "id", (long) versions.size() + 1);
+                versions.put(version.getId(), version);
+                latest = version;
+            }
+            return version;
+        });
+        when(swaggerVersionPayloadRepository.save(any(SwaggerVersionPayload.class))).thenAnswer(invocation -> {
+            SwaggerVersionPayload payload = invocation.getArgument(0);
+            payloads.put(payload.getSwaggerVersionId(), payload);
+            return payload;
+        });
+        when(swaggerVersionPayloadRepository.findById(anyLong()))
+                .thenAnswer(invocation -> Optional.ofNullable(payloads.get(invocation.<Long>getArgument(0))));
+    }
+
+    @Test
+    void reconstructsEveryVersionFromSnapshotsAndDeltas() throws Exception {
+        SwaggerVersionRepoAdapter writer = adapter(DataSize.ofMegabytes(1));
+
+        List<String> expected = new ArrayList<>();
+        ObjectNode paths = objectMapper.createObjectNode();
+        for (int i = 0; i < 10; i++) {
+            paths.set("/items/" + i, operation("item " + i));   // 추가
+            if (i >= 2) {
+                paths.set("/items/" + (i - 1), operation("changed " + i));   // 변경
+                paths.remove("/items/" + (i - 2));   // 삭제
+            }
+            SwaggerVersionRes res = writer.save(new SwaggerVersionReq("svc", "http://svc/v3/api-docs", spec(paths)));
+            assertThat(res.checkHash()).isFalse();
+            expected.add(canonicalJsonWriter.writeValueAsString(paths));
+        }
+
+        // 스냅샷 주기마다 체인이 끊겨야 함
+        assertThat(payloads.values().stream().filter(SwaggerVersionPayload::isSnapshot).count()).isEqualTo(3);
+        assertThat(payloads.values()).allSatisfy(payload ->
+                assertThat(payload.getChainLength()).isLessThan(SNAPSHOT_INTERVAL));
+
+        // 캐시가 비어 있는 새 인스턴스로 복원 (저장 시 넣어 둔 캐시를 거치지 않음)
+        SwaggerVersionRepoAdapter reader = adapter(DataSize.ofMegabytes(1));
+        for (int i = 0; i < expected.size(); i++) {
+            assertThat(reader.findRawJson((long) i + 1)).contains(expected.get(i));
+        }
+    }
+
+    @Test
+    void reconstructsWhenDocumentsExceedCacheWeight() throws Exception {
+        SwaggerVersionRepoAdapter writer = adapter(DataSize.ofBytes(1));
+
+        ObjectNode paths = objectMapper.createObjectNode();
+        List<String> expected = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            paths.set("/orders/" + i, operation("order " + i));
+            writer.save(new SwaggerVersionReq("svc", "http://svc/v3/api-docs", spec(paths)));
+            expected.add(canonicalJsonWriter.writeValueAsString(paths));
+        }
+
+        for (int i = 0; i < expected.size(); i++) {
+            assertThat(writer.findRawJson((long) i + 1)).contains(expected.get(i));
+        }
+    }
+
+    private SwaggerVersionRepoAdapter adapter(DataSize cacheMaxSize) {
+        return new SwaggerVersionRepoAdapter(swaggerVersionRepository, swaggerVersionPayloadRepository,
+                swaggerSourceRepository, apiServiceRepository, canonicalJsonWriter, SNAPSHOT_INTERVAL, cacheMaxSize);
+    }
+
+    private ObjectNode operation(String summary) {
+        ObjectNode operation = objectMapper.createObjectNode();
+        operation.putObject("get").put("summary", summary).put("operationId", summary.replace(' ', '_'));
+        return operation;
+    }
+
+    private OpenApiSpec spec(ObjectNode paths) throws Exception {
+        ObjectNode root = objectMapper.createObjectNode();
+        root.put("openapi", "3.0.1");
+        root.putObject("info").put("title", "svc").put("version", "v1");
+        root.set("paths", paths.deepCopy());
+        return objectMapper.treeToValue(root, OpenApiSpec.class);
+    }
+}
@@ -0,0 +1,89 @@
+package blackspring.janusspec.infrastructure.web;
+
+import blackspring.janusspec.application.GetApiDiff;
+import blackspring.janusspec.application.dto.ApiDiffDetailRes;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 조건부 조회: 304 는 Diff Log 가 있을 때만, 없는 id 는 태그가 맞아도 404
+ */
+class ApiDiffControllerTest {
+
+    private static final long DIFF_LOG_ID = 42L;
+    private static final String ETAG = "\"diff-42\"";
+
+    private GetApiDiff getApiDiff;
+    private ApiDiffController controller;
+
+    @BeforeEach
+    void setUp() {
+        getApiDiff = mock(GetApiDiff.class);
+        controller = new ApiDiffController(getApiDiff);
+    }
+
+    @Test
+    void matchingTagOfExistingDiffIsNotModified() {
+        when(getApiDiff.existsDiffLog(DIFF_LOG_ID)).thenReturn(true);
+
+        ResponseEntity<ApiDiffDetailRes> response = controller.getDiffDetail(DIFF_LOG_ID, 20, false, ETAG);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+        assertThat(response.getHeaders().getETag()).isEqualTo(ETAG);
+        // 304 에는 상세 조회를 하지 않음
+        verify(getApiDiff, never()).getDiffDetail(anyLong(), anyInt(), anyBoolean());
+    }
+
+    @Test
+    void guessedTagOrWildcardForMissingDiffIsNotFound() {
+        when(getApiDiff.existsDiffLog(DIFF_LOG_ID)).thenReturn(false);
+
+        assertThat(controller.getDiffDetail(DIFF_LOG_ID, 20, false, ETAG).getStatusCode())
+                .isEqualTo(HttpStatus.NOT_FOUND);
+        assertThat(controller.getDiffDetail(DIFF_LOG_ID, 20, false, "*").getStatusCode())
+                .isEqualTo(HttpStatus.NOT_FOUND);
+        assertThat(controller.getEndpointChanges(DIFF_LOG_ID, "ADDED", null, 20, "*").getStatusCode())
+                .isEqualTo(HttpStatus.NOT_FOUND);
+        assertThat(controller.getSchemaChanges(DIFF_LOG_ID, "UPDATED", null, 20, ETAG).getStatusCode())
+                .isEqualTo(HttpStatus.NOT_FOUND);
+        assertThat(controller.streamDiffDetail(DIFF_LOG_ID, "*").getStatusCode())
+                .isEqualTo(HttpStatus.NOT_FOUND);
+        verify(getApiDiff, never()).writeDiffDetail(any(), any());
+    }
+
+    @Test
+    void wildcardForExistingDiffIsNotModifiedOnEveryHandler() {
+        when(getApiDiff.existsDiffLog(DIFF_LOG_ID)).thenReturn(true);
+
+        assertThat(controller.getEndpointChanges(DIFF_LOG_ID, "ADDED", null, 20, "*").getStatusCode())
+                .isEqualTo(HttpStatus.NOT_MODIFIED);
+        assertThat(controller.getSchemaChanges(DIFF_LOG_ID, "UPDATED", null, 20, "*").getStatusCode())
+                .isEqualTo(HttpStatus.NOT_MODIFIED);
+        assertThat(controller.streamDiffDetail(DIFF_LOG_ID, "*").getStatusCode())
+                .isEqualTo(HttpStatus.NOT_MODIFIED);
+    }
+
+    @Test
+    void withoutConditionalHeaderMissingDiffIsNotFound() {
+        when(getApiDiff.getDiffDetail(DIFF_LOG_ID, 20, false)).thenReturn(Optional.empty());
+
+        assertThat(controller.getDiffDetail(DIFF_LOG_ID, 20, false, null).getStatusCode())
+                .isEqualTo(HttpStatus.NOT_FOUND);
+        // 조건부 요청이 아니면 존재 확인 없이 바로 조회
+        verify(getApiDiff, never()).existsDiffLog(anyLong());
+    }
+}
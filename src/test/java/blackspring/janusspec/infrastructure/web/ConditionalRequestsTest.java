@@ -0,0 +1,45 @@
+package blackspring.janusspec.infrastructure.web;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * If-None-Match 비교: 약한 비교, 여러 값, *
+ */
+class ConditionalRequestsTest {
+
+    private static final String ETAG = ConditionalRequests.etag("diff", 42);
+
+    @Test
+    void etagIsQuotedAndJoinedWithDash() {
+        assertThat(ETAG).isEqualTo("\"diff-42\"");
+        assertThat(ConditionalRequests.etag("version", 3L, "abc")).isEqualTo("\"version-3-abc\"");
+    }
+
+    @Test
+    void matchesExactAndWeakTag() {
+        assertThat(ConditionalRequests.matches("\"diff-42\"", ETAG)).isTrue();
+        assertThat(ConditionalRequests.matches("W/\"diff-42\"", ETAG)).isTrue();
+    }
+
+    @Test
+    void matchesAnyOfSeveralTags() {
+        assertThat(ConditionalRequests.matches("\"diff-41\", W/\"diff-42\"", ETAG)).isTrue();
+        assertThat(ConditionalRequests.matches("\"diff-41\",\"diff-43\"", ETAG)).isFalse();
+    }
+
+    @Test
+    void wildcardMatchesAnyTag() {
+        assertThat(ConditionalRequests.matches("*", ETAG)).isTrue();
+    }
+
+    @Test
+    void missingOrDifferentTagDoesNotMatch() {
+        assertThat(ConditionalRequests.matches(null, ETAG)).isFalse();
+        assertThat(ConditionalRequests.matches(" ", ETAG)).isFalse();
+        // 따옴표 없는 값이나 다른 id 는 다른 태그
+        assertThat(ConditionalRequests.matches("diff-42", ETAG)).isFalse();
+        assertThat(ConditionalRequests.matches("\"diff-420\"", ETAG)).isFalse();
+    }
+}